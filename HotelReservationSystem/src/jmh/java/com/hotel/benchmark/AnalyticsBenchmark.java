@@ -0,0 +1,88 @@
+package com.hotel.benchmark;
+
+import com.hotel.analytics.BookingHistoryStore;
+import com.hotel.analytics.OccupancyReport;
+import com.hotel.model.*;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A month's occupancy and revenue over the booking history, computed by
+ * walking {@link Booking} objects versus scanning the columnar store.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalyticsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class History {
+        @Param({"100000", "1000000"})
+        public int bookings;
+
+        Booking[] history;
+        BookingHistoryStore store;
+        LocalDate from;
+        LocalDate to;
+        int roomCount;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom(5);
+            RoomType[] types = RoomType.values();
+            Customer customer = new Customer("HISTORY", "History Guest", "history@hotel.com");
+            roomCount = Math.max(1, bookings / 50);
+            Room[] rooms = new Room[roomCount];
+            LocalDate[] nextFree = new LocalDate[roomCount];
+            LocalDate start = LocalDate.now().plusDays(1);
+            for (int i = 0; i < roomCount; i++) {
+                rooms[i] = new Room(String.valueOf(i), types[i % types.length], 100.0 + i % 5 * 50);
+                nextFree[i] = start;
+            }
+            history = new Booking[bookings];
+            for (int i = 0; i < bookings; i++) {
+                int room = i % roomCount;
+                LocalDate checkIn = nextFree[room].plusDays(random.nextInt(2));
+                LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(5));
+                history[i] = new Booking("H" + i, customer, rooms[room], checkIn, checkOut);
+                nextFree[room] = checkOut;
+            }
+            store = new BookingHistoryStore();
+            for (Booking booking : history) {
+                store.append(booking);
+            }
+            from = start.plusDays(60);
+            to = from.plusDays(30);
+        }
+    }
+
+    @Benchmark
+    public long revenueByObjectWalk(History history) {
+        long fromDay = history.from.toEpochDay();
+        long toDay = history.to.toEpochDay();
+        long revenue = 0;
+        for (Booking booking : history.history) {
+            long in = booking.getCheckInDate().toEpochDay();
+            long out = booking.getCheckOutDate().toEpochDay();
+            long nights = Math.min(out, toDay) - Math.max(in, fromDay);
+            if (nights > 0 && booking.getStatus() != BookingStatus.CANCELLED) {
+                revenue += booking.calculateTotalPriceCents() * nights / (out - in);
+            }
+        }
+        return revenue;
+    }
+
+    @Benchmark
+    public OccupancyReport reportFromColumnarStore(History history) {
+        return history.store.report(history.from, history.to, history.roomCount);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hotel.benchmark;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingBenchmark {
+
+    @State(Scope.Thread)
+    public static class Pricing {
+        Booking[] bookings;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(HotelFixture fixture) {
+            SplittableRandom random = new SplittableRandom(11);
+            Customer customer = new Customer("PRICING", "Pricing Guest", "pricing@hotel.com");
+            Room[] rooms = new Room[Math.min(1024, fixture.rooms)];
+            bookings = new Booking[rooms.length];
+            for (int i = 0; i < rooms.length; i++) {
+                rooms[i] = Room.ofCents("P" + i, RoomType.SINGLE, fixture.roomArray[i].getPricePerNightCents());
+                LocalDate checkIn = fixture.randomCheckIn(random);
+                bookings[i] = new Booking("PRICE" + i, customer, rooms[i], checkIn, checkIn.plusDays(1 + random.nextInt(14)));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final BookingService bookingService = new BookingService();
+        final SplittableRandom random = new SplittableRandom(3);
+        long sequence;
+    }
+
+    @Benchmark
+    public Booking createAndCancelBooking(HotelFixture fixture, Requests requests) {
+        SplittableRandom random = requests.random;
+        Room room = fixture.roomArray[random.nextInt(fixture.roomArray.length)];
+        Customer customer = fixture.customers[random.nextInt(fixture.customers.length)];
+        LocalDate checkIn = fixture.randomCheckIn(random);
+        try {
+            Booking booking = requests.bookingService.createBooking(
+                    "BOOK" + requests.sequence++, customer, room, checkIn, checkIn.plusDays(2));
+            requests.bookingService.cancelBooking(booking);
+            // Otherwise the fixture customers keep every cancelled booking
+            // and the heap, and the score, drift over an iteration.
+            customer.removeBooking(booking);
+            return booking;
+        } catch (InvalidBookingException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public long calculateTotalPrice(Pricing pricing) {
+        Booking booking = pricing.bookings[pricing.next];
+        // Wraps rather than masks: the array is not a power of two for every rooms param.
+        if (++pricing.next == pricing.bookings.length) {
+            pricing.next = 0;
+        }
+        return booking.calculateTotalPriceCents();
+    }
+}
@@ -0,0 +1,107 @@
+package com.hotel.benchmark;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Booking throughput while several threads book and cancel random stays in
+ * one hotel, alone and with searches of the same room type running beside
+ * them. {@code bookAndCancel} runs on as many threads as {@code -t} asks for,
+ * so one run per thread count shows how throughput scales; the README has
+ * the loop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BookingContentionBenchmark {
+    static final int ROOMS = 2_000;
+    static final int HORIZON_DAYS = 365;
+
+    final BookingService bookingService = new BookingService();
+    final AtomicInteger workers = new AtomicInteger();
+    Hotel hotel;
+    Room[] rooms;
+    Customer[] customers;
+    LocalDate firstNight;
+
+    @Setup
+    public void setUp() {
+        hotel = new Hotel("BENCH", "Benchmark Hotel", "Nowhere");
+        RoomType[] types = RoomType.values();
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room(String.valueOf(i), types[i % types.length], 100.0));
+        }
+        List<Room> roomList = hotel.getRooms();
+        rooms = roomList.toArray(new Room[0]);
+        customers = new Customer[HotelFixture.CUSTOMERS];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer("CUST" + i, "Guest " + i, "guest" + i + "@hotel.com");
+        }
+        firstNight = LocalDate.now().plusDays(1);
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        SplittableRandom random;
+        String prefix;
+        long sequence;
+
+        @Setup
+        public void setUp(BookingContentionBenchmark benchmark) {
+            int id = benchmark.workers.incrementAndGet();
+            random = new SplittableRandom(id);
+            prefix = "B" + id + "-";
+        }
+    }
+
+    @Benchmark
+    public Booking bookAndCancel(Worker worker) {
+        return book(worker);
+    }
+
+    @Benchmark
+    @Group("searching")
+    @GroupThreads(3)
+    public Booking bookWhileSearching(Worker worker) {
+        return book(worker);
+    }
+
+    @Benchmark
+    @Group("searching")
+    @GroupThreads(1)
+    public int searchWhileBooking(Worker worker) {
+        LocalDate checkIn = firstNight.plusDays(worker.random.nextInt(HORIZON_DAYS));
+        return hotel.countAvailableRooms(RoomType.SINGLE, checkIn, checkIn.plusDays(7));
+    }
+
+    private Booking book(Worker worker) {
+        SplittableRandom random = worker.random;
+        Room room = rooms[random.nextInt(rooms.length)];
+        LocalDate checkIn = firstNight.plusDays(random.nextInt(HORIZON_DAYS));
+        try {
+            Booking booking = bookingService.createBooking(worker.prefix + worker.sequence++,
+                    customers[random.nextInt(customers.length)], room, checkIn, checkIn.plusDays(1 + random.nextInt(7)));
+            bookingService.cancelBooking(booking);
+            // Keeps the shared customers from growing a set over the run.
+            booking.getCustomer().removeBooking(booking);
+            return booking;
+        } catch (InvalidBookingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.hotel.benchmark;
+
+import com.hotel.event.EventBus;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import com.hotel.service.BookingEventListener;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * What a service pays to publish one change through the event bus to two
+ * subscribers, from one thread and from several at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EventBusBenchmark {
+    private final Room room = new Room("101", RoomType.SINGLE, 100.0);
+    private final LongAdder received = new LongAdder();
+    private EventBus bus;
+
+    @Setup
+    public void setUp() {
+        bus = new EventBus();
+        BookingEventListener counter = new BookingEventListener() {
+            @Override
+            public void roomChanged(Room changed) {
+                received.increment();
+            }
+        };
+        bus.subscribe("first", counter);
+        bus.subscribe("second", counter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bus.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        bus.roomChanged(room);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void publishContended() {
+        bus.roomChanged(room);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A hotel of {@code rooms} rooms spread evenly over the room types, with
+ * roughly a third of the rooms already holding a short stay somewhere in the
+ * next {@link #HORIZON_DAYS} days.
+ */
+@State(Scope.Benchmark)
+public class HotelFixture {
+    static final int HORIZON_DAYS = 180;
+    static final int CUSTOMERS = 10_000;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int rooms;
+
+    Hotel hotel;
+    Room[] roomArray;
+    Customer[] customers;
+    LocalDate firstNight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        RoomType[] types = RoomType.values();
+        hotel = new Hotel("BENCH", "Benchmark Hotel", "Nowhere");
+        firstNight = LocalDate.now().plusDays(1);
+        for (int i = 0; i < rooms; i++) {
+            Room room = new Room(String.valueOf(100 + i), types[i % types.length], 100.0 + i % 5 * 50);
+            hotel.addRoom(room);
+            if (random.nextInt(3) == 0) {
+                LocalDate checkIn = firstNight.plusDays(random.nextInt(HORIZON_DAYS));
+                room.reserve(checkIn, checkIn.plusDays(1 + random.nextInt(6)));
+            }
+        }
+        List<Room> roomList = hotel.getRooms();
+        roomArray = roomList.toArray(new Room[0]);
+        customers = new Customer[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers[i] = new Customer("CUST" + i, "Guest " + i, "guest" + i + "@hotel.com");
+        }
+    }
+
+    LocalDate randomCheckIn(SplittableRandom random) {
+        return firstNight.plusDays(random.nextInt(HORIZON_DAYS));
+    }
+}
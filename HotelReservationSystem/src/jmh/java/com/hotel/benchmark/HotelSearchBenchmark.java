@@ -0,0 +1,46 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotelSearchBenchmark {
+
+    @State(Scope.Thread)
+    public static class Query {
+        private final SplittableRandom random = new SplittableRandom(7);
+        private final RoomType[] types = RoomType.values();
+
+        RoomType type() {
+            return types[random.nextInt(types.length)];
+        }
+    }
+
+    @Benchmark
+    public List<Room> findAvailableRooms(HotelFixture fixture, Query query) {
+        return fixture.hotel.findAvailableRooms(query.type());
+    }
+
+    @Benchmark
+    public List<Room> findAvailableRoomsForStay(HotelFixture fixture, Query query) {
+        LocalDate checkIn = fixture.randomCheckIn(query.random);
+        return fixture.hotel.findAvailableRooms(query.type(), checkIn, checkIn.plusDays(3));
+    }
+
+    @Benchmark
+    public int countAvailableRoomsForStay(HotelFixture fixture, Query query) {
+        LocalDate checkIn = fixture.randomCheckIn(query.random);
+        return fixture.hotel.countAvailableRooms(query.type(), checkIn, checkIn.plusDays(3));
+    }
+}
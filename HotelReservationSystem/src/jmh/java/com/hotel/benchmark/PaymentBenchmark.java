@@ -0,0 +1,41 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.PaymentService;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentBenchmark {
+
+    @State(Scope.Thread)
+    public static class Payments {
+        final PaymentService paymentService = new PaymentService();
+        Booking booking;
+        long sequence;
+
+        @Setup(Level.Trial)
+        public void setUp(HotelFixture fixture) {
+            Room room = new Room("PAYMENT", RoomType.SUITE, 300.0);
+            LocalDate checkIn = fixture.firstNight;
+            booking = new Booking("PAYBOOK", fixture.customers[0], room, checkIn, checkIn.plusDays(3));
+        }
+    }
+
+    @Benchmark
+    public Payment createAndProcessPayment(Payments payments) {
+        Payment payment = payments.paymentService.createPaymentCents(
+                "PAY" + payments.sequence++, payments.booking, payments.booking.calculateTotalPriceCents());
+        payments.paymentService.processPayment(payment);
+        return payment;
+    }
+}
@@ -0,0 +1,109 @@
+package com.hotel;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Money;
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bookings table backed by the bookings themselves rather than pre-formatted
+ * rows. Cells are formatted when the table asks for them, which is only for
+ * the rows on screen, so a refresh costs one list copy however many bookings
+ * there are. Like any Swing model it is only touched on the EDT.
+ */
+final class BookingTableModel extends AbstractTableModel {
+    static final int STATUS_COLUMN = 6;
+    private static final String[] COLUMNS = {"Booking ID", "Customer", "Room", "Check-in", "Check-out", "Total", "Status"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final List<Booking> rows = new ArrayList<>();
+    private final Map<String, Integer> rowById = new HashMap<>();
+    // Check-in times are only known for bookings made at this desk.
+    private final Map<String, LocalTime> checkInTimes = new HashMap<>();
+    private final StringBuilder money = new StringBuilder(24);
+
+    void setBookings(Collection<Booking> bookings) {
+        rows.clear();
+        rowById.clear();
+        for (Booking booking : bookings) {
+            rowById.put(booking.getBookingId(), rows.size());
+            rows.add(booking);
+        }
+        fireTableDataChanged();
+    }
+
+    void add(Booking booking, LocalTime checkInTime) {
+        if (checkInTime != null) {
+            checkInTimes.put(booking.getBookingId(), checkInTime);
+        }
+        Integer existing = rowById.get(booking.getBookingId());
+        if (existing != null) {
+            fireTableRowsUpdated(existing, existing);
+            return;
+        }
+        int row = rows.size();
+        rowById.put(booking.getBookingId(), row);
+        rows.add(booking);
+        fireTableRowsInserted(row, row);
+    }
+
+    /** Repaints the booking's row, if it is shown, after its status changed. */
+    void bookingChanged(Booking booking) {
+        Integer row = rowById.get(booking.getBookingId());
+        if (row != null) {
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    Booking getBooking(int row) {
+        return rows.get(row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Booking booking = rows.get(row);
+        switch (column) {
+            case 0:
+                return booking.getBookingId();
+            case 1:
+                return booking.getCustomer().getName();
+            case 2:
+                return booking.getRoom().getRoomNumber() + " (" + booking.getRoom().getType() + ")";
+            case 3:
+                LocalTime checkInTime = checkInTimes.get(booking.getBookingId());
+                return booking.getCheckInDate().format(DATE_FORMAT)
+                        + (checkInTime != null ? " " + checkInTime.format(TIME_FORMAT) : " (Check-in time available)");
+            case 4:
+                return booking.getCheckOutDate().format(DATE_FORMAT) + " 11:00";
+            case 5:
+                money.setLength(0);
+                return Money.appendTo(money.append('$'), booking.calculateTotalPriceCents()).toString();
+            case STATUS_COLUMN:
+                return booking.getStatus();
+            default:
+                throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.hotel;
+
+import com.hotel.model.Customer;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Customers table that reads names and emails straight off the customers it
+ * holds. Only touched on the EDT.
+ */
+final class CustomerTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"ID", "Name", "Email"};
+
+    private final List<Customer> rows = new ArrayList<>();
+
+    void setCustomers(Collection<Customer> customers) {
+        rows.clear();
+        rows.addAll(customers);
+        fireTableDataChanged();
+    }
+
+    void add(Customer customer) {
+        int row = rows.size();
+        rows.add(customer);
+        fireTableRowsInserted(row, row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Customer customer = rows.get(row);
+        switch (column) {
+            case 0:
+                return customer.getCustomerId();
+            case 1:
+                return customer.getName();
+            case 2:
+                return customer.getEmail();
+            default:
+                throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+}
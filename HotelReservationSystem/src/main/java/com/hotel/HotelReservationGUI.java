@@ -1,18 +1,41 @@
 package com.hotel;
 
+import com.hotel.analytics.HotelStatistics;
+import com.hotel.event.EventBus;
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.metrics.MetricsServer;
 import com.hotel.model.*;
+import com.hotel.persistence.BookingJournal;
+import com.hotel.persistence.JournalRecovery;
+import com.hotel.persistence.Snapshot;
+import com.hotel.persistence.SnapshotReader;
+import com.hotel.persistence.SnapshotWriter;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
 import com.hotel.service.*;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.JTableHeader;
+import javax.swing.table.TableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class HotelReservationGUI extends JFrame {
     // Dark Theme Colors
@@ -24,22 +47,37 @@ public class HotelReservationGUI extends JFrame {
     private static final Color SECONDARY_TEXT = new Color(180, 180, 180);
     private static final Color TABLE_ALT = new Color(45, 50, 55);
     private static final Color SUCCESS_COLOR = new Color(76, 175, 80);
+    private static final int SEARCH_LIMIT = 200;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
     
     private Hotel hotel;
     private BookingService bookingService;
     private PaymentService paymentService;
-    private List<Customer> customers = new ArrayList<>();
-    private List<Booking> bookings = new ArrayList<>();
-    private int customerCount = 1;
-    private int bookingCount = 1;
-    private int paymentCount = 1;
+    private CustomerService customerService;
+    private BookingJournal journal;
+    private CustomerRepository customers = new CustomerRepository();
+    private BookingRepository bookings = new BookingRepository();
+    private List<Payment> payments = Collections.synchronizedList(new ArrayList<>());
+    private HotelStatistics statistics;
+    private MetricsServer metricsServer;
+    private EventBus events;
+    private final Map<String, JLabel> dashboardValues = new HashMap<>();
+    private final Map<String, JLabel> hotelInfoValues = new HashMap<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final StringBuilder moneyText = new StringBuilder(24);
 
     private JTabbedPane tabbedPane;
     private JTable customersTable;
     private JTable bookingsTable;
-    private DefaultTableModel customersModel;
-    private DefaultTableModel bookingsModel;
-    private JPanel hotelInfoPanel;
+    private CustomerTableModel customersModel;
+    private BookingTableModel bookingsModel;
+    private RoomTableModel availableRoomsModel;
+    private RoomTableModel roomsModel;
+    private JButton bookButton;
+    private JButton cancelBookingButton;
+    private JProgressBar bookingProgress;
+    private BookingWorker bookingWorker;
 
     public HotelReservationGUI() {
         setTitle("Hotel Reservation System");
@@ -47,6 +85,17 @@ public class HotelReservationGUI extends JFrame {
         setLocationRelativeTo(null);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(true);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveSnapshot();
+                paymentService.close();
+                events.close();
+                if (metricsServer != null) {
+                    metricsServer.close();
+                }
+            }
+        });
         
         setDarkTheme();
         initialize();
@@ -76,18 +125,124 @@ public class HotelReservationGUI extends JFrame {
     }
 
     private void initialize() {
-        hotel = new Hotel("HOTEL001", "ROSE CONTINENTAL", "New York");
-        bookingService = new BookingService();
-        paymentService = new PaymentService();
+        if (!loadSnapshot()) {
+            hotel = new Hotel("HOTEL001", "ROSE CONTINENTAL", "New York");
+
+            // Add default rooms
+            hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+            hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
+            hotel.addRoom(new Room("103", RoomType.DOUBLE, 150.0));
+            hotel.addRoom(new Room("104", RoomType.DOUBLE, 150.0));
+            hotel.addRoom(new Room("105", RoomType.SUITE, 300.0));
+        }
 
-        // Add default rooms
-        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
-        hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
-        hotel.addRoom(new Room("103", RoomType.DOUBLE, 150.0));
-        hotel.addRoom(new Room("104", RoomType.DOUBLE, 150.0));
-        hotel.addRoom(new Room("105", RoomType.SUITE, 300.0));
+        journal = openJournal();
+        advanceIds();
+        statistics = HotelStatistics.of(bookings.getAll(), payments);
+        bookingService = new BookingService(journal);
+        paymentService = new PaymentService(journal);
+        // Services and the hotel only publish; the statistics and the screens
+        // that show them catch up on the bus's own thread.
+        events = new EventBus();
+        bookingService.addListener(events);
+        paymentService.addListener(events);
+        hotel.addRoomListener(events);
+        events.subscribe("statistics", statistics, this::scheduleRefresh);
+        customerService = new CustomerService(customers);
+        metricsServer = startMetricsServer();
     }
 
+    private boolean loadSnapshot() {
+        String snapshotPath = System.getProperty("hotel.snapshot");
+        if (snapshotPath == null || snapshotPath.isBlank() || !Files.exists(Path.of(snapshotPath))) {
+            return false;
+        }
+        try {
+            Snapshot snapshot = SnapshotReader.read(Path.of(snapshotPath));
+            if (snapshot.getHotels().isEmpty()) {
+                return false;
+            }
+            hotel = snapshot.getHotels().get(0);
+            customers.addAll(snapshot.getCustomers());
+            bookings.addAll(snapshot.getBookings());
+            payments.addAll(snapshot.getPayments());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Starting with the default hotel would overwrite the snapshot,
+            // and checkpoint the journal away, on close.
+            showErrorDialog("Could not load snapshot " + snapshotPath + ": " + e.getMessage()
+                    + ". Repair or move it aside before starting.");
+            System.exit(1);
+            return false;
+        }
+    }
+
+    private void saveSnapshot() {
+        String snapshotPath = System.getProperty("hotel.snapshot");
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        try {
+            SnapshotWriter.write(Path.of(snapshotPath), new Snapshot(List.of(hotel), customers.getAll(), bookings.getAll(), payments));
+            if (journal != null) {
+                journal.checkpoint();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            showErrorDialog("Could not save snapshot: " + e.getMessage());
+        }
+    }
+
+    private MetricsServer startMetricsServer() {
+        Integer port = Integer.getInteger("hotel.metrics.port");
+        if (port == null) {
+            return null;
+        }
+        try {
+            return MetricsServer.start(MetricsRegistry.getDefault(), port);
+        } catch (IOException e) {
+            showErrorDialog("Could not start metrics server: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // The generator's logical time is not stored, so a restart under a clock
+    // that went back must start past every id already issued.
+    private void advanceIds() {
+        IdGenerator ids = IdGenerator.getDefault();
+        for (Customer customer : customers.getAll()) {
+            ids.advancePast(CustomerService.ID_PREFIX, customer.getCustomerId());
+        }
+        for (Booking booking : bookings.getAll()) {
+            ids.advancePast(BookingService.ID_PREFIX, booking.getBookingId());
+        }
+        synchronized (payments) {
+            for (Payment payment : payments) {
+                ids.advancePast(PaymentService.ID_PREFIX, payment.getPaymentId());
+            }
+        }
+    }
+
+    private BookingJournal openJournal() {
+        String journalPath = System.getProperty("hotel.journal");
+        if (journalPath == null || journalPath.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Path.of(journalPath);
+            JournalRecovery.RecoveredState state = JournalRecovery.recover(path, List.of(hotel), customers.getAll(),
+                    bookings.getAll(), payments);
+            customers.addAll(state.getCustomers());
+            bookings.addAll(state.getBookings());
+            payments.addAll(state.getPayments());
+            return new BookingJournal(path);
+        } catch (IOException e) {
+            showErrorDialog("Could not open booking journal: " + e.getMessage());
+            return null;
+        }
+    }
+
+
+
     private void setupUI() {
         tabbedPane = new JTabbedPane();
         tabbedPane.setBackground(DARK_BG);
@@ -98,11 +253,42 @@ public class HotelReservationGUI extends JFrame {
         tabbedPane.addTab("Bookings", createBookingsPanel());
         tabbedPane.addTab("Available Rooms", createAvailableRoomsPanel());
         tabbedPane.addTab("Manage Rooms", createManageRoomsPanel());
-        hotelInfoPanel = createHotelInfoPanel();
-        tabbedPane.addTab("Hotel Info", hotelInfoPanel);
+        tabbedPane.addTab("Hotel Info", createHotelInfoPanel());
 
         add(tabbedPane);
         getContentPane().setBackground(DARK_BG);
+        // Subscribed last, so every table it feeds already exists.
+        events.subscribe("tables", new TableUpdater());
+    }
+
+    /**
+     * Keeps the booking and room tables in step with changes made anywhere,
+     * not just at this desk. Runs on the bus thread and hands each change to
+     * the EDT, where the table models live.
+     */
+    private final class TableUpdater implements BookingEventListener {
+        @Override
+        public void bookingCreated(Booking booking) {
+            SwingUtilities.invokeLater(() -> bookingsModel.add(booking, null));
+        }
+
+        @Override
+        public void bookingCancelled(Booking booking) {
+            SwingUtilities.invokeLater(() -> bookingsModel.bookingChanged(booking));
+        }
+
+        @Override
+        public void roomAdded(Room room) {
+            SwingUtilities.invokeLater(() -> roomsModel.add(room));
+        }
+
+        @Override
+        public void roomChanged(Room room) {
+            SwingUtilities.invokeLater(() -> {
+                roomsModel.roomChanged(room);
+                availableRoomsModel.roomChanged(room);
+            });
+        }
     }
 
     private JPanel createDashboardPanel() {
@@ -118,33 +304,26 @@ public class HotelReservationGUI extends JFrame {
         titleLabel.setForeground(Color.WHITE);
         headerPanel.add(titleLabel);
 
-        JPanel statsPanel = new JPanel(new GridLayout(2, 2, 15, 15));
+        JPanel statsPanel = new JPanel(new GridLayout(4, 2, 15, 15));
         statsPanel.setBackground(DARK_BG);
         statsPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 0, 0));
         
-        // Create stat cards with refresh capability
-        JPanel customersCard = createStatCard("Total Customers", String.valueOf(customers.size()));
-        JPanel bookingsCard = createStatCard("Total Bookings", String.valueOf(bookings.size()));
-        JPanel roomsCard = createStatCard("Total Rooms", String.valueOf(hotel.getRooms().size()));
-        JPanel hotelCard = createStatCard("Hotel", hotel.getName());
-        
-        statsPanel.add(customersCard);
-        statsPanel.add(bookingsCard);
-        statsPanel.add(roomsCard);
-        statsPanel.add(hotelCard);
+        statsPanel.add(createStatCard("Total Customers"));
+        statsPanel.add(createStatCard("Total Bookings"));
+        statsPanel.add(createStatCard("Total Rooms"));
+        statsPanel.add(createStatCard("Hotel"));
+        statsPanel.add(createStatCard("Arrivals Today"));
+        statsPanel.add(createStatCard("Departures Today"));
+        statsPanel.add(createStatCard("Occupied Tonight"));
+        statsPanel.add(createStatCard("Payments Collected"));
+        refreshDashboard();
 
         JButton refreshButton = createStyledButton("Refresh Stats");
         JPanel refreshPanel = new JPanel();
         refreshPanel.setBackground(DARK_BG);
         refreshPanel.add(refreshButton);
         
-        refreshButton.addActionListener(e -> {
-            // Recreate dashboard
-            ((JPanel) tabbedPane.getComponentAt(0)).removeAll();
-            JPanel newDash = createDashboardPanel();
-            tabbedPane.setComponentAt(0, newDash);
-            tabbedPane.repaint();
-        });
+        refreshButton.addActionListener(e -> refreshDashboard());
 
         panel.add(headerPanel, BorderLayout.NORTH);
         panel.add(statsPanel, BorderLayout.CENTER);
@@ -153,7 +332,37 @@ public class HotelReservationGUI extends JFrame {
         return panel;
     }
 
-    private JPanel createStatCard(String title, String value) {
+    // Every figure is a constant-time read of the running statistics, so the
+    // cards are updated in place rather than rebuilt.
+    private void refreshDashboard() {
+        LocalDate today = LocalDate.now();
+        setStat("Total Customers", String.valueOf(customers.size()));
+        setStat("Total Bookings", String.valueOf(statistics.getBookingCount()));
+        setStat("Total Rooms", String.valueOf(hotel.getRoomCount()));
+        setStat("Hotel", hotel.getName());
+        setStat("Arrivals Today", String.valueOf(statistics.getArrivals(today)));
+        setStat("Departures Today", String.valueOf(statistics.getDepartures(today)));
+        setStat("Occupied Tonight", statistics.getRoomsSold(today) + " / " + hotel.getRoomCount());
+        setStat("Payments Collected", formatMoney(statistics.getPaymentAmountCents(PaymentStatus.COMPLETED)));
+    }
+
+    // Called on the bus thread after each batch of events; any number of
+    // batches before the EDT gets to it collapse into one repaint.
+    private void scheduleRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                refreshPending.set(false);
+                refreshDashboard();
+                refreshHotelInfo();
+            });
+        }
+    }
+
+    private void setStat(String title, String value) {
+        dashboardValues.get(title).setText(value);
+    }
+
+    private JPanel createStatCard(String title) {
         JPanel card = new JPanel(new BorderLayout(10, 5));
         card.setBackground(TABLE_ALT);
         card.setBorder(BorderFactory.createCompoundBorder(
@@ -165,12 +374,13 @@ public class HotelReservationGUI extends JFrame {
         titleLabel.setFont(new Font("Segoe UI", Font.PLAIN, 14));
         titleLabel.setForeground(SECONDARY_TEXT);
 
-        JLabel valueLabel = new JLabel(value);
+        JLabel valueLabel = new JLabel();
         valueLabel.setFont(new Font("Segoe UI", Font.BOLD, 26));
         valueLabel.setForeground(ACCENT_COLOR);
 
         card.add(titleLabel, BorderLayout.NORTH);
         card.add(valueLabel, BorderLayout.CENTER);
+        dashboardValues.put(title, valueLabel);
 
         return card;
     }
@@ -191,6 +401,10 @@ public class HotelReservationGUI extends JFrame {
         JTextField emailField = createStyledTextField();
         formPanel.add(emailField);
 
+        formPanel.add(createLabel("Search Name/Email:"));
+        JTextField searchField = createStyledTextField();
+        formPanel.add(searchField);
+
         // Button Panel
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         buttonPanel.setBackground(DARK_BG);
@@ -207,13 +421,7 @@ public class HotelReservationGUI extends JFrame {
         inputPanel.add(formPanel, BorderLayout.NORTH);
         inputPanel.add(buttonPanel, BorderLayout.SOUTH);
 
-        String[] columns = {"ID", "Name", "Email"};
-        customersModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        customersModel = new CustomerTableModel();
         customersTable = createStyledTable(customersModel);
         JScrollPane scrollPane = new JScrollPane(customersTable);
         scrollPane.setBackground(DARKER_BG);
@@ -228,21 +436,42 @@ public class HotelReservationGUI extends JFrame {
                 return;
             }
 
-            String customerId = "CUST" + String.format("%03d", customerCount++);
-            Customer customer = new Customer(customerId, name, email);
-            customers.add(customer);
+            Customer customer;
+            try {
+                customer = customerService.registerCustomer(name, email);
+            } catch (IllegalArgumentException | DuplicateCustomerException ex) {
+                showErrorDialog(ex.getMessage());
+                return;
+            }
 
-            customersModel.addRow(new Object[]{customerId, name, email});
+            customersModel.add(customer);
             nameField.setText("");
             emailField.setText("");
 
             showSuccessDialog("Customer added successfully!");
         });
 
-        refreshButton.addActionListener(e -> {
-            customersModel.setRowCount(0);
-            for (Customer c : customers) {
-                customersModel.addRow(new Object[]{c.getCustomerId(), c.getName(), c.getEmail()});
+        Runnable showCustomers = () -> {
+            String prefix = searchField.getText().trim();
+            customersModel.setCustomers(prefix.isEmpty() ? customers.getAll() : customers.searchByPrefix(prefix, SEARCH_LIMIT));
+        };
+
+        refreshButton.addActionListener(e -> showCustomers.run());
+
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                showCustomers.run();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                showCustomers.run();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                showCustomers.run();
             }
         });
 
@@ -270,12 +499,12 @@ public class HotelReservationGUI extends JFrame {
 
         formPanel.add(createLabel("Check-in Date (dd-MM-yyyy):"));
         JTextField checkInDateField = createStyledTextField();
-        checkInDateField.setText(LocalDate.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy")));
+        checkInDateField.setText(LocalDate.now().format(DATE_FORMAT));
         formPanel.add(checkInDateField);
 
         formPanel.add(createLabel("Check-in Time (HH:mm):"));
         JTextField checkInTimeField = createStyledTextField();
-        checkInTimeField.setText(LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm")));
+        checkInTimeField.setText(LocalTime.now().format(TIME_FORMAT));
         formPanel.add(checkInTimeField);
 
         formPanel.add(createLabel("Check-out Date (dd-MM-yyyy):"));
@@ -292,11 +521,18 @@ public class HotelReservationGUI extends JFrame {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         buttonPanel.setBackground(DARK_BG);
         
-        JButton bookButton = createStyledButton("Create Booking");
+        bookButton = createStyledButton("Create Booking");
+        cancelBookingButton = createStyledButton("Cancel");
+        cancelBookingButton.setEnabled(false);
         JButton refreshButton = createStyledButton("Refresh");
+        bookingProgress = new JProgressBar(0, 100);
+        bookingProgress.setStringPainted(true);
+        bookingProgress.setString("");
         
         buttonPanel.add(bookButton);
+        buttonPanel.add(cancelBookingButton);
         buttonPanel.add(refreshButton);
+        buttonPanel.add(bookingProgress);
 
         // Input Panel with form and buttons
         JPanel inputPanel = new JPanel(new BorderLayout());
@@ -304,13 +540,7 @@ public class HotelReservationGUI extends JFrame {
         inputPanel.add(formPanel, BorderLayout.NORTH);
         inputPanel.add(buttonPanel, BorderLayout.SOUTH);
 
-        String[] columns = {"Booking ID", "Customer", "Room", "Check-in", "Check-out", "Total", "Status"};
-        bookingsModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        bookingsModel = new BookingTableModel();
         bookingsTable = createStyledTable(bookingsModel);
         JScrollPane scrollPane = new JScrollPane(bookingsTable);
         scrollPane.setBackground(DARKER_BG);
@@ -318,7 +548,7 @@ public class HotelReservationGUI extends JFrame {
 
         Runnable updateCombo = () -> {
             customerCombo.removeAllItems();
-            for (Customer c : customers) {
+            for (Customer c : customers.getAll()) {
                 customerCombo.addItem(c.getCustomerId() + " - " + c.getName());
             }
         };
@@ -334,7 +564,12 @@ public class HotelReservationGUI extends JFrame {
                 return;
             }
 
-            Customer selectedCustomer = customers.get(customerCombo.getSelectedIndex());
+            String selectedItem = (String) customerCombo.getSelectedItem();
+            Customer selectedCustomer = customers.findById(selectedItem.substring(0, selectedItem.indexOf(" - ")));
+            if (selectedCustomer == null) {
+                showErrorDialog("Select a customer");
+                return;
+            }
             String roomType = (String) roomTypeCombo.getSelectedItem();
             String checkInDateStr = checkInDateField.getText().trim();
             String checkInTimeStr = checkInTimeField.getText().trim();
@@ -346,76 +581,56 @@ public class HotelReservationGUI extends JFrame {
                 return;
             }
 
+            LocalDate checkInDate;
+            LocalDate checkOutDate;
+            LocalTime checkInTime;
             try {
-                DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-                DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-                
-                LocalDate checkInDate = LocalDate.parse(checkInDateStr, dateFormatter);
-                LocalDate checkOutDate = LocalDate.parse(checkOutDateStr, dateFormatter);
-                LocalTime checkInTime = LocalTime.parse(checkInTimeStr, timeFormatter);
-                LocalTime checkOutTime = LocalTime.parse(checkOutTimeStr, timeFormatter);
+                checkInDate = LocalDate.parse(checkInDateStr, DATE_FORMAT);
+                checkOutDate = LocalDate.parse(checkOutDateStr, DATE_FORMAT);
+                checkInTime = LocalTime.parse(checkInTimeStr, TIME_FORMAT);
+                LocalTime.parse(checkOutTimeStr, TIME_FORMAT);
+            } catch (Exception ex) {
+                showErrorDialog("Invalid input: " + ex.getMessage());
+                return;
+            }
 
-                if (!checkOutDate.isAfter(checkInDate)) {
-                    showErrorDialog("Check-out date must be after check-in date");
-                    return;
-                }
+            if (!checkOutDate.isAfter(checkInDate)) {
+                showErrorDialog("Check-out date must be after check-in date");
+                return;
+            }
 
-                var availableRooms = hotel.findAvailableRooms(RoomType.valueOf(roomType));
-                if (availableRooms.isEmpty()) {
-                    showErrorDialog("No " + roomType + " rooms available");
-                    return;
+            // Searching, booking and charging can all take a while, so they
+            // run on a worker and the form stays responsive meanwhile.
+            bookingWorker = new BookingWorker(selectedCustomer, RoomType.valueOf(roomType), checkInDate, checkOutDate, checkInTime);
+            bookingWorker.addPropertyChangeListener(event -> {
+                if ("progress".equals(event.getPropertyName())) {
+                    bookingProgress.setValue((Integer) event.getNewValue());
+                } else if ("step".equals(event.getPropertyName())) {
+                    bookingProgress.setString((String) event.getNewValue());
                 }
+            });
+            bookButton.setEnabled(false);
+            cancelBookingButton.setEnabled(true);
+            bookingProgress.setValue(0);
 
-                Room selectedRoom = availableRooms.get(0);
-                String bookingId = "BOOK" + String.format("%03d", bookingCount++);
-                Booking booking = bookingService.createBooking(bookingId, selectedCustomer, selectedRoom, checkInDate, checkOutDate);
-                bookings.add(booking);
-
-                double totalPrice = booking.calculateTotalPrice();
-
-                String paymentId = "PAY" + String.format("%03d", paymentCount++);
-                Payment payment = paymentService.createPayment(paymentId, booking, totalPrice);
-                paymentService.processPayment(payment);
+            checkInDateField.setText(LocalDate.now().format(DATE_FORMAT));
+            checkInTimeField.setText(LocalTime.now().format(TIME_FORMAT));
+            checkOutDateField.setText("");
+            checkOutTimeField.setText("11:00");
 
-                String checkInDisplay = checkInDate.format(dateFormatter) + " " + checkInTime.format(timeFormatter);
-                String checkOutDisplay = checkOutDate.format(dateFormatter) + " " + checkOutTime.format(timeFormatter);
-
-                bookingsModel.addRow(new Object[]{
-                    bookingId,
-                    selectedCustomer.getName(),
-                    selectedRoom.getRoomNumber() + " (" + roomType + ")",
-                    checkInDisplay,
-                    checkOutDisplay,
-                    "$" + String.format("%.2f", totalPrice),
-                    booking.getStatus()
-                });
-
-                checkInDateField.setText(LocalDate.now().format(dateFormatter));
-                checkInTimeField.setText(LocalTime.now().format(timeFormatter));
-                checkOutDateField.setText("");
-                checkOutTimeField.setText("11:00");
+            bookingWorker.execute();
+        });
 
-                showSuccessDialog("Booking created and payment processed!");
-            } catch (Exception ex) {
-                showErrorDialog("Invalid input: " + ex.getMessage());
+        cancelBookingButton.addActionListener(e -> {
+            if (bookingWorker != null) {
+                bookingWorker.requestCancel();
+                cancelBookingButton.setEnabled(false);
             }
         });
 
         refreshButton.addActionListener(e -> {
             updateCombo.run();
-            bookingsModel.setRowCount(0);
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-            for (Booking b : bookings) {
-                bookingsModel.addRow(new Object[]{
-                    b.getBookingId(),
-                    b.getCustomer().getName(),
-                    b.getRoom().getRoomNumber() + " (" + b.getRoom().getType() + ")",
-                    b.getCheckInDate().format(dateFormatter) + " (Check-in time available)",
-                    b.getCheckOutDate().format(dateFormatter) + " 11:00",
-                    "$" + String.format("%.2f", b.calculateTotalPrice()),
-                    b.getStatus()
-                });
-            }
+            bookingsModel.setBookings(bookings.getAll());
         });
 
         updateCombo.run();
@@ -426,6 +641,113 @@ public class HotelReservationGUI extends JFrame {
         return panel;
     }
 
+    /**
+     * Finds a room, books it and charges the stay off the EDT. The booking's
+     * row is added as soon as it exists and its status follows the booking
+     * from there. Cancelling stops before the next step: a booking that is
+     * not yet being charged is cancelled again, while a charge already sent
+     * to the gateway is left to finish.
+     */
+    private final class BookingWorker extends SwingWorker<Payment, Booking> {
+        private final Customer customer;
+        private final RoomType type;
+        private final LocalDate checkIn;
+        private final LocalDate checkOut;
+        private final LocalTime checkInTime;
+        // SwingWorker.cancel() runs done() straight away, before the work has
+        // actually stopped, so cancellation is a flag checked between steps.
+        private volatile boolean cancelRequested;
+        private Booking booking;
+
+        BookingWorker(Customer customer, RoomType type, LocalDate checkIn, LocalDate checkOut, LocalTime checkInTime) {
+            this.customer = customer;
+            this.type = type;
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+            this.checkInTime = checkInTime;
+        }
+
+        void requestCancel() {
+            cancelRequested = true;
+        }
+
+        @Override
+        protected Payment doInBackground() {
+            step("Searching " + type + " rooms", 10);
+            for (Room room : hotel.findAvailableRooms(type, checkIn, checkOut)) {
+                if (cancelRequested) {
+                    return null;
+                }
+                try {
+                    booking = bookingService.createBooking(customer, room, checkIn, checkOut);
+                    break;
+                } catch (InvalidBookingException e) {
+                    // Taken by another booking since the search; try the next room.
+                    if (room.isAvailable(checkIn, checkOut)) {
+                        throw e;
+                    }
+                }
+            }
+            if (booking == null) {
+                throw new IllegalStateException("No " + type + " rooms available");
+            }
+            bookings.add(booking);
+            publish(booking);
+
+            if (cancelRequested) {
+                bookingService.cancelBooking(booking);
+                publish(booking);
+                return null;
+            }
+            SwingUtilities.invokeLater(() -> cancelBookingButton.setEnabled(false));
+            step("Processing payment", 60);
+            Payment payment = paymentService.createPaymentCents(booking, booking.calculateTotalPriceCents());
+            payments.add(payment);
+            paymentService.processPayment(payment);
+            step("Booking " + booking.getBookingId() + " confirmed", 100);
+            return payment;
+        }
+
+        private void step(String description, int progress) {
+            firePropertyChange("step", null, description);
+            setProgress(progress);
+        }
+
+        @Override
+        protected void process(List<Booking> chunks) {
+            // The first chunk adds the row; later ones only change its status.
+            for (Booking b : chunks) {
+                bookingsModel.add(b, checkInTime);
+            }
+        }
+
+        @Override
+        protected void done() {
+            bookButton.setEnabled(true);
+            cancelBookingButton.setEnabled(false);
+            try {
+                if (get() == null) {
+                    bookingProgress.setString("Cancelled");
+                    if (booking != null) {
+                        showSuccessDialog("Booking " + booking.getBookingId() + " cancelled");
+                    }
+                    return;
+                }
+                showSuccessDialog("Booking " + booking.getBookingId() + " created and payment processed!");
+            } catch (ExecutionException e) {
+                bookingProgress.setString("Failed");
+                String message = e.getCause().getMessage();
+                if (booking == null) {
+                    showErrorDialog(message);
+                } else {
+                    showErrorDialog("Booking " + booking.getBookingId() + " created but payment failed: " + message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private JPanel createAvailableRoomsPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBackground(DARK_BG);
@@ -440,32 +762,15 @@ public class HotelReservationGUI extends JFrame {
         JButton filterButton = createStyledButton("Filter");
         filterPanel.add(filterButton);
 
-        String[] columns = {"Room Number", "Type", "Price/Night", "Status"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
-        JTable table = createStyledTable(model);
+        availableRoomsModel = new RoomTableModel("Status", "Available");
+        JTable table = createStyledTable(availableRoomsModel);
         JScrollPane scrollPane = new JScrollPane(table);
         scrollPane.setBackground(DARKER_BG);
         scrollPane.getViewport().setBackground(DARKER_BG);
 
         filterButton.addActionListener(e -> {
             String roomType = (String) roomTypeCombo.getSelectedItem();
-            model.setRowCount(0);
-            
-            if ("ALL".equals(roomType)) {
-                for (Room r : hotel.getRooms()) {
-                    model.addRow(new Object[]{r.getRoomNumber(), r.getType(), "$" + r.getPricePerNight(), "Available"});
-                }
-            } else {
-                var availableRooms = hotel.findAvailableRooms(RoomType.valueOf(roomType));
-                for (Room r : availableRooms) {
-                    model.addRow(new Object[]{r.getRoomNumber(), r.getType(), "$" + r.getPricePerNight(), "Available"});
-                }
-            }
+            availableRoomsModel.setRooms("ALL".equals(roomType) ? hotel.getRooms() : hotel.findAvailableRooms(RoomType.valueOf(roomType)));
         });
 
         filterButton.doClick();
@@ -508,14 +813,8 @@ public class HotelReservationGUI extends JFrame {
         inputPanel.add(formPanel, BorderLayout.NORTH);
         inputPanel.add(buttonPanel, BorderLayout.SOUTH);
 
-        String[] columns = {"Room Number", "Type", "Price/Night", "Action"};
-        DefaultTableModel model = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 3; // Only action column editable
-            }
-        };
-        JTable table = createStyledTable(model);
+        roomsModel = new RoomTableModel("Action", "Edit");
+        JTable table = createStyledTable(roomsModel);
         JScrollPane scrollPane = new JScrollPane(table);
         scrollPane.setBackground(DARKER_BG);
         scrollPane.getViewport().setBackground(DARKER_BG);
@@ -545,34 +844,25 @@ public class HotelReservationGUI extends JFrame {
             }
 
             try {
-                double price = Double.parseDouble(priceStr);
+                long price = Money.parse(priceStr);
                 if (price <= 0) {
                     showErrorDialog("Price must be greater than 0");
                     return;
                 }
                 
                 String roomNumber = getNextRoomNumber.apply(RoomType.valueOf(roomType));
-                Room newRoom = new Room(roomNumber, RoomType.valueOf(roomType), price);
+                Room newRoom = Room.ofCents(roomNumber, RoomType.valueOf(roomType), price);
                 hotel.addRoom(newRoom);
 
                 priceField.setText("");
-
                 showSuccessDialog("Room " + roomNumber + " added successfully!");
-                refreshButton.doClick();
-                
-                // Refresh dashboard and hotel info
-                tabbedPane.setComponentAt(0, createDashboardPanel());
-                updateHotelInfoPanel();
             } catch (NumberFormatException ex) {
                 showErrorDialog("Invalid price format");
             }
         });
 
         refreshButton.addActionListener(e -> {
-            model.setRowCount(0);
-            for (Room r : hotel.getRooms()) {
-                model.addRow(new Object[]{r.getRoomNumber(), r.getType(), "$" + r.getPricePerNight(), "Edit"});
-            }
+            roomsModel.setRooms(hotel.getRooms());
         });
 
         // Add mouse listener for edit action
@@ -582,7 +872,7 @@ public class HotelReservationGUI extends JFrame {
                 int row = table.rowAtPoint(e.getPoint());
                 int col = table.columnAtPoint(e.getPoint());
                 if (col == 3 && row >= 0) {
-                    editRoom(row, model, refreshButton);
+                    editRoom(row, roomsModel);
                 }
             }
         });
@@ -595,10 +885,11 @@ public class HotelReservationGUI extends JFrame {
         return panel;
     }
 
-    private void editRoom(int rowIndex, DefaultTableModel model, JButton refreshButton) {
-        String roomNumber = (String) model.getValueAt(rowIndex, 0);
-        String currentType = (String) model.getValueAt(rowIndex, 1);
-        String currentPrice = ((String) model.getValueAt(rowIndex, 2)).replace("$", "");
+    private void editRoom(int rowIndex, RoomTableModel model) {
+        Room room = model.getRoom(rowIndex);
+        String roomNumber = room.getRoomNumber();
+        String currentType = room.getType().name();
+        String currentPrice = Money.format(room.getPricePerNightCents());
 
         JPanel editPanel = new JPanel(new GridLayout(3, 2, 10, 10));
         editPanel.setBackground(DARK_BG);
@@ -629,43 +920,29 @@ public class HotelReservationGUI extends JFrame {
         if (result == JOptionPane.OK_OPTION) {
             try {
                 String newType = (String) typeCombo.getSelectedItem();
-                double newPrice = Double.parseDouble(priceField.getText());
+                long newPrice = Money.parse(priceField.getText());
 
                 if (newPrice <= 0) {
                     showErrorDialog("Price must be greater than 0");
                     return;
                 }
 
-                // Find and update the room
-                for (Room r : hotel.getRooms()) {
-                    if (r.getRoomNumber().equals(roomNumber)) {
-                        r.setType(RoomType.valueOf(newType));
-                        r.setPricePerNight(newPrice);
-                        break;
-                    }
-                }
+                room.setType(RoomType.valueOf(newType));
+                room.setPricePerNightCents(newPrice);
 
                 showSuccessDialog("Room updated successfully!");
-                refreshButton.doClick();
-                updateHotelInfoPanel();
             } catch (NumberFormatException ex) {
                 showErrorDialog("Invalid price format");
             }
         }
     }
 
-    private void updateHotelInfoPanel() {
-        tabbedPane.setComponentAt(5, createHotelInfoPanel());
-        hotelInfoPanel = (JPanel) tabbedPane.getComponentAt(5);
-        tabbedPane.repaint();
-    }
-
     private JPanel createHotelInfoPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBackground(DARK_BG);
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
-        JPanel infoPanel = new JPanel(new GridLayout(6, 2, 10, 10));
+        JPanel infoPanel = new JPanel(new GridLayout(8, 2, 10, 10));
         infoPanel.setBackground(DARK_BG);
         infoPanel.setBorder(BorderFactory.createCompoundBorder(
             BorderFactory.createTitledBorder(
@@ -679,23 +956,37 @@ public class HotelReservationGUI extends JFrame {
             BorderFactory.createEmptyBorder(15, 15, 15, 15)
         ));
 
-        addInfoRow(infoPanel, "Hotel ID:", hotel.getHotelId());
-        addInfoRow(infoPanel, "Hotel Name:", hotel.getName());
-        addInfoRow(infoPanel, "Location:", hotel.getLocation());
-        addInfoRow(infoPanel, "Total Rooms:", String.valueOf(hotel.getRooms().size()));
-
-        long single = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.SINGLE).count();
-        long double_rooms = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.DOUBLE).count();
-        long suite = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.SUITE).count();
-
-        addInfoRow(infoPanel, "SINGLE Rooms:", String.valueOf(single));
-        addInfoRow(infoPanel, "DOUBLE/SUITE Rooms:", String.valueOf(double_rooms + " / " + suite));
+        addInfoRow(infoPanel, "Hotel ID:");
+        addInfoRow(infoPanel, "Hotel Name:");
+        addInfoRow(infoPanel, "Location:");
+        addInfoRow(infoPanel, "Total Rooms:");
+        addInfoRow(infoPanel, "SINGLE Rooms:");
+        addInfoRow(infoPanel, "DOUBLE/SUITE Rooms:");
+        addInfoRow(infoPanel, "Occupied Tonight:");
+        addInfoRow(infoPanel, "Room Revenue Tonight:");
+        refreshHotelInfo();
 
         panel.add(infoPanel, BorderLayout.NORTH);
 
         return panel;
     }
 
+    private void refreshHotelInfo() {
+        LocalDate today = LocalDate.now();
+        setInfo("Hotel ID:", hotel.getHotelId());
+        setInfo("Hotel Name:", hotel.getName());
+        setInfo("Location:", hotel.getLocation());
+        setInfo("Total Rooms:", String.valueOf(hotel.getRoomCount()));
+        setInfo("SINGLE Rooms:", String.valueOf(hotel.countRooms(RoomType.SINGLE)));
+        setInfo("DOUBLE/SUITE Rooms:", hotel.countRooms(RoomType.DOUBLE) + " / " + hotel.countRooms(RoomType.SUITE));
+        setInfo("Occupied Tonight:", String.valueOf(statistics.getRoomsSold(today)));
+        setInfo("Room Revenue Tonight:", formatMoney(statistics.getRevenueCents(today)));
+    }
+
+    private void setInfo(String label, String value) {
+        hotelInfoValues.get(label).setText(value);
+    }
+
     // Helper Methods
     private JPanel createFormPanel(String title) {
         JPanel panel = new JPanel(new GridLayout(6, 2, 8, 8));
@@ -770,7 +1061,7 @@ public class HotelReservationGUI extends JFrame {
         return combo;
     }
 
-    private JTable createStyledTable(DefaultTableModel model) {
+    private JTable createStyledTable(TableModel model) {
         JTable table = new JTable(model);
         table.setBackground(DARKER_BG);
         table.setForeground(TEXT_COLOR);
@@ -786,17 +1077,18 @@ public class HotelReservationGUI extends JFrame {
         return table;
     }
 
-    private void addInfoRow(JPanel panel, String label, String value) {
+    private void addInfoRow(JPanel panel, String label) {
         JLabel labelComponent = new JLabel(label);
         labelComponent.setFont(new Font("Segoe UI", Font.BOLD, 13));
         labelComponent.setForeground(ACCENT_COLOR);
         
-        JLabel valueComponent = new JLabel(value);
+        JLabel valueComponent = new JLabel();
         valueComponent.setFont(new Font("Segoe UI", Font.PLAIN, 13));
         valueComponent.setForeground(TEXT_COLOR);
 
         panel.add(labelComponent);
         panel.add(valueComponent);
+        hotelInfoValues.put(label, valueComponent);
     }
 
     private void showSuccessDialog(String message) {
@@ -808,6 +1100,12 @@ public class HotelReservationGUI extends JFrame {
         );
     }
 
+    // Only called on the EDT, so one builder serves every screen refresh.
+    private String formatMoney(long cents) {
+        moneyText.setLength(0);
+        return Money.appendTo(moneyText.append('$'), cents).toString();
+    }
+
     private void showErrorDialog(String message) {
         JOptionPane.showMessageDialog(
             this,
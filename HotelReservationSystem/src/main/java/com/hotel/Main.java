@@ -1,28 +1,80 @@
 package com.hotel;
 
+import com.hotel.analytics.BookingHistoryStore;
+import com.hotel.analytics.HotelStatistics;
+import com.hotel.analytics.OccupancyReport;
+import com.hotel.bulk.BulkExporter;
+import com.hotel.bulk.BulkImporter;
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.exception.InvalidPaymentException;
+import com.hotel.exception.PaymentPersistenceException;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.metrics.MetricsServer;
 import com.hotel.model.*;
+import com.hotel.persistence.BookingJournal;
+import com.hotel.persistence.JournalRecovery;
+import com.hotel.persistence.Snapshot;
+import com.hotel.persistence.SnapshotReader;
+import com.hotel.persistence.SnapshotWriter;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
+import com.hotel.repository.PaymentRepository;
+import com.hotel.server.HotelServer;
 import com.hotel.service.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 public class Main {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private static Hotel hotel;
     private static BookingService bookingService;
     private static PaymentService paymentService;
+    private static CustomerService customerService;
+    private static BookingJournal journal;
     private static Scanner scanner;
-    private static List<Customer> customers = new ArrayList<>();
-    private static List<Booking> bookings = new ArrayList<>();
-    private static int customerCount = 1;
-    private static int bookingCount = 1;
-    private static int paymentCount = 1;
+    private static CustomerRepository customers = new CustomerRepository();
+    private static BookingRepository bookings = new BookingRepository();
+    private static PaymentRepository payments = new PaymentRepository();
+    private static HotelStatistics statistics;
+    private static MetricsServer metricsServer;
 
     public static void main(String[] args) {
+        if (args.length > 0 && "--server".equals(args[0])) {
+            runServer(args.length > 1 ? Integer.parseInt(args[1]) : HotelServer.DEFAULT_PORT);
+            return;
+        }
+        if (args.length > 0 && "--import".equals(args[0])) {
+            runImport(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && "--export".equals(args[0])) {
+            runExport(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && "--report".equals(args[0])) {
+            runReport(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         scanner = new Scanner(System.in);
-        bookingService = new BookingService();
-        paymentService = new PaymentService();
 
         initializeHotel();
+        journal = openJournal();
+        advanceIds();
+        statistics = HotelStatistics.of(bookings.getAll(), payments.getAll());
+        bookingService = new BookingService(journal);
+        bookingService.addListener(statistics);
+        paymentService = new PaymentService(journal);
+        paymentService.addListener(statistics);
+        customerService = new CustomerService(customers);
+        metricsServer = startMetricsServer();
 
         boolean running = true;
         while (running) {
@@ -58,9 +110,234 @@ public class Main {
         }
 
         scanner.close();
+        saveSnapshot();
+        closeJournal();
+        paymentService.close();
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+    }
+
+    /**
+     * Headless mode: serves the booking API until the process is stopped,
+     * then saves the snapshot and closes the journal like the console does.
+     */
+    private static void runServer(int port) {
+        initializeHotel();
+        journal = openJournal();
+        advanceIds();
+        bookingService = new BookingService(journal);
+        paymentService = new PaymentService(journal);
+        metricsServer = startMetricsServer();
+        HotelRegistry hotels = new HotelRegistry();
+        hotels.register(hotel);
+        HotelServer server = new HotelServer(hotels, customers, bookings, bookingService, paymentService, payments);
+        try {
+            server.start(port);
+        } catch (IOException e) {
+            System.out.println("Could not start server: " + e.getMessage());
+            closeJournal();
+            return;
+        }
+        System.out.println("Booking API listening on port " + server.getPort()
+                + (VirtualThreads.isAvailable() ? " (virtual threads)." : "."));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            hotels.close();
+            paymentService.close();
+            saveSnapshot();
+            closeJournal();
+            if (metricsServer != null) {
+                metricsServer.close();
+            }
+        }, "shutdown"));
+    }
+
+    /**
+     * Batch mode: loads {@code --rooms}, {@code --customers} and
+     * {@code --bookings} CSV files, in that order, through the services and
+     * prints one line per rejected row plus a summary per file. Rooms and
+     * customers are kept only by saving the snapshot, while bookings also go
+     * to the journal, so the import refuses to run without
+     * {@code -Dhotel.snapshot}: the journal alone would replay bookings for
+     * rooms and customers that no longer exist.
+     */
+    private static void runImport(String[] args) {
+        Map<String, Path> files = new HashMap<>();
+        int batchSize = BulkImporter.DEFAULT_BATCH_SIZE;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 >= args.length) {
+                System.out.println("Missing value for " + args[i]);
+                return;
+            }
+            switch (args[i]) {
+                case "--rooms":
+                case "--customers":
+                case "--bookings":
+                    files.put(args[i].substring(2), Path.of(args[i + 1]));
+                    break;
+                case "--batch-size":
+                    batchSize = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    System.out.println("Unknown option " + args[i]
+                            + ". Usage: --import [--rooms FILE] [--customers FILE] [--bookings FILE] [--batch-size N]");
+                    return;
+            }
+        }
+
+        String snapshotPath = System.getProperty("hotel.snapshot");
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            System.out.println("--import needs -Dhotel.snapshot=FILE to keep the imported rooms and customers");
+            return;
+        }
+
+        initializeHotel();
+        journal = openJournal();
+        advanceIds();
+        bookingService = new BookingService(journal);
+        customerService = new CustomerService(customers);
+        BulkImporter importer = new BulkImporter(hotel, customers, bookings, customerService, bookingService,
+                System.out::println).batchSize(batchSize);
+        try {
+            if (files.containsKey("rooms")) {
+                System.out.println(importer.importRooms(files.get("rooms")));
+            }
+            if (files.containsKey("customers")) {
+                System.out.println(importer.importCustomers(files.get("customers")));
+            }
+            if (files.containsKey("bookings")) {
+                System.out.println(importer.importBookings(files.get("bookings")));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Import stopped: " + e.getMessage());
+        }
+        saveSnapshot();
+        closeJournal();
+    }
+
+    /**
+     * Batch mode: writes every booking, or those checking in within
+     * [{@code --from}, {@code --to}), with customer, room, price and payment
+     * status to FILE as CSV or JSON Lines, gzip-compressed with
+     * {@code --gzip}.
+     */
+    private static void runExport(String[] args) {
+        String usage = "Usage: --export FILE [--format csv|jsonl] [--from yyyy-MM-dd] [--to yyyy-MM-dd] [--gzip]";
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.out.println(usage);
+            return;
+        }
+        Path file = Path.of(args[0]);
+        BulkExporter.Format format = BulkExporter.Format.CSV;
+        LocalDate from = null;
+        LocalDate to = null;
+        boolean gzip = false;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                if ("--gzip".equals(args[i])) {
+                    gzip = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    System.out.println("Missing value for " + args[i]);
+                    return;
+                }
+                switch (args[i]) {
+                    case "--format":
+                        format = BulkExporter.Format.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--from":
+                        from = LocalDate.parse(args[++i], DATE_FORMAT);
+                        break;
+                    case "--to":
+                        to = LocalDate.parse(args[++i], DATE_FORMAT);
+                        break;
+                    default:
+                        System.out.println("Unknown option " + args[i] + ". " + usage);
+                        return;
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.out.println("Invalid option value: " + e.getMessage() + ". " + usage);
+            return;
+        }
+
+        // Only reads, so the journal is replayed but never opened for writing.
+        initializeHotel();
+        Path journalPath = journalPath();
+        if (journalPath != null) {
+            recoverJournal(journalPath);
+        }
+        BulkExporter exporter = new BulkExporter(bookings, booking -> payments.findStatus(booking.getBookingId()));
+        try {
+            long start = System.nanoTime();
+            long rows = exporter.export(file, format, from, to, gzip);
+            System.out.println("Exported " + rows + " bookings to " + file + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Export failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Batch mode: prints occupancy, ADR, RevPAR and revenue by room type for
+     * the nights in [FROM, TO), scanned from a columnar copy of the booking
+     * history.
+     */
+    private static void runReport(String[] args) {
+        String usage = "Usage: --report FROM TO (yyyy-MM-dd, TO exclusive)";
+        if (args.length != 2) {
+            System.out.println(usage);
+            return;
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(args[0], DATE_FORMAT);
+            to = LocalDate.parse(args[1], DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            System.out.println("Invalid date: " + e.getParsedString() + ". " + usage);
+            return;
+        }
+        if (!to.isAfter(from)) {
+            System.out.println("TO must be after FROM. " + usage);
+            return;
+        }
+
+        // Only reads, so the journal is replayed but never opened for writing.
+        initializeHotel();
+        Path journalPath = journalPath();
+        if (journalPath != null) {
+            recoverJournal(journalPath);
+        }
+        if (hotel.getRoomCount() == 0) {
+            System.out.println("The hotel has no rooms to report on.");
+            return;
+        }
+        long start = System.nanoTime();
+        OccupancyReport report = BookingHistoryStore.of(bookings.getAll()).report(from, to, hotel.getRoomCount());
+        System.out.println("Report for " + from + " to " + to + " over " + bookings.size() + " bookings in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        System.out.println("Room nights sold: " + report.getRoomNightsSold() + " of " + report.getRoomNightsAvailable());
+        System.out.println(String.format(Locale.ROOT, "Occupancy: %.1f%%", report.getOccupancyRate() * 100));
+        System.out.println("ADR: $" + Money.format(report.getAverageDailyRateCents()));
+        System.out.println("RevPAR: $" + Money.format(report.getRevParCents()));
+        System.out.println("Revenue: $" + Money.format(report.getRevenueCents()));
+        for (Map.Entry<RoomType, Long> entry : report.getRevenueByRoomTypeCents().entrySet()) {
+            System.out.println("  " + entry.getKey() + ": $" + Money.format(entry.getValue()));
+        }
     }
 
     private static void initializeHotel() {
+        if (loadSnapshot()) {
+            System.out.println("\n=== Hotel Reservation System Initialized ===");
+            System.out.println("Hotel: " + hotel.getName() + " in " + hotel.getLocation());
+            System.out.println(hotel.getRoomCount() + " rooms and " + bookings.size() + " bookings loaded from snapshot.\n");
+            return;
+        }
+
         hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
         System.out.println("\n=== Hotel Reservation System Initialized ===");
         System.out.println("Hotel: " + hotel.getName() + " in " + hotel.getLocation());
@@ -75,6 +352,122 @@ public class Main {
         System.out.println("5 rooms added to the hotel.\n");
     }
 
+    private static boolean loadSnapshot() {
+        String snapshotPath = System.getProperty("hotel.snapshot");
+        if (snapshotPath == null || snapshotPath.isBlank() || !Files.exists(Path.of(snapshotPath))) {
+            return false;
+        }
+        try {
+            Snapshot snapshot = SnapshotReader.read(Path.of(snapshotPath));
+            if (snapshot.getHotels().isEmpty()) {
+                return false;
+            }
+            hotel = snapshot.getHotels().get(0);
+            customers.addAll(snapshot.getCustomers());
+            bookings.addAll(snapshot.getBookings());
+            payments.addAll(snapshot.getPayments());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Starting with the default hotel would overwrite the snapshot,
+            // and checkpoint the journal away, on the way out.
+            System.out.println("Could not load snapshot " + snapshotPath + ": " + e.getMessage()
+                    + ". Repair or move it aside before starting.");
+            System.exit(1);
+            return false;
+        }
+    }
+
+    private static void saveSnapshot() {
+        String snapshotPath = System.getProperty("hotel.snapshot");
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        try {
+            SnapshotWriter.write(Path.of(snapshotPath), new Snapshot(List.of(hotel), customers.getAll(), bookings.getAll(), payments.getAll()));
+            if (journal != null) {
+                journal.checkpoint();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Could not save snapshot: " + e.getMessage());
+        }
+    }
+
+    private static BookingJournal openJournal() {
+        Path path = journalPath();
+        if (path == null || !recoverJournal(path)) {
+            return null;
+        }
+        try {
+            return new BookingJournal(path);
+        } catch (IOException e) {
+            System.out.println("Could not open booking journal: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // The generator's logical time is not stored, so a restart under a clock
+    // that went back must start past every id already issued.
+    private static void advanceIds() {
+        IdGenerator ids = IdGenerator.getDefault();
+        for (Customer customer : customers.getAll()) {
+            ids.advancePast(CustomerService.ID_PREFIX, customer.getCustomerId());
+        }
+        for (Booking booking : bookings.getAll()) {
+            ids.advancePast(BookingService.ID_PREFIX, booking.getBookingId());
+        }
+        for (Payment payment : payments.getAll()) {
+            ids.advancePast(PaymentService.ID_PREFIX, payment.getPaymentId());
+        }
+    }
+
+    private static Path journalPath() {
+        String journalPath = System.getProperty("hotel.journal");
+        return journalPath == null || journalPath.isBlank() ? null : Path.of(journalPath);
+    }
+
+    // Replays the journal into the repositories; false if it could not be read.
+    private static boolean recoverJournal(Path path) {
+        try {
+            JournalRecovery.RecoveredState state = JournalRecovery.recover(path, List.of(hotel), customers.getAll(),
+                    bookings.getAll(), payments.getAll());
+            customers.addAll(state.getCustomers());
+            bookings.addAll(state.getBookings());
+            payments.addAll(state.getPayments());
+            System.out.println("Recovered " + state.getBookings().size() + " bookings and "
+                    + state.getCustomers().size() + " customers from " + path + ".\n");
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not open booking journal: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static MetricsServer startMetricsServer() {
+        Integer port = Integer.getInteger("hotel.metrics.port");
+        if (port == null) {
+            return null;
+        }
+        try {
+            MetricsServer server = MetricsServer.start(MetricsRegistry.getDefault(), port);
+            System.out.println("Serving metrics on port " + server.getPort() + MetricsServer.PATH + ".\n");
+            return server;
+        } catch (IOException e) {
+            System.out.println("Could not start metrics server: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.out.println("Could not close booking journal: " + e.getMessage());
+        }
+    }
+
     private static void displayMainMenu() {
         System.out.println("\n========== MAIN MENU ==========");
         System.out.println("1. Add New Customer");
@@ -94,12 +487,16 @@ public class Main {
         System.out.print("Enter email: ");
         String email = scanner.nextLine();
 
-        String customerId = "CUST" + String.format("%03d", customerCount++);
-        Customer customer = new Customer(customerId, name, email);
-        customers.add(customer);
+        Customer customer;
+        try {
+            customer = customerService.registerCustomer(name, email);
+        } catch (IllegalArgumentException | DuplicateCustomerException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
 
         System.out.println("✓ Customer added successfully!");
-        System.out.println("  ID: " + customerId + ", Name: " + name + ", Email: " + email);
+        System.out.println("  ID: " + customer.getCustomerId() + ", Name: " + name + ", Email: " + email);
     }
 
     private static void listCustomers() {
@@ -109,8 +506,9 @@ public class Main {
             return;
         }
 
-        for (int i = 0; i < customers.size(); i++) {
-            Customer c = customers.get(i);
+        List<Customer> all = customers.getAll();
+        for (int i = 0; i < all.size(); i++) {
+            Customer c = all.get(i);
             System.out.println((i + 1) + ". ID: " + c.getCustomerId() + " | Name: " + c.getName() + " | Email: " + c.getEmail());
         }
     }
@@ -128,12 +526,27 @@ public class Main {
         System.out.print("Select customer number: ");
         int custChoice = getIntInput("") - 1;
 
-        if (custChoice < 0 || custChoice >= customers.size()) {
+        List<Customer> all = customers.getAll();
+        if (custChoice < 0 || custChoice >= all.size()) {
             System.out.println("Invalid customer selection.");
             return;
         }
 
-        Customer selectedCustomer = customers.get(custChoice);
+        Customer selectedCustomer = all.get(custChoice);
+
+        // Get check-in and check-out dates
+        System.out.print("Enter check-in date (yyyy-MM-dd): ");
+        LocalDate checkIn = parseDate(scanner.nextLine());
+        if (checkIn == null) return;
+
+        System.out.print("Enter check-out date (yyyy-MM-dd): ");
+        LocalDate checkOut = parseDate(scanner.nextLine());
+        if (checkOut == null) return;
+
+        if (!checkOut.isAfter(checkIn)) {
+            System.out.println("Check-out date must be after check-in date.");
+            return;
+        }
 
         // View available rooms
         System.out.print("Enter room type (SINGLE/DOUBLE/SUITE): ");
@@ -147,16 +560,16 @@ public class Main {
             return;
         }
 
-        var availableRooms = hotel.findAvailableRooms(selectedRoomType);
+        var availableRooms = hotel.findAvailableRooms(selectedRoomType, checkIn, checkOut);
         if (availableRooms.isEmpty()) {
-            System.out.println("No " + selectedRoomType + " rooms available.");
+            System.out.println("No " + selectedRoomType + " rooms available from " + checkIn + " to " + checkOut + ".");
             return;
         }
 
         System.out.println("Available " + selectedRoomType + " rooms:");
         for (int i = 0; i < availableRooms.size(); i++) {
             Room r = availableRooms.get(i);
-            System.out.println((i + 1) + ". Room " + r.getRoomNumber() + " - $" + r.getPricePerNight() + "/night");
+            System.out.println((i + 1) + ". Room " + r.getRoomNumber() + " - $" + Money.format(r.getPricePerNightCents()) + "/night");
         }
 
         System.out.print("Select room number (1-" + availableRooms.size() + "): ");
@@ -169,46 +582,43 @@ public class Main {
 
         Room selectedRoom = availableRooms.get(roomChoice);
 
-        // Get check-in and check-out dates
-        System.out.print("Enter check-in date (yyyy-MM-dd): ");
-        LocalDate checkIn = parseDate(scanner.nextLine());
-        if (checkIn == null) return;
-
-        System.out.print("Enter check-out date (yyyy-MM-dd): ");
-        LocalDate checkOut = parseDate(scanner.nextLine());
-        if (checkOut == null) return;
-
-        if (!checkOut.isAfter(checkIn)) {
-            System.out.println("Check-out date must be after check-in date.");
+        // Create booking
+        Booking booking;
+        try {
+            booking = bookingService.createBooking(selectedCustomer, selectedRoom, checkIn, checkOut);
+        } catch (InvalidBookingException e) {
+            System.out.println(e.getMessage());
             return;
         }
-
-        // Create booking
-        String bookingId = "BOOK" + String.format("%03d", bookingCount++);
-        Booking booking = bookingService.createBooking(bookingId, selectedCustomer, selectedRoom, checkIn, checkOut);
         bookings.add(booking);
 
-        double totalPrice = booking.calculateTotalPrice();
+        long totalPrice = booking.calculateTotalPriceCents();
         System.out.println("\n✓ Booking created successfully!");
-        System.out.println("  Booking ID: " + bookingId);
+        System.out.println("  Booking ID: " + booking.getBookingId());
         System.out.println("  Customer: " + selectedCustomer.getName());
         System.out.println("  Room: " + selectedRoom.getRoomNumber() + " (" + selectedRoom.getType() + ")");
         System.out.println("  Check-in: " + checkIn);
         System.out.println("  Check-out: " + checkOut);
-        System.out.println("  Total Price: $" + totalPrice);
+        System.out.println("  Total Price: $" + Money.format(totalPrice));
 
         // Process payment
         System.out.print("\nProcess payment now? (yes/no): ");
         String paymentChoice = scanner.nextLine().toLowerCase();
 
         if (paymentChoice.equals("yes") || paymentChoice.equals("y")) {
-            String paymentId = "PAY" + String.format("%03d", paymentCount++);
-            Payment payment = paymentService.createPayment(paymentId, booking, totalPrice);
-            paymentService.processPayment(payment);
-
-            System.out.println("✓ Payment processed successfully!");
-            System.out.println("  Payment ID: " + paymentId);
-            System.out.println("  Amount: $" + totalPrice);
+            Payment payment = paymentService.createPaymentCents(booking, totalPrice);
+            payments.add(payment);
+            try {
+                paymentService.processPayment(payment);
+                System.out.println("✓ Payment processed successfully!");
+            } catch (PaymentPersistenceException e) {
+                System.out.println("Payment outcome could not be saved: " + e.getMessage());
+                System.out.println("Check the charge with the payment provider before retrying.");
+            } catch (InvalidPaymentException e) {
+                System.out.println(e.getMessage());
+            }
+            System.out.println("  Payment ID: " + payment.getPaymentId());
+            System.out.println("  Amount: $" + Money.format(totalPrice));
             System.out.println("  Status: " + payment.getStatus());
         }
     }
@@ -235,7 +645,7 @@ public class Main {
 
         System.out.println("Available " + selectedRoomType + " rooms:");
         for (Room r : availableRooms) {
-            System.out.println("  - Room " + r.getRoomNumber() + " | Price: $" + r.getPricePerNight() + "/night");
+            System.out.println("  - Room " + r.getRoomNumber() + " | Price: $" + Money.format(r.getPricePerNightCents()) + "/night");
         }
     }
 
@@ -246,15 +656,26 @@ public class Main {
             return;
         }
 
-        for (Booking b : bookings) {
-            System.out.println("\nBooking ID: " + b.getBookingId());
-            System.out.println("  Customer: " + b.getCustomer().getName());
-            System.out.println("  Room: " + b.getRoom().getRoomNumber() + " (" + b.getRoom().getType() + ")");
-            System.out.println("  Check-in: " + b.getCheckInDate());
-            System.out.println("  Check-out: " + b.getCheckOutDate());
-            System.out.println("  Total Price: $" + b.calculateTotalPrice());
-            System.out.println("  Status: " + b.getStatus());
+        // Built into one buffer and printed in chunks rather than a println
+        // per field, which flushes the console on every line.
+        StringBuilder out = new StringBuilder(8192);
+        for (Booking b : bookings.getAll()) {
+            out.append("\nBooking ID: ").append(b.getBookingId())
+                    .append("\n  Customer: ").append(b.getCustomer().getName())
+                    .append("\n  Room: ").append(b.getRoom().getRoomNumber())
+                    .append(" (").append(b.getRoom().getType()).append(')')
+                    .append("\n  Check-in: ").append(b.getCheckInDate())
+                    .append("\n  Check-out: ").append(b.getCheckOutDate())
+                    .append("\n  Total Price: $");
+            Money.appendTo(out, b.calculateTotalPriceCents())
+                    .append("\n  Status: ").append(b.getStatus()).append('\n');
+            if (out.length() >= 8192) {
+                System.out.print(out);
+                out.setLength(0);
+            }
         }
+        System.out.print(out);
+        System.out.flush();
     }
 
     private static void viewHotelInfo() {
@@ -262,11 +683,16 @@ public class Main {
         System.out.println("Hotel ID: " + hotel.getHotelId());
         System.out.println("Hotel Name: " + hotel.getName());
         System.out.println("Location: " + hotel.getLocation());
-        System.out.println("Total Rooms: " + hotel.getRooms().size());
+        System.out.println("Total Rooms: " + hotel.getRoomCount());
+        LocalDate today = LocalDate.now();
+        System.out.println("Arrivals Today: " + statistics.getArrivals(today));
+        System.out.println("Departures Today: " + statistics.getDepartures(today));
+        System.out.println("Occupied Tonight: " + statistics.getRoomsSold(today) + " / " + hotel.getRoomCount());
+        System.out.println("Payments Collected: $" + Money.format(statistics.getPaymentAmountCents(PaymentStatus.COMPLETED)));
         System.out.println("\nRoom Breakdown:");
-        long single = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.SINGLE).count();
-        long double_rooms = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.DOUBLE).count();
-        long suite = hotel.getRooms().stream().filter(r -> r.getType() == RoomType.SUITE).count();
+        int single = hotel.countRooms(RoomType.SINGLE);
+        int double_rooms = hotel.countRooms(RoomType.DOUBLE);
+        int suite = hotel.countRooms(RoomType.SUITE);
         System.out.println("  - SINGLE: " + single);
         System.out.println("  - DOUBLE: " + double_rooms);
         System.out.println("  - SUITE: " + suite);
@@ -286,8 +712,7 @@ public class Main {
 
     private static LocalDate parseDate(String dateString) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            return LocalDate.parse(dateString, formatter);
+            return LocalDate.parse(dateString, DATE_FORMAT);
         } catch (Exception e) {
             System.out.println("Invalid date format. Please use yyyy-MM-dd.");
             return null;
@@ -0,0 +1,86 @@
+package com.hotel;
+
+import com.hotel.model.Money;
+import com.hotel.model.Room;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Rooms table over the rooms themselves. The last column holds a fixed
+ * label, e.g. "Available" or "Edit", so the same model serves both the
+ * availability and the room management tabs. Only touched on the EDT.
+ */
+final class RoomTableModel extends AbstractTableModel {
+    private final String[] columns;
+    private final String label;
+    private final List<Room> rows = new ArrayList<>();
+    private final StringBuilder money = new StringBuilder(24);
+
+    RoomTableModel(String labelColumn, String label) {
+        this.columns = new String[]{"Room Number", "Type", "Price/Night", labelColumn};
+        this.label = label;
+    }
+
+    void setRooms(Collection<Room> rooms) {
+        rows.clear();
+        rows.addAll(rooms);
+        fireTableDataChanged();
+    }
+
+    /** Appends the room unless it is already shown. */
+    void add(Room room) {
+        if (rows.contains(room)) {
+            return;
+        }
+        int row = rows.size();
+        rows.add(room);
+        fireTableRowsInserted(row, row);
+    }
+
+    /** Repaints the room's row, if it is shown, after its type or price changed. */
+    void roomChanged(Room room) {
+        int row = rows.indexOf(room);
+        if (row >= 0) {
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    Room getRoom(int row) {
+        return rows.get(row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Room room = rows.get(row);
+        switch (column) {
+            case 0:
+                return room.getRoomNumber();
+            case 1:
+                return room.getType();
+            case 2:
+                money.setLength(0);
+                return Money.appendTo(money.append('$'), room.getPricePerNightCents()).toString();
+            case 3:
+                return label;
+            default:
+                throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.hotel.analytics;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Booking history in struct-of-arrays form: one primitive column each for
+ * check-in and check-out (epoch days), room index, customer index, stay price
+ * in cents, room type and status, plus every night's price in one shared
+ * column so ranges that cut a stay follow the room's seasonal rates. Reports scan the columns in parallel on a
+ * fork-join pool, so a month's figures over millions of bookings never touch
+ * a {@link Booking} object.
+ *
+ * <p>Rows are only ever appended; a booking's status can change later.
+ * Queries work on the rows present when they start.
+ */
+public class BookingHistoryStore {
+    static final int SPLIT_THRESHOLD = 16_384;
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+
+    private final ForkJoinPool pool;
+    private final Map<String, Integer> rowsByBookingId = new HashMap<>();
+    private final Map<Room, Integer> roomIndex = new IdentityHashMap<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final Map<String, Integer> customerIndex = new HashMap<>();
+
+    private int[] checkIns = new int[1024];
+    private int[] checkOuts = new int[1024];
+    private int[] roomIds = new int[1024];
+    private int[] customerIds = new int[1024];
+    private long[] pricesCents = new long[1024];
+    private byte[] roomTypes = new byte[1024];
+    private byte[] statuses = new byte[1024];
+    // Row r's nights start at nightOffsets[r] in nightlyCents.
+    private int[] nightOffsets = new int[1024];
+    private long[] nightlyCents = new long[4096];
+    private int nightCount;
+    private int size;
+
+    public BookingHistoryStore() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BookingHistoryStore(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork-join pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    public static BookingHistoryStore of(Collection<Booking> bookings) {
+        BookingHistoryStore store = new BookingHistoryStore();
+        for (Booking booking : bookings) {
+            store.append(booking);
+        }
+        return store;
+    }
+
+    /**
+     * Adds a booking as a new row, pricing it once at the current rates.
+     */
+    public synchronized void append(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        if (rowsByBookingId.containsKey(booking.getBookingId())) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " is already recorded");
+        }
+        if (size == checkIns.length) {
+            grow();
+        }
+        Room room = booking.getRoom();
+        Integer roomId = roomIndex.get(room);
+        if (roomId == null) {
+            roomId = rooms.size();
+            roomIndex.put(room, roomId);
+            rooms.add(room);
+        }
+        long[] nights = HotelStatistics.nightlyCents(booking);
+        if (nightCount + nights.length > nightlyCents.length) {
+            nightlyCents = Arrays.copyOf(nightlyCents, Math.max(nightlyCents.length * 2, nightCount + nights.length));
+        }
+        System.arraycopy(nights, 0, nightlyCents, nightCount, nights.length);
+        int row = size;
+        nightOffsets[row] = nightCount;
+        nightCount += nights.length;
+        checkIns[row] = (int) booking.getCheckInDate().toEpochDay();
+        checkOuts[row] = (int) booking.getCheckOutDate().toEpochDay();
+        roomIds[row] = roomId;
+        customerIds[row] = customerIndex.computeIfAbsent(booking.getCustomer().getCustomerId(),
+                id -> customerIndex.size());
+        pricesCents[row] = Arrays.stream(nights).sum();
+        roomTypes[row] = (byte) room.getType().ordinal();
+        statuses[row] = (byte) booking.getStatus().ordinal();
+        rowsByBookingId.put(booking.getBookingId(), row);
+        size = row + 1;
+    }
+
+    public synchronized void updateStatus(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        Integer row = rowsByBookingId.get(booking.getBookingId());
+        if (row == null) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " is not recorded");
+        }
+        statuses[row] = (byte) booking.getStatus().ordinal();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized BookingStatus getStatus(String bookingId) {
+        Integer row = rowsByBookingId.get(bookingId);
+        return row == null ? null : STATUSES[statuses[row]];
+    }
+
+    public synchronized int getRoomCount() {
+        return rooms.size();
+    }
+
+    public synchronized int getCustomerCount() {
+        return customerIndex.size();
+    }
+
+    /**
+     * Occupancy, ADR, RevPAR and revenue by room type for the nights in
+     * [from, to), for a property of {@code roomCount} rooms. A stay that only
+     * partly overlaps the range counts the overlapping nights at the prices
+     * they were booked at. Cancelled bookings are left out.
+     */
+    public OccupancyReport report(LocalDate from, LocalDate to, int roomCount) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("Invalid report date range");
+        }
+        if (roomCount <= 0) {
+            throw new IllegalArgumentException("Room count must be positive");
+        }
+        Scan scan;
+        synchronized (this) {
+            scan = new Scan(this, (int) from.toEpochDay(), (int) to.toEpochDay(), 0, size);
+        }
+        Totals totals = pool.invoke(scan);
+        return new OccupancyReport(from, to, roomCount, totals.roomNights, totals.revenueCents,
+                totals.revenueByType);
+    }
+
+    public double occupancyRate(LocalDate from, LocalDate to, int roomCount) {
+        return report(from, to, roomCount).getOccupancyRate();
+    }
+
+    public long averageDailyRateCents(LocalDate from, LocalDate to) {
+        return report(from, to, 1).getAverageDailyRateCents();
+    }
+
+    public long revParCents(LocalDate from, LocalDate to, int roomCount) {
+        return report(from, to, roomCount).getRevParCents();
+    }
+
+    public Map<RoomType, Long> revenueByRoomType(LocalDate from, LocalDate to) {
+        return report(from, to, 1).getRevenueByRoomTypeCents();
+    }
+
+    private void grow() {
+        int capacity = checkIns.length * 2;
+        checkIns = Arrays.copyOf(checkIns, capacity);
+        checkOuts = Arrays.copyOf(checkOuts, capacity);
+        roomIds = Arrays.copyOf(roomIds, capacity);
+        customerIds = Arrays.copyOf(customerIds, capacity);
+        pricesCents = Arrays.copyOf(pricesCents, capacity);
+        roomTypes = Arrays.copyOf(roomTypes, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        nightOffsets = Arrays.copyOf(nightOffsets, capacity);
+    }
+
+    private static final class Totals {
+        long roomNights;
+        long revenueCents;
+        final long[] revenueByType = new long[ROOM_TYPES.length];
+
+        Totals add(Totals other) {
+            roomNights += other.roomNights;
+            revenueCents += other.revenueCents;
+            for (int t = 0; t < revenueByType.length; t++) {
+                revenueByType[t] += other.revenueByType[t];
+            }
+            return this;
+        }
+    }
+
+    private static final class Scan extends RecursiveTask<Totals> {
+        private static final byte CANCELLED = (byte) BookingStatus.CANCELLED.ordinal();
+
+        private final int[] checkIns;
+        private final int[] checkOuts;
+        private final long[] pricesCents;
+        private final byte[] roomTypes;
+        private final byte[] statuses;
+        private final int[] nightOffsets;
+        private final long[] nightlyCents;
+        private final int from;
+        private final int to;
+        private final int lo;
+        private final int hi;
+
+        // Takes the columns as they are now; appends after this land beyond hi
+        // or in new arrays.
+        Scan(BookingHistoryStore store, int from, int to, int lo, int hi) {
+            this(store.checkIns, store.checkOuts, store.pricesCents, store.roomTypes, store.statuses,
+                    store.nightOffsets, store.nightlyCents, from, to, lo, hi);
+        }
+
+        private Scan(int[] checkIns, int[] checkOuts, long[] pricesCents, byte[] roomTypes, byte[] statuses,
+                     int[] nightOffsets, long[] nightlyCents, int from, int to, int lo, int hi) {
+            this.checkIns = checkIns;
+            this.checkOuts = checkOuts;
+            this.pricesCents = pricesCents;
+            this.roomTypes = roomTypes;
+            this.statuses = statuses;
+            this.nightOffsets = nightOffsets;
+            this.nightlyCents = nightlyCents;
+            this.from = from;
+            this.to = to;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (hi - lo > SPLIT_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                Scan left = new Scan(checkIns, checkOuts, pricesCents, roomTypes, statuses, nightOffsets,
+                        nightlyCents, from, to, lo, mid);
+                Scan right = new Scan(checkIns, checkOuts, pricesCents, roomTypes, statuses, nightOffsets,
+                        nightlyCents, from, to, mid, hi);
+                left.fork();
+                return right.compute().add(left.join());
+            }
+            Totals totals = new Totals();
+            for (int row = lo; row < hi; row++) {
+                int in = checkIns[row];
+                int out = checkOuts[row];
+                if (out <= from || in >= to || statuses[row] == CANCELLED) {
+                    continue;
+                }
+                int first = Math.max(in, from);
+                int last = Math.min(out, to);
+                long revenue;
+                if (first == in && last == out) {
+                    revenue = pricesCents[row];
+                } else {
+                    revenue = 0;
+                    for (int night = nightOffsets[row] + first - in, end = night + last - first; night < end; night++) {
+                        revenue += nightlyCents[night];
+                    }
+                }
+                int nights = last - first;
+                totals.roomNights += nights;
+                totals.revenueCents += revenue;
+                totals.revenueByType[roomTypes[row]] += revenue;
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.hotel.analytics;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Payment;
+import com.hotel.model.PaymentStatus;
+import com.hotel.model.RoomType;
+import com.hotel.service.BookingEventListener;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Running totals for the dashboard, kept up to date from booking and payment
+ * events instead of being recomputed from the full history. Per night and
+ * room type it holds rooms sold and room revenue; per date, arrivals and
+ * departures; overall, bookings per {@link BookingStatus} and payments and
+ * amounts per {@link PaymentStatus}. Every read is a map lookup and an array
+ * read, however many bookings there are.
+ *
+ * <p>Each event brings one booking or payment in line with its current
+ * status, so repeated or late events are harmless. A stay is priced night by
+ * night when it is first seen and taken off with the same amounts when it is
+ * cancelled, even if rates have changed in between. Cancelled stays count
+ * towards {@link BookingStatus#CANCELLED} only.
+ */
+public class HotelStatistics implements BookingEventListener {
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+
+    private final Map<String, Stay> stays = new ConcurrentHashMap<>();
+    private final Map<String, PaymentStatus> paymentStatuses = new ConcurrentHashMap<>();
+    private final Map<LocalDate, DayTotals> days = new ConcurrentHashMap<>();
+    private final AtomicLongArray bookingsByStatus = new AtomicLongArray(BookingStatus.values().length);
+    private final AtomicLongArray paymentsByStatus = new AtomicLongArray(PaymentStatus.values().length);
+    private final AtomicLongArray paymentCentsByStatus = new AtomicLongArray(PaymentStatus.values().length);
+
+    public static HotelStatistics of(Collection<Booking> bookings, Collection<Payment> payments) {
+        HotelStatistics statistics = new HotelStatistics();
+        for (Booking booking : bookings) {
+            statistics.record(booking);
+        }
+        for (Payment payment : payments) {
+            statistics.record(payment);
+        }
+        return statistics;
+    }
+
+    public void record(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        stays.compute(booking.getBookingId(), (id, stay) -> {
+            BookingStatus status = booking.getStatus();
+            BookingStatus previous = stay == null ? null : stay.status;
+            if (stay == null) {
+                stay = new Stay(booking);
+            } else if (previous == status) {
+                return stay;
+            } else {
+                bookingsByStatus.decrementAndGet(previous.ordinal());
+            }
+            bookingsByStatus.incrementAndGet(status.ordinal());
+            boolean wasSold = previous != null && previous != BookingStatus.CANCELLED;
+            boolean sold = status != BookingStatus.CANCELLED;
+            if (sold != wasSold) {
+                apply(stay, sold ? 1 : -1);
+            }
+            stay.status = status;
+            return stay;
+        });
+    }
+
+    public void record(Payment payment) {
+        if (payment == null) {
+            throw new IllegalArgumentException("Payment cannot be null");
+        }
+        paymentStatuses.compute(payment.getPaymentId(), (id, previous) -> {
+            PaymentStatus status = payment.getStatus();
+            if (previous == status) {
+                return previous;
+            }
+            if (previous != null) {
+                paymentsByStatus.decrementAndGet(previous.ordinal());
+                paymentCentsByStatus.addAndGet(previous.ordinal(), -payment.getAmountCents());
+            }
+            paymentsByStatus.incrementAndGet(status.ordinal());
+            paymentCentsByStatus.addAndGet(status.ordinal(), payment.getAmountCents());
+            return status;
+        });
+    }
+
+    @Override
+    public void bookingCreated(Booking booking) {
+        record(booking);
+    }
+
+    @Override
+    public void bookingCancelled(Booking booking) {
+        record(booking);
+    }
+
+    @Override
+    public void paymentCreated(Payment payment) {
+        record(payment);
+    }
+
+    @Override
+    public void paymentProcessed(Payment payment) {
+        record(payment);
+    }
+
+    @Override
+    public void paymentFailed(Payment payment) {
+        record(payment);
+    }
+
+    public long getRoomsSold(LocalDate night) {
+        DayTotals day = days.get(night);
+        return day == null ? 0 : day.roomsSold.get();
+    }
+
+    public long getRoomsSold(LocalDate night, RoomType type) {
+        DayTotals day = days.get(night);
+        return day == null ? 0 : day.roomsSoldByType.get(type.ordinal());
+    }
+
+    public long getRevenueCents(LocalDate night) {
+        DayTotals day = days.get(night);
+        return day == null ? 0 : day.revenueCents.get();
+    }
+
+    public long getRevenueCents(LocalDate night, RoomType type) {
+        DayTotals day = days.get(night);
+        return day == null ? 0 : day.revenueCentsByType.get(type.ordinal());
+    }
+
+    public long getArrivals(LocalDate date) {
+        DayTotals day = days.get(date);
+        return day == null ? 0 : day.arrivals.get();
+    }
+
+    public long getDepartures(LocalDate date) {
+        DayTotals day = days.get(date);
+        return day == null ? 0 : day.departures.get();
+    }
+
+    public long getBookingCount() {
+        return stays.size();
+    }
+
+    public long getBookingCount(BookingStatus status) {
+        return bookingsByStatus.get(status.ordinal());
+    }
+
+    public long getPaymentCount(PaymentStatus status) {
+        return paymentsByStatus.get(status.ordinal());
+    }
+
+    public long getPaymentAmountCents(PaymentStatus status) {
+        return paymentCentsByStatus.get(status.ordinal());
+    }
+
+    private void apply(Stay stay, int sign) {
+        int type = stay.type.ordinal();
+        for (int night = 0; night < stay.nightlyCents.length; night++) {
+            DayTotals day = day(stay.checkIn.plusDays(night));
+            long revenue = sign * stay.nightlyCents[night];
+            day.roomsSold.addAndGet(sign);
+            day.roomsSoldByType.addAndGet(type, sign);
+            day.revenueCents.addAndGet(revenue);
+            day.revenueCentsByType.addAndGet(type, revenue);
+        }
+        day(stay.checkIn).arrivals.addAndGet(sign);
+        day(stay.checkIn.plusDays(stay.nightlyCents.length)).departures.addAndGet(sign);
+    }
+
+    private DayTotals day(LocalDate date) {
+        return days.computeIfAbsent(date, d -> new DayTotals());
+    }
+
+    private static final class Stay {
+        final RoomType type;
+        final LocalDate checkIn;
+        final long[] nightlyCents;
+        BookingStatus status;
+
+        Stay(Booking booking) {
+            this.type = booking.getRoom().getType();
+            this.checkIn = booking.getCheckInDate();
+            this.nightlyCents = nightlyCents(booking);
+        }
+    }
+
+    // Price of each night of the stay at the room's rates, as differences of
+    // running totals so the nights add up to exactly the stay price however
+    // the calendar rounds.
+    static long[] nightlyCents(Booking booking) {
+        LocalDate checkIn = booking.getCheckInDate();
+        long[] nightlyCents = new long[(int) (booking.getCheckOutDate().toEpochDay() - checkIn.toEpochDay())];
+        long before = 0;
+        for (int night = 0; night < nightlyCents.length; night++) {
+            long upTo = booking.getRoom().calculateStayPriceCents(checkIn, checkIn.plusDays(night + 1));
+            nightlyCents[night] = upTo - before;
+            before = upTo;
+        }
+        return nightlyCents;
+    }
+
+    private static final class DayTotals {
+        final AtomicLong roomsSold = new AtomicLong();
+        final AtomicLong revenueCents = new AtomicLong();
+        final AtomicLong arrivals = new AtomicLong();
+        final AtomicLong departures = new AtomicLong();
+        final AtomicLongArray roomsSoldByType = new AtomicLongArray(ROOM_TYPES.length);
+        final AtomicLongArray revenueCentsByType = new AtomicLongArray(ROOM_TYPES.length);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hotel.analytics;
+
+import com.hotel.model.RoomType;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class OccupancyReport {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int roomCount;
+    private final long roomNightsSold;
+    private final long revenueCents;
+    private final Map<RoomType, Long> revenueByRoomTypeCents;
+
+    OccupancyReport(LocalDate from, LocalDate to, int roomCount, long roomNightsSold, long revenueCents,
+                    long[] revenueByType) {
+        this.from = from;
+        this.to = to;
+        this.roomCount = roomCount;
+        this.roomNightsSold = roomNightsSold;
+        this.revenueCents = revenueCents;
+        Map<RoomType, Long> byType = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            byType.put(type, revenueByType[type.ordinal()]);
+        }
+        this.revenueByRoomTypeCents = Collections.unmodifiableMap(byType);
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public long getRoomNightsAvailable() {
+        return (long) roomCount * (to.toEpochDay() - from.toEpochDay());
+    }
+
+    public long getRoomNightsSold() {
+        return roomNightsSold;
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    public double getOccupancyRate() {
+        return (double) roomNightsSold / getRoomNightsAvailable();
+    }
+
+    public long getAverageDailyRateCents() {
+        return roomNightsSold == 0 ? 0 : Math.round((double) revenueCents / roomNightsSold);
+    }
+
+    public long getRevParCents() {
+        return Math.round((double) revenueCents / getRoomNightsAvailable());
+    }
+
+    public Map<RoomType, Long> getRevenueByRoomTypeCents() {
+        return revenueByRoomTypeCents;
+    }
+}
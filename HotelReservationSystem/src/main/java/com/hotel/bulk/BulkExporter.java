@@ -0,0 +1,268 @@
+package com.hotel.bulk;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Customer;
+import com.hotel.model.Money;
+import com.hotel.model.PaymentStatus;
+import com.hotel.model.Room;
+import com.hotel.repository.BookingRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes bookings, with their customer, room, price and payment status, as
+ * CSV or JSON Lines. Bookings are walked straight out of the repository's
+ * check-in index and each row is built in one reused builder and encoded
+ * into one reused buffer, so memory stays the same however long the history
+ * is. Rows come out in check-in order.
+ */
+public final class BulkExporter {
+    public enum Format {
+        CSV, JSONL
+    }
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final String CSV_HEADER = "bookingId,status,customerId,customerName,customerEmail,hotelId,"
+            + "roomNumber,roomType,checkIn,checkOut,nights,total,paymentStatus";
+
+    private final BookingRepository bookings;
+    private final Function<Booking, PaymentStatus> paymentStatus;
+
+    /**
+     * @param paymentStatus status of the booking's payment, or null if it
+     *                      has none
+     */
+    public BulkExporter(BookingRepository bookings, Function<Booking, PaymentStatus> paymentStatus) {
+        if (bookings == null || paymentStatus == null) {
+            throw new IllegalArgumentException("Exporter dependencies cannot be null");
+        }
+        this.bookings = bookings;
+        this.paymentStatus = paymentStatus;
+    }
+
+    /**
+     * Exports bookings checking in within [from, to), either bound null for
+     * no limit, to {@code file}, gzip-compressed if asked. Returns the number
+     * of bookings written.
+     */
+    public long export(Path file, Format format, LocalDate from, LocalDate to, boolean gzip) throws IOException {
+        try (WritableByteChannel channel = gzip
+                ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(open(file)), BUFFER_SIZE))
+                : open(file)) {
+            return export(channel, format, from, to);
+        }
+    }
+
+    /** Like {@link #export(Path, Format, LocalDate, LocalDate, boolean)}; leaves {@code out} open. */
+    public long export(WritableByteChannel out, Format format, LocalDate from, LocalDate to) throws IOException {
+        if (out == null || format == null) {
+            throw new IllegalArgumentException("Output and format cannot be null");
+        }
+        if (from != null && to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("Export range end must be after its start");
+        }
+        Writer writer = new Writer(out);
+        if (format == Format.CSV) {
+            writer.row().append(CSV_HEADER).append('\n');
+            writer.write();
+        }
+        long[] count = {0};
+        try {
+            bookings.forEachArrival(from, to, booking -> {
+                StringBuilder row = writer.row();
+                if (format == Format.CSV) {
+                    appendCsv(row, booking, paymentStatus.apply(booking));
+                } else {
+                    appendJson(row, booking, paymentStatus.apply(booking));
+                }
+                writer.write();
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        return count[0];
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    private static void appendCsv(StringBuilder row, Booking booking, PaymentStatus payment) {
+        Customer customer = booking.getCustomer();
+        Room room = booking.getRoom();
+        csvField(row, booking.getBookingId()).append(',').append(booking.getStatus()).append(',');
+        csvField(row, customer.getCustomerId()).append(',');
+        csvField(row, customer.getName()).append(',');
+        csvField(row, customer.getEmail()).append(',');
+        csvField(row, room.getHotel() == null ? "" : room.getHotel().getHotelId()).append(',');
+        csvField(row, room.getRoomNumber()).append(',').append(room.getType()).append(',');
+        appendDate(row, booking.getCheckInDate()).append(',');
+        appendDate(row, booking.getCheckOutDate()).append(',');
+        row.append(nights(booking)).append(',');
+        Money.appendTo(row, booking.calculateTotalPriceCents()).append(',');
+        if (payment != null) {
+            row.append(payment);
+        }
+        row.append('\n');
+    }
+
+    private static void appendJson(StringBuilder row, Booking booking, PaymentStatus payment) {
+        Customer customer = booking.getCustomer();
+        Room room = booking.getRoom();
+        jsonString(row.append("{\"bookingId\":"), booking.getBookingId());
+        row.append(",\"status\":\"").append(booking.getStatus()).append('"');
+        jsonString(row.append(",\"customerId\":"), customer.getCustomerId());
+        jsonString(row.append(",\"customerName\":"), customer.getName());
+        jsonString(row.append(",\"customerEmail\":"), customer.getEmail());
+        jsonString(row.append(",\"hotelId\":"), room.getHotel() == null ? null : room.getHotel().getHotelId());
+        jsonString(row.append(",\"roomNumber\":"), room.getRoomNumber());
+        row.append(",\"roomType\":\"").append(room.getType()).append('"');
+        appendDate(row.append(",\"checkIn\":\""), booking.getCheckInDate()).append('"');
+        appendDate(row.append(",\"checkOut\":\""), booking.getCheckOutDate()).append('"');
+        row.append(",\"nights\":").append(nights(booking));
+        row.append(",\"totalCents\":").append(booking.calculateTotalPriceCents());
+        row.append(",\"paymentStatus\":");
+        if (payment == null) {
+            row.append("null");
+        } else {
+            row.append('"').append(payment).append('"');
+        }
+        row.append("}\n");
+    }
+
+    private static long nights(Booking booking) {
+        return booking.getCheckOutDate().toEpochDay() - booking.getCheckInDate().toEpochDay();
+    }
+
+    private static StringBuilder appendDate(StringBuilder out, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            return out.append(date);
+        }
+        out.append(year).append('-');
+        if (date.getMonthValue() < 10) {
+            out.append('0');
+        }
+        out.append(date.getMonthValue()).append('-');
+        if (date.getDayOfMonth() < 10) {
+            out.append('0');
+        }
+        return out.append(date.getDayOfMonth());
+    }
+
+    private static StringBuilder csvField(StringBuilder out, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return out.append(value);
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+
+    private static StringBuilder jsonString(StringBuilder out, String value) {
+        if (value == null) {
+            return out.append("null");
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '\r') {
+                out.append("\\r");
+            } else if (c == '\t') {
+                out.append("\\t");
+            } else if (c < 0x20) {
+                out.append(String.format("\\u%04x", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.append('"');
+    }
+
+    // Encodes rows into one byte buffer and hands it to the channel only
+    // when it is full.
+    private static final class Writer {
+        private final WritableByteChannel out;
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        private final StringBuilder row = new StringBuilder(256);
+        private char[] chars = new char[256];
+
+        Writer(WritableByteChannel out) {
+            this.out = out;
+        }
+
+        StringBuilder row() {
+            row.setLength(0);
+            return row;
+        }
+
+        void write() {
+            int length = row.length();
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            row.getChars(0, length, chars, 0);
+            CharBuffer input = CharBuffer.wrap(chars, 0, length);
+            try {
+                while (true) {
+                    CoderResult result = encoder.encode(input, bytes, false);
+                    if (result.isOverflow()) {
+                        drain();
+                    } else if (result.isUnderflow()) {
+                        return;
+                    } else {
+                        result.throwException();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            encoder.encode(CharBuffer.allocate(0), bytes, true);
+            encoder.flush(bytes);
+            drain();
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
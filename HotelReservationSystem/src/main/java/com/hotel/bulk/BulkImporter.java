@@ -0,0 +1,389 @@
+package com.hotel.bulk;
+
+import com.hotel.exception.BookingBatchException;
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.model.*;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
+import com.hotel.service.BookingRequest;
+import com.hotel.service.BookingService;
+import com.hotel.service.CustomerService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Loads rooms, customers and bookings from CSV files into a running hotel.
+ * Each file is streamed in chunks: rows are checked and converted in
+ * parallel, then handed to the services one chunk at a time. A bad row is
+ * reported with its file and line and skipped; the rest still load.
+ *
+ * <p>Columns, with an optional header row:
+ * <ul>
+ *   <li>rooms: {@code roomNumber,type,pricePerNight}</li>
+ *   <li>customers: {@code customerId,name,email}</li>
+ *   <li>bookings: {@code bookingId,customerId,roomNumber,checkIn,checkOut[,status]}
+ *       with ISO dates; stays may be in the past</li>
+ * </ul>
+ */
+public final class BulkImporter {
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+    private final Hotel hotel;
+    private final CustomerRepository customers;
+    private final BookingRepository bookings;
+    private final CustomerService customerService;
+    private final BookingService bookingService;
+    private final Consumer<String> errors;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** @param errors receives one "file:line: problem" message per rejected row */
+    public BulkImporter(Hotel hotel, CustomerRepository customers, BookingRepository bookings,
+                        CustomerService customerService, BookingService bookingService, Consumer<String> errors) {
+        if (hotel == null || customers == null || bookings == null || customerService == null
+                || bookingService == null || errors == null) {
+            throw new IllegalArgumentException("Importer dependencies cannot be null");
+        }
+        this.hotel = hotel;
+        this.customers = customers;
+        this.bookings = bookings;
+        this.customerService = customerService;
+        this.bookingService = bookingService;
+        this.errors = errors;
+    }
+
+    public BulkImporter batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Result importRooms(Path file) throws IOException {
+        return importFile(file, "roomNumber", 3, fields -> {
+            RoomType type = parseType(fields[1]);
+            return Room.ofCents(fields[0].trim(), type, Money.parse(fields[2]));
+        }, (rows, result) -> {
+            for (Row<Room> row : rows) {
+                if (hotel.findRoom(row.value.getRoomNumber()) != null) {
+                    result.reject(row.line, "Room " + row.value.getRoomNumber() + " already exists");
+                } else {
+                    hotel.addRoom(row.value);
+                    result.imported++;
+                }
+            }
+        });
+    }
+
+    public Result importCustomers(Path file) throws IOException {
+        return importFile(file, "customerId", 3, fields -> new Customer(fields[0].trim(), fields[1], fields[2].trim()),
+            (rows, result) -> {
+                for (Row<Customer> row : rows) {
+                    try {
+                        customerService.registerCustomer(row.value);
+                        result.imported++;
+                    } catch (DuplicateCustomerException | IllegalArgumentException e) {
+                        result.reject(row.line, e.getMessage());
+                    }
+                }
+            });
+    }
+
+    public Result importBookings(Path file) throws IOException {
+        return importFile(file, "bookingId", 5, this::parseBooking, this::loadBookings);
+    }
+
+    // Runs on the fork-join pool, so it only reads shared state.
+    private ImportedBooking parseBooking(String[] fields) {
+        String bookingId = fields[0].trim();
+        if (bookings.findById(bookingId) != null) {
+            throw new IllegalArgumentException("Booking " + bookingId + " already exists");
+        }
+        Customer customer = customers.findById(fields[1].trim());
+        if (customer == null) {
+            throw new IllegalArgumentException("Unknown customer " + fields[1].trim());
+        }
+        Room room = hotel.findRoom(fields[2].trim());
+        if (room == null) {
+            throw new IllegalArgumentException("Unknown room " + fields[2].trim());
+        }
+        LocalDate checkIn = parseDate(fields[3]);
+        LocalDate checkOut = parseDate(fields[4]);
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Invalid check-in/check-out dates");
+        }
+        if (!room.isAvailable(checkIn, checkOut)) {
+            throw new IllegalArgumentException("Room " + room.getRoomNumber() + " is already booked from " + checkIn);
+        }
+        boolean cancelled = false;
+        if (fields.length > 5 && !fields[5].isBlank()) {
+            cancelled = parseStatus(fields[5]) == BookingStatus.CANCELLED;
+        }
+        return new ImportedBooking(new BookingRequest(bookingId, customer, room, checkIn, checkOut), cancelled);
+    }
+
+    // A cancelled booking never held its nights, so each cancelled row is
+    // booked and cancelled on its own first; a confirmed rebooking of the
+    // same room and dates later in the chunk then no longer collides with it.
+    // Parsing only saw earlier chunks, so ids repeated within this one are
+    // caught here: only the first row with an id is booked.
+    private void loadBookings(List<Row<ImportedBooking>> rows, Result result) {
+        List<Row<ImportedBooking>> confirmed = new ArrayList<>(rows.size());
+        Set<String> ids = new HashSet<>();
+        for (Row<ImportedBooking> row : rows) {
+            String bookingId = row.value.request.getBookingId();
+            if (!ids.add(bookingId) || bookings.findById(bookingId) != null) {
+                result.reject(row.line, "Booking " + bookingId + " already exists");
+                continue;
+            }
+            if (!row.value.cancelled) {
+                confirmed.add(row);
+                continue;
+            }
+            Booking booking;
+            try {
+                booking = bookingService.importBookings(List.of(row.value.request)).get(0);
+            } catch (InvalidBookingException e) {
+                result.reject(row.line, reason(e));
+                continue;
+            }
+            // The booking is journaled by now, so it is kept either way.
+            bookings.add(booking);
+            try {
+                bookingService.cancelBooking(booking);
+            } catch (InvalidBookingException e) {
+                result.reject(row.line, "Booking " + booking.getBookingId()
+                        + " was created but could not be cancelled: " + e.getMessage());
+                continue;
+            }
+            result.imported++;
+        }
+        loadConfirmed(confirmed, result);
+    }
+
+    // The rows go through in one batch. A refused batch is split in half
+    // until the refused rows are found, so a bad row costs a few batches
+    // rather than one batch, and one journal sync, per row in the chunk.
+    private void loadConfirmed(List<Row<ImportedBooking>> rows, Result result) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<BookingRequest> requests = new ArrayList<>(rows.size());
+        for (Row<ImportedBooking> row : rows) {
+            requests.add(row.value.request);
+        }
+        List<Booking> created;
+        try {
+            created = bookingService.importBookings(requests);
+        } catch (InvalidBookingException e) {
+            if (rows.size() == 1) {
+                result.reject(rows.get(0).line, reason(e));
+                return;
+            }
+            int half = rows.size() / 2;
+            loadConfirmed(rows.subList(0, half), result);
+            loadConfirmed(rows.subList(half, rows.size()), result);
+            return;
+        }
+        for (Booking booking : created) {
+            bookings.add(booking);
+            result.imported++;
+        }
+    }
+
+    private <T> Result importFile(Path file, String headerColumn, int columns, Parser<T> parser,
+                                  Loader<T> loader) throws IOException {
+        Result result = new Result(file.getFileName().toString());
+        long start = System.nanoTime();
+        String[][] chunk = new String[batchSize][];
+        long[] lines = new long[batchSize];
+        int size = 0;
+        try (CsvReader csv = CsvReader.open(file)) {
+            boolean first = true;
+            while (csv.next()) {
+                if (first) {
+                    first = false;
+                    if (csv.get(0).trim().equalsIgnoreCase(headerColumn)) {
+                        continue;
+                    }
+                }
+                result.rows++;
+                if (csv.getFieldCount() < columns) {
+                    result.reject(csv.getLineNumber(), "Expected " + columns + " fields but found " + csv.getFieldCount());
+                    continue;
+                }
+                chunk[size] = csv.toArray();
+                lines[size++] = csv.getLineNumber();
+                if (size == batchSize) {
+                    loadChunk(chunk, lines, size, parser, loader, result);
+                    size = 0;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Broken quoting leaves no reliable place to resume from.
+            result.reject(0, e.getMessage());
+        }
+        loadChunk(chunk, lines, size, parser, loader, result);
+        result.elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private <T> void loadChunk(String[][] chunk, long[] lines, int size, Parser<T> parser, Loader<T> loader,
+                               Result result) {
+        if (size == 0) {
+            return;
+        }
+        Object[] values = new Object[size];
+        String[] problems = new String[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                values[i] = parser.parse(chunk[i]);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                problems[i] = e.getMessage();
+            }
+        });
+        List<Row<T>> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (problems[i] != null) {
+                result.reject(lines[i], problems[i]);
+            } else {
+                @SuppressWarnings("unchecked")
+                T value = (T) values[i];
+                rows.add(new Row<>(lines[i], value));
+            }
+            chunk[i] = null;
+        }
+        loader.load(rows, result);
+    }
+
+    private static RoomType parseType(String text) {
+        try {
+            return RoomType.valueOf(text.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown room type " + text.trim());
+        }
+    }
+
+    private static BookingStatus parseStatus(String text) {
+        try {
+            return BookingStatus.valueOf(text.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown booking status " + text.trim());
+        }
+    }
+
+    /** Reads yyyy-MM-dd by hand; a formatter costs far more per row. */
+    static LocalDate parseDate(String text) {
+        String date = text.trim();
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            throw new IllegalArgumentException("Invalid date " + date + ", expected yyyy-MM-dd");
+        }
+        try {
+            return LocalDate.of(digits(date, 0, 4), digits(date, 5, 7), digits(date, 8, 10));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date " + date + ": " + e.getMessage());
+        }
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid date " + text + ", expected yyyy-MM-dd");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // Batch errors read "Request 0 (BOOK1): reason"; a single-row batch
+    // only needs the reason.
+    private static String reason(InvalidBookingException e) {
+        if (e instanceof BookingBatchException && !((BookingBatchException) e).getErrors().isEmpty()) {
+            String error = ((BookingBatchException) e).getErrors().get(0);
+            int colon = error.indexOf("): ");
+            return colon >= 0 ? error.substring(colon + 3) : error;
+        }
+        return e.getMessage();
+    }
+
+    private interface Parser<T> {
+        T parse(String[] fields);
+    }
+
+    private interface Loader<T> {
+        void load(List<Row<T>> rows, Result result);
+    }
+
+    private static final class Row<T> {
+        final long line;
+        final T value;
+
+        Row(long line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    private static final class ImportedBooking {
+        final BookingRequest request;
+        final boolean cancelled;
+
+        ImportedBooking(BookingRequest request, boolean cancelled) {
+            this.request = request;
+            this.cancelled = cancelled;
+        }
+    }
+
+    /** Row counts for one imported file. */
+    public final class Result {
+        private final String file;
+        private long rows;
+        private long imported;
+        private long rejected;
+        private Duration elapsed = Duration.ZERO;
+
+        private Result(String file) {
+            this.file = file;
+        }
+
+        private void reject(long line, String problem) {
+            rejected++;
+            errors.accept(line > 0 ? file + ":" + line + ": " + problem : file + ": " + problem);
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d rows, %d imported, %d rejected in %.1f s",
+                    file, rows, imported, rejected, elapsed.toNanos() / 1e9);
+        }
+    }
+}
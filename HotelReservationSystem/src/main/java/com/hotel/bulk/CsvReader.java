@@ -0,0 +1,279 @@
+package com.hotel.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streams RFC 4180 records out of one reused byte buffer. Lines are never
+ * turned into strings: {@link #next()} only notes where each field starts
+ * and ends, and a field is decoded when it is asked for. Quoted fields may
+ * hold commas, doubled quotes and line breaks; text is UTF-8 and blank lines
+ * are skipped. Not thread-safe.
+ */
+public final class CsvReader implements Closeable {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private byte[] buffer;
+    private ByteBuffer window;
+    private int limit;
+    private boolean eof;
+    private boolean started;
+    private int recordStart;
+    private int recordEnd;
+    private long lineNumber;
+    private long nextLineNumber = 1;
+    private long newlinesInRecord;
+    private int fieldCount;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+
+    public CsvReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvReader(ReadableByteChannel channel, int bufferSize) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.window = ByteBuffer.wrap(buffer);
+    }
+
+    public static CsvReader open(Path file) throws IOException {
+        return new CsvReader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Moves to the next record. Returns false at the end of the input and
+     * throws {@link IllegalArgumentException} for malformed quoting.
+     */
+    public boolean next() throws IOException {
+        if (!started) {
+            started = true;
+            skipByteOrderMark();
+        }
+        while (true) {
+            recordStart = recordEnd;
+            lineNumber = nextLineNumber;
+            int end = scan();
+            while (end < 0) {
+                if (eof) {
+                    return false;
+                }
+                fill();
+                end = scan();
+            }
+            recordEnd = end;
+            nextLineNumber = lineNumber + 1 + newlinesInRecord;
+            if (fieldCount > 1 || starts[0] != ends[0] || escaped[0]) {
+                return true;
+            }
+        }
+    }
+
+    /** Line on which the current record starts, counting from 1. */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public String get(int field) {
+        checkField(field);
+        int start = starts[field];
+        int end = ends[field];
+        if (!escaped[field]) {
+            return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] unquoted = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            unquoted[length++] = buffer[i];
+            if (buffer[i] == '"') {
+                i++;
+            }
+        }
+        return new String(unquoted, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /** Reads a whole-number field straight from the bytes. */
+    public long getLong(int field) {
+        checkField(field);
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = i < end && buffer[i] == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end) {
+            throw new IllegalArgumentException("Field " + (field + 1) + " is not a number");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Field " + (field + 1) + " is not a number");
+            }
+            value = Math.addExact(Math.multiplyExact(value, 10), digit);
+        }
+        return negative ? -value : value;
+    }
+
+    public String[] toArray() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = get(i);
+        }
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Finds the fields of the record at recordStart and returns where the
+    // next record begins, or -1 if the buffer ends first and more input
+    // might follow. Scanning restarts from the record start after a fill.
+    private int scan() {
+        int p = recordStart;
+        if (p == limit && eof) {
+            return -1;
+        }
+        int count = 0;
+        long newlines = 0;
+        while (true) {
+            int start;
+            int end;
+            boolean doubled = false;
+            if (p < limit && buffer[p] == '"') {
+                start = ++p;
+                while (true) {
+                    if (p >= limit) {
+                        if (eof) {
+                            throw error("Unterminated quoted field");
+                        }
+                        return -1;
+                    }
+                    byte b = buffer[p];
+                    if (b == '"') {
+                        if (p + 1 >= limit && !eof) {
+                            return -1;
+                        }
+                        if (p + 1 < limit && buffer[p + 1] == '"') {
+                            doubled = true;
+                            p += 2;
+                            continue;
+                        }
+                        end = p++;
+                        break;
+                    }
+                    if (b == '\n') {
+                        newlines++;
+                    }
+                    p++;
+                }
+                if (p < limit && buffer[p] == '\r') {
+                    if (p + 1 >= limit && !eof) {
+                        return -1;
+                    }
+                    p++;
+                    if (p < limit && buffer[p] != '\n') {
+                        throw error("Unexpected character after quoted field");
+                    }
+                }
+                if (p < limit && buffer[p] != ',' && buffer[p] != '\n') {
+                    throw error("Unexpected character after quoted field");
+                }
+            } else {
+                start = p;
+                while (p < limit && buffer[p] != ',' && buffer[p] != '\n') {
+                    p++;
+                }
+                if (p >= limit && !eof) {
+                    return -1;
+                }
+                end = p;
+                if (end > start && buffer[end - 1] == '\r' && (p >= limit || buffer[p] == '\n')) {
+                    end--;
+                }
+            }
+            addField(count++, start, end, doubled);
+            if (p >= limit) {
+                fieldCount = count;
+                newlinesInRecord = newlines;
+                return limit;
+            }
+            if (buffer[p] == '\n') {
+                fieldCount = count;
+                newlinesInRecord = newlines;
+                return p + 1;
+            }
+            p++;
+        }
+    }
+
+    // Spreadsheet exports often start with a UTF-8 byte order mark.
+    private void skipByteOrderMark() throws IOException {
+        while (limit < 3 && !eof) {
+            fill();
+        }
+        if (limit >= 3 && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+            recordEnd = 3;
+        }
+    }
+
+    private void addField(int index, int start, int end, boolean doubled) {
+        if (index == starts.length) {
+            starts = Arrays.copyOf(starts, index * 2);
+            ends = Arrays.copyOf(ends, index * 2);
+            escaped = Arrays.copyOf(escaped, index * 2);
+        }
+        starts[index] = start;
+        ends[index] = end;
+        escaped[index] = doubled;
+    }
+
+    // Moves the unread tail to the front, or doubles the buffer when one
+    // record fills all of it, then reads more.
+    private void fill() throws IOException {
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, limit - recordStart);
+            limit -= recordStart;
+            recordEnd -= recordStart;
+            recordStart = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            window = ByteBuffer.wrap(buffer);
+        }
+        window.limit(buffer.length).position(limit);
+        int read = channel.read(window);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new IllegalArgumentException("Line " + lineNumber + " has no field " + (field + 1));
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+}
@@ -0,0 +1,296 @@
+package com.hotel.event;
+
+import com.hotel.metrics.Counter;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.model.Booking;
+import com.hotel.model.Payment;
+import com.hotel.model.Room;
+import com.hotel.service.BookingEventListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands booking, payment and room changes to subscribers on their own
+ * threads, so the thread making a change only pays for a slot write.
+ * Register the bus with the services and hotels whose changes it should
+ * carry; it is their listener.
+ *
+ * <p>Events go into a ring of slots allocated up front. Producers claim a
+ * sequence number, fill the matching slot and publish it by storing the
+ * sequence into it. Each subscriber walks the ring with its own cursor and
+ * a producer only waits when it would overwrite a slot the slowest
+ * subscriber has not read yet. Subscribers see every event published after
+ * they subscribed, in sequence order.
+ */
+public final class EventBus implements BookingEventListener, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final int SPIN_TRIES = 100;
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+    private static final Counter LISTENER_ERRORS = MetricsRegistry.getDefault()
+            .counter("hotel_event_listener_errors_total", "Event bus subscribers that threw");
+
+    private enum Type {
+        BOOKING_CREATED, BOOKING_CANCELLED, PAYMENT_CREATED, PAYMENT_PROCESSED, PAYMENT_FAILED, ROOM_ADDED, ROOM_CHANGED
+    }
+
+    private static final class Slot {
+        volatile long sequence = -1;
+        Type type;
+        Object subject;
+    }
+
+    private final Slot[] ring;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    // Lowest subscriber cursor seen on the last check, so producers only
+    // walk the subscriptions when the ring might be full.
+    private volatile long gatingSequence;
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** @param capacity slots in the ring; a power of two. */
+    public EventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        ring = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Slot();
+        }
+        mask = capacity - 1;
+    }
+
+    public Subscription subscribe(String name, BookingEventListener listener) {
+        return subscribe(name, listener, null);
+    }
+
+    /**
+     * Starts a thread that feeds {@code listener} every event published from
+     * now on. {@code onBatchEnd}, if given, runs on that thread whenever the
+     * subscriber has caught up, which makes it the place to coalesce work
+     * such as repainting a screen. Callbacks must not make changes that
+     * publish back into this bus: with the ring full they would wait on
+     * themselves.
+     */
+    public Subscription subscribe(String name, BookingEventListener listener, Runnable onBatchEnd) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Subscription name cannot be empty");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        Subscription subscription = new Subscription(name, listener, onBatchEnd, claimed.get());
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    /** Stops every subscriber once it has handled the events already published. */
+    @Override
+    public void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    @Override
+    public void bookingCreated(Booking booking) {
+        publish(Type.BOOKING_CREATED, booking);
+    }
+
+    @Override
+    public void bookingCancelled(Booking booking) {
+        publish(Type.BOOKING_CANCELLED, booking);
+    }
+
+    @Override
+    public void paymentCreated(Payment payment) {
+        publish(Type.PAYMENT_CREATED, payment);
+    }
+
+    @Override
+    public void paymentProcessed(Payment payment) {
+        publish(Type.PAYMENT_PROCESSED, payment);
+    }
+
+    @Override
+    public void paymentFailed(Payment payment) {
+        publish(Type.PAYMENT_FAILED, payment);
+    }
+
+    @Override
+    public void roomAdded(Room room) {
+        publish(Type.ROOM_ADDED, room);
+    }
+
+    @Override
+    public void roomChanged(Room room) {
+        publish(Type.ROOM_CHANGED, room);
+    }
+
+    private void publish(Type type, Object subject) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        awaitSlot(sequence);
+        Slot slot = ring[(int) sequence & mask];
+        slot.type = type;
+        slot.subject = subject;
+        slot.sequence = sequence;
+        for (Subscription subscription : subscriptions) {
+            if (subscription.sleeping) {
+                LockSupport.unpark(subscription.thread);
+            }
+        }
+    }
+
+    // The slot for sequence last held sequence - capacity; it can be reused
+    // once every subscriber has moved past that.
+    private void awaitSlot(long sequence) {
+        long wrapPoint = sequence - ring.length;
+        if (wrapPoint < gatingSequence) {
+            return;
+        }
+        for (int tries = 0; ; tries++) {
+            long lowest = sequence;
+            for (Subscription subscription : subscriptions) {
+                lowest = Math.min(lowest, subscription.next.get());
+            }
+            gatingSequence = lowest;
+            if (wrapPoint < lowest) {
+                return;
+            }
+            if (tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1_000);
+            }
+        }
+    }
+
+    /** A subscriber's thread and cursor; close it to unsubscribe. */
+    public final class Subscription implements AutoCloseable {
+        private final BookingEventListener listener;
+        private final Runnable onBatchEnd;
+        private final AtomicLong next;
+        private final Thread thread;
+        private volatile boolean running = true;
+        private volatile boolean sleeping;
+
+        private Subscription(String name, BookingEventListener listener, Runnable onBatchEnd, long start) {
+            this.listener = listener;
+            this.onBatchEnd = onBatchEnd;
+            this.next = new AtomicLong(start);
+            this.thread = new Thread(this::run, "event-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        /** Sequence of the next event this subscriber will handle. */
+        public long getPosition() {
+            return next.get();
+        }
+
+        /**
+         * Handles whatever has already been published, then stops the
+         * thread and waits for it.
+         */
+        @Override
+        public void close() {
+            running = false;
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != thread) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            subscriptions.remove(this);
+        }
+
+        private void run() {
+            long sequence = next.get();
+            boolean inBatch = false;
+            int idle = 0;
+            while (true) {
+                Slot slot = ring[(int) sequence & mask];
+                if (slot.sequence == sequence) {
+                    deliver(slot.type, slot.subject);
+                    next.lazySet(++sequence);
+                    inBatch = true;
+                    idle = 0;
+                    continue;
+                }
+                if (inBatch) {
+                    inBatch = false;
+                    endBatch();
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+                if (idle++ < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                // Producers unpark sleeping subscribers, so set the flag
+                // before the last look at the slot to avoid a lost wake-up.
+                sleeping = true;
+                if (slot.sequence != sequence && running) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+
+        private void deliver(Type type, Object subject) {
+            try {
+                switch (type) {
+                    case BOOKING_CREATED:
+                        listener.bookingCreated((Booking) subject);
+                        break;
+                    case BOOKING_CANCELLED:
+                        listener.bookingCancelled((Booking) subject);
+                        break;
+                    case PAYMENT_CREATED:
+                        listener.paymentCreated((Payment) subject);
+                        break;
+                    case PAYMENT_PROCESSED:
+                        listener.paymentProcessed((Payment) subject);
+                        break;
+                    case PAYMENT_FAILED:
+                        listener.paymentFailed((Payment) subject);
+                        break;
+                    case ROOM_ADDED:
+                        listener.roomAdded((Room) subject);
+                        break;
+                    case ROOM_CHANGED:
+                        listener.roomChanged((Room) subject);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown event type " + type);
+                }
+            } catch (RuntimeException e) {
+                // One bad subscriber must not stall the ring for the others.
+                LISTENER_ERRORS.increment();
+            }
+        }
+
+        private void endBatch() {
+            if (onBatchEnd == null) {
+                return;
+            }
+            try {
+                onBatchEnd.run();
+            } catch (RuntimeException e) {
+                LISTENER_ERRORS.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hotel.exception;
+
+import java.util.Collections;
+import java.util.List;
+
+public class BookingBatchException extends InvalidBookingException {
+    private final List<String> errors;
+
+    public BookingBatchException(List<String> errors) {
+        super("Failed to create " + errors.size() + " booking(s) in batch: " + String.join("; ", errors));
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public BookingBatchException(List<String> errors, Throwable cause) {
+        super("Failed to create " + errors.size() + " booking(s) in batch: " + String.join("; ", errors), cause);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
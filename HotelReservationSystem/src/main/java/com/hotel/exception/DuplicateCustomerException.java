@@ -0,0 +1,7 @@
+package com.hotel.exception;
+
+public class DuplicateCustomerException extends RuntimeException {
+    public DuplicateCustomerException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hotel.exception;
+
+/**
+ * The gateway gave its answer but the outcome could not be written to the
+ * journal. The payment is left as it was, so a charge that did go through
+ * must be reconciled with the gateway rather than simply retried.
+ */
+public class PaymentPersistenceException extends InvalidPaymentException {
+    public PaymentPersistenceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hotel.jfr;
+
+import com.hotel.model.RoomType;
+import java.time.LocalDate;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One availability search. Searches are frequent, so no stack trace is
+ * taken; enable a threshold in the recording settings to keep only slow
+ * ones.
+ */
+@Name("com.hotel.AvailabilitySearch")
+@Label("Availability Search")
+@Category({"Hotel Reservation", "Availability"})
+@Description("Rooms of one type were searched for availability")
+@StackTrace(false)
+public final class AvailabilitySearchEvent extends Event {
+    @Label("Hotel ID")
+    String hotelId;
+
+    @Label("Room Type")
+    String roomType;
+
+    @Label("Check-in")
+    String checkIn;
+
+    @Label("Nights")
+    int nights;
+
+    @Label("Rooms Found")
+    int roomsFound;
+
+    public void complete(String hotelId, RoomType type, LocalDate checkIn, LocalDate checkOut, int roomsFound) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.hotelId = hotelId;
+        this.roomType = type.name();
+        this.checkIn = checkIn == null ? null : checkIn.toString();
+        this.nights = Events.nights(checkIn, checkOut);
+        this.roomsFound = roomsFound;
+        commit();
+    }
+}
@@ -0,0 +1,48 @@
+package com.hotel.jfr;
+
+import com.hotel.model.Booking;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.hotel.BookingCancel")
+@Label("Booking Cancel")
+@Category({"Hotel Reservation", "Booking"})
+@Description("A booking was cancelled or the cancellation was rejected")
+public final class BookingCancelEvent extends Event {
+    @Label("Booking ID")
+    String bookingId;
+
+    @Label("Hotel ID")
+    String hotelId;
+
+    @Label("Room Type")
+    String roomType;
+
+    @Label("Nights")
+    int nights;
+
+    @Label("Result")
+    String result;
+
+    @Label("Message")
+    String message;
+
+    public void complete(Booking booking, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        if (booking != null) {
+            this.bookingId = booking.getBookingId();
+            this.hotelId = Events.hotelIdOf(booking.getRoom());
+            this.roomType = booking.getRoom().getType().name();
+            this.nights = Events.nights(booking.getCheckInDate(), booking.getCheckOutDate());
+        }
+        this.result = failure == null ? "CANCELLED" : "REJECTED";
+        this.message = failure == null ? null : failure.getMessage();
+        commit();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hotel.jfr;
+
+import com.hotel.model.Room;
+import java.time.LocalDate;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One call to {@code BookingService.createBooking}, from validation to the
+ * journal write. Use it like every event in this package: {@link #begin()}
+ * before the work, then {@link #complete} once it is done. The fields are
+ * only filled in when a recording wants the event, so with JFR off the
+ * whole thing compiles down to nothing.
+ */
+@Name("com.hotel.BookingCreate")
+@Label("Booking Create")
+@Category({"Hotel Reservation", "Booking"})
+@Description("A booking was created or rejected")
+public final class BookingCreateEvent extends Event {
+    @Label("Booking ID")
+    String bookingId;
+
+    @Label("Hotel ID")
+    String hotelId;
+
+    @Label("Room Number")
+    String roomNumber;
+
+    @Label("Room Type")
+    String roomType;
+
+    @Label("Nights")
+    int nights;
+
+    @Label("Result")
+    String result;
+
+    @Label("Message")
+    String message;
+
+    public void complete(String bookingId, Room room, LocalDate checkIn, LocalDate checkOut, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.bookingId = bookingId;
+        if (room != null) {
+            this.hotelId = Events.hotelIdOf(room);
+            this.roomNumber = room.getRoomNumber();
+            this.roomType = room.getType().name();
+        }
+        this.nights = Events.nights(checkIn, checkOut);
+        this.result = failure == null ? "CREATED" : "REJECTED";
+        this.message = failure == null ? null : failure.getMessage();
+        commit();
+    }
+}
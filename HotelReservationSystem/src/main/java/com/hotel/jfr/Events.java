@@ -0,0 +1,20 @@
+package com.hotel.jfr;
+
+import com.hotel.model.Room;
+import java.time.LocalDate;
+
+final class Events {
+    private Events() {
+    }
+
+    static String hotelIdOf(Room room) {
+        return room.getHotel() == null ? null : room.getHotel().getHotelId();
+    }
+
+    static int nights(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            return 0;
+        }
+        return (int) (checkOut.toEpochDay() - checkIn.toEpochDay());
+    }
+}
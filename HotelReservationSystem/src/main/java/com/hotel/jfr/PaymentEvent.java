@@ -0,0 +1,54 @@
+package com.hotel.jfr;
+
+import com.hotel.model.Payment;
+import com.hotel.model.PaymentStatus;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One charge attempt, gateway round-trip included.
+ */
+@Name("com.hotel.Payment")
+@Label("Payment")
+@Category({"Hotel Reservation", "Payment"})
+@Description("A payment was charged, declined or failed")
+public final class PaymentEvent extends Event {
+    @Label("Payment ID")
+    String paymentId;
+
+    @Label("Booking ID")
+    String bookingId;
+
+    @Label("Hotel ID")
+    String hotelId;
+
+    @Label("Amount (cents)")
+    long amountCents;
+
+    @Label("Result")
+    String result;
+
+    @Label("Message")
+    String message;
+
+    public void complete(Payment payment, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.paymentId = payment.getPaymentId();
+        this.bookingId = payment.getBooking().getBookingId();
+        this.hotelId = Events.hotelIdOf(payment.getBooking().getRoom());
+        this.amountCents = payment.getAmountCents();
+        if (failure == null) {
+            this.result = "COMPLETED";
+        } else {
+            this.result = payment.getStatus() == PaymentStatus.FAILED ? "FAILED" : "REJECTED";
+        }
+        this.message = failure == null ? null : failure.getMessage();
+        commit();
+    }
+}
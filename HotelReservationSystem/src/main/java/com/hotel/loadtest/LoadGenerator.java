@@ -0,0 +1,417 @@
+package com.hotel.loadtest;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.exception.InvalidPaymentException;
+import com.hotel.metrics.Counter;
+import com.hotel.metrics.LatencyHistogram;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import com.hotel.service.PaymentService;
+import com.hotel.service.StubPaymentGateway;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Drives a synthetic hotel through {@link BookingService} and
+ * {@link PaymentService} from N worker threads and reports throughput and
+ * p50/p99/p99.9 latency per operation. Workers pick searches, bookings,
+ * cancellations and payments at random in the configured mix; a worker
+ * only cancels or pays for bookings it made itself, so no two workers ever
+ * touch the same booking.
+ *
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.hotel.loadtest.LoadGenerator \
+ *     -Dexec.args="--rooms SINGLE=6000,DOUBLE=3000,SUITE=1000 --customers 50000 --threads 8 --seconds 30"
+ * </pre>
+ */
+public final class LoadGenerator {
+    public enum Operation {
+        SEARCH, BOOK, CANCEL, PAY
+    }
+
+    private final Config config;
+
+    public LoadGenerator(Config config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config config = Config.parse(args);
+        LoadGenerator generator = new LoadGenerator(config);
+        System.out.println("Hotel of " + config.totalRooms() + " rooms " + config.rooms + ", "
+                + config.customers + " customers, " + config.threads + " threads, mix " + config.mix);
+        if (config.warmupSeconds > 0) {
+            generator.run(Duration.ofSeconds(config.warmupSeconds));
+        }
+        generator.run(Duration.ofSeconds(config.seconds)).print(System.out);
+    }
+
+    /**
+     * Builds a fresh hotel and runs the workers against it for
+     * {@code duration}.
+     */
+    public Report run(Duration duration) throws InterruptedException {
+        Hotel hotel = buildHotel();
+        Customer[] customers = new Customer[config.customers];
+        for (int i = 0; i < customers.length; i++) {
+            customers[i] = new Customer("LOAD" + i, "Guest " + i, "guest" + i + "@load.test");
+        }
+        BookingService bookingService = new BookingService();
+        MetricsRegistry registry = new MetricsRegistry();
+        Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, Counter> failures = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            String name = operation.name().toLowerCase();
+            latencies.put(operation, registry.histogram("load_" + name + "_seconds", ""));
+            failures.put(operation, registry.counter("load_" + name + "_failures_total", ""));
+        }
+
+        try (PaymentService paymentService = new PaymentService(null,
+                new StubPaymentGateway(Duration.ofMillis(config.gatewayLatencyMillis)))) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>(config.threads);
+            long[] deadline = new long[1];
+            SplittableRandom seeds = new SplittableRandom(config.seed);
+            for (int t = 0; t < config.threads; t++) {
+                Worker worker = new Worker(hotel, customers, bookingService, paymentService, latencies, failures,
+                        seeds.split());
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    worker.runUntil(deadline[0]);
+                }, "load-" + t);
+                workers.add(thread);
+                thread.start();
+            }
+            long started = System.nanoTime();
+            deadline[0] = started + duration.toNanos();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            return new Report(Duration.ofNanos(System.nanoTime() - started), latencies, failures);
+        }
+    }
+
+    private Hotel buildHotel() {
+        Hotel hotel = new Hotel("LOAD", "Load Test Hotel", "Nowhere");
+        for (Map.Entry<RoomType, Integer> entry : config.rooms.entrySet()) {
+            RoomType type = entry.getKey();
+            long price = 10_000L * (type.ordinal() + 1);
+            for (int i = 0; i < entry.getValue(); i++) {
+                hotel.addRoom(Room.ofCents(type.name().charAt(0) + String.valueOf(i), type, price));
+            }
+        }
+        return hotel;
+    }
+
+    private final class Worker {
+        private final Hotel hotel;
+        private final Customer[] customers;
+        private final BookingService bookingService;
+        private final PaymentService paymentService;
+        private final Map<Operation, LatencyHistogram> latencies;
+        private final Map<Operation, Counter> failures;
+        private final SplittableRandom random;
+        private final RoomType[] types;
+        private final List<Booking> unpaid = new ArrayList<>();
+        private final List<Booking> active = new ArrayList<>();
+        private final LocalDate firstNight = LocalDate.now().plusDays(1);
+
+        Worker(Hotel hotel, Customer[] customers, BookingService bookingService, PaymentService paymentService,
+               Map<Operation, LatencyHistogram> latencies, Map<Operation, Counter> failures,
+               SplittableRandom random) {
+            this.hotel = hotel;
+            this.customers = customers;
+            this.bookingService = bookingService;
+            this.paymentService = paymentService;
+            this.latencies = latencies;
+            this.failures = failures;
+            this.random = random;
+            this.types = config.rooms.keySet().toArray(new RoomType[0]);
+        }
+
+        void runUntil(long deadline) {
+            while (System.nanoTime() < deadline) {
+                Operation operation = config.pick(random.nextInt(config.mixTotal()));
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = perform(operation);
+                } catch (InvalidBookingException | InvalidPaymentException e) {
+                    ok = false;
+                }
+                latencies.get(operation).recordSince(start);
+                if (!ok) {
+                    failures.get(operation).increment();
+                }
+            }
+        }
+
+        private boolean perform(Operation operation) {
+            switch (operation) {
+                case SEARCH: {
+                    LocalDate checkIn = checkIn();
+                    hotel.findAvailableRooms(type(), checkIn, checkIn.plusDays(nights()));
+                    return true;
+                }
+                case BOOK: {
+                    LocalDate checkIn = checkIn();
+                    LocalDate checkOut = checkIn.plusDays(nights());
+                    List<Room> rooms = hotel.findAvailableRooms(type(), checkIn, checkOut);
+                    if (rooms.isEmpty()) {
+                        return false;
+                    }
+                    Room room = rooms.get(random.nextInt(rooms.size()));
+                    Customer customer = customers[random.nextInt(customers.length)];
+                    Booking booking = bookingService.createBooking(customer, room, checkIn, checkOut);
+                    unpaid.add(booking);
+                    active.add(booking);
+                    return true;
+                }
+                case CANCEL: {
+                    if (active.isEmpty()) {
+                        return false;
+                    }
+                    Booking booking = removeRandom(active);
+                    unpaid.remove(booking);
+                    bookingService.cancelBooking(booking);
+                    return true;
+                }
+                case PAY: {
+                    if (unpaid.isEmpty()) {
+                        return false;
+                    }
+                    Booking booking = removeRandom(unpaid);
+                    Payment payment = paymentService.createPaymentCents(booking, booking.calculateTotalPriceCents());
+                    paymentService.processPayment(payment);
+                    return true;
+                }
+                default:
+                    throw new IllegalStateException("Unknown operation " + operation);
+            }
+        }
+
+        private Booking removeRandom(List<Booking> bookings) {
+            int index = random.nextInt(bookings.size());
+            Booking last = bookings.remove(bookings.size() - 1);
+            return index == bookings.size() ? last : bookings.set(index, last);
+        }
+
+        private RoomType type() {
+            return types[random.nextInt(types.length)];
+        }
+
+        private LocalDate checkIn() {
+            return firstNight.plusDays(random.nextInt(config.horizonDays));
+        }
+
+        private int nights() {
+            return 1 + random.nextInt(config.maxNights);
+        }
+    }
+
+    public static final class Report {
+        private final Duration elapsed;
+        private final Map<Operation, LatencyHistogram> latencies;
+        private final Map<Operation, Counter> failures;
+
+        Report(Duration elapsed, Map<Operation, LatencyHistogram> latencies, Map<Operation, Counter> failures) {
+            this.elapsed = elapsed;
+            this.latencies = latencies;
+            this.failures = failures;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+
+        public long getCount(Operation operation) {
+            return latencies.get(operation).getCount();
+        }
+
+        public long getFailures(Operation operation) {
+            return failures.get(operation).get();
+        }
+
+        public long getQuantileNanos(Operation operation, double quantile) {
+            return latencies.get(operation).getQuantileNanos(quantile);
+        }
+
+        public double getThroughput() {
+            long total = 0;
+            for (LatencyHistogram histogram : latencies.values()) {
+                total += histogram.getCount();
+            }
+            return total / (elapsed.toNanos() / 1e9);
+        }
+
+        public void print(PrintStream out) {
+            double seconds = elapsed.toNanos() / 1e9;
+            out.printf("%-8s %10s %10s %10s %10s %10s %10s%n",
+                    "op", "count", "failed", "ops/s", "p50 us", "p99 us", "p99.9 us");
+            for (Operation operation : Operation.values()) {
+                LatencyHistogram histogram = latencies.get(operation);
+                out.printf("%-8s %10d %10d %10.0f %10.1f %10.1f %10.1f%n",
+                        operation.name().toLowerCase(), histogram.getCount(), getFailures(operation),
+                        histogram.getCount() / seconds,
+                        histogram.getQuantileNanos(0.5) / 1e3,
+                        histogram.getQuantileNanos(0.99) / 1e3,
+                        histogram.getQuantileNanos(0.999) / 1e3);
+            }
+            out.printf("total    %.0f ops/s over %.1f s%n", getThroughput(), seconds);
+        }
+    }
+
+    public static final class Config {
+        final Map<RoomType, Integer> rooms = new EnumMap<>(RoomType.class);
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        int customers = 10_000;
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        int seconds = 10;
+        int warmupSeconds = 0;
+        int horizonDays = 365;
+        int maxNights = 7;
+        long gatewayLatencyMillis = 0;
+        long seed = 42;
+
+        public Config() {
+            rooms.put(RoomType.SINGLE, 600);
+            rooms.put(RoomType.DOUBLE, 300);
+            rooms.put(RoomType.SUITE, 100);
+            mix.put(Operation.SEARCH, 60);
+            mix.put(Operation.BOOK, 25);
+            mix.put(Operation.CANCEL, 5);
+            mix.put(Operation.PAY, 10);
+        }
+
+        /**
+         * Reads {@code --name value} pairs over the defaults: rooms, mix,
+         * customers, threads, seconds, warmup, horizon, max-nights,
+         * gateway-latency-ms and seed.
+         */
+        public static Config parse(String[] args) {
+            Config config = new Config();
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length || !args[i].startsWith("--")) {
+                    throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i].substring(2)) {
+                    case "rooms":
+                        config.rooms.clear();
+                        parsePairs(value, config.rooms, RoomType.class);
+                        break;
+                    case "mix":
+                        config.mix.clear();
+                        parsePairs(value, config.mix, Operation.class);
+                        break;
+                    case "customers":
+                        config.customers = positive(args[i], value);
+                        break;
+                    case "threads":
+                        config.threads = positive(args[i], value);
+                        break;
+                    case "seconds":
+                        config.seconds = positive(args[i], value);
+                        break;
+                    case "warmup":
+                        config.warmupSeconds = Integer.parseInt(value);
+                        break;
+                    case "horizon":
+                        config.horizonDays = positive(args[i], value);
+                        break;
+                    case "max-nights":
+                        config.maxNights = positive(args[i], value);
+                        break;
+                    case "gateway-latency-ms":
+                        config.gatewayLatencyMillis = Long.parseLong(value);
+                        break;
+                    case "seed":
+                        config.seed = Long.parseLong(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (config.rooms.values().stream().mapToInt(Integer::intValue).sum() == 0 || config.mixTotal() == 0) {
+                throw new IllegalArgumentException("Rooms and mix must not be empty");
+            }
+            return config;
+        }
+
+        public Config rooms(RoomType type, int count) {
+            rooms.put(type, count);
+            return this;
+        }
+
+        public Config customers(int customers) {
+            this.customers = customers;
+            return this;
+        }
+
+        public Config threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        int totalRooms() {
+            int total = 0;
+            for (int count : rooms.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        int mixTotal() {
+            int total = 0;
+            for (int weight : mix.values()) {
+                total += weight;
+            }
+            return total;
+        }
+
+        Operation pick(int ticket) {
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                ticket -= entry.getValue();
+                if (ticket < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException("Ticket outside the mix");
+        }
+
+        private static <E extends Enum<E>> void parsePairs(String value, Map<E, Integer> target, Class<E> type) {
+            for (String pair : value.split(",")) {
+                String[] parts = pair.split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected NAME=count, got " + pair);
+                }
+                int count = Integer.parseInt(parts[1].trim());
+                if (count < 0) {
+                    throw new IllegalArgumentException("Count cannot be negative: " + pair);
+                }
+                target.put(Enum.valueOf(type, parts[0].trim().toUpperCase()), count);
+            }
+        }
+
+        private static int positive(String name, String value) {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return parsed;
+        }
+    }
+}
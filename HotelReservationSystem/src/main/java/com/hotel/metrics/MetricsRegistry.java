@@ -0,0 +1,88 @@
+package com.hotel.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Named counters and latency histograms, exported in the Prometheus text
+ * format. Asking for a name twice returns the same instance, so classes can
+ * look their metrics up once into static fields and record without any
+ * further lookups.
+ */
+public final class MetricsRegistry {
+    static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public Counter counter(String name, String help) {
+        requireName(name);
+        if (histograms.containsKey(name)) {
+            throw new IllegalArgumentException("Metric " + name + " is already a histogram");
+        }
+        return counters.computeIfAbsent(name, n -> new Counter(n, help));
+    }
+
+    /**
+     * A histogram of durations, exported in seconds as a summary with the
+     * p50, p99 and p99.9 quantiles.
+     */
+    public LatencyHistogram histogram(String name, String help) {
+        requireName(name);
+        if (counters.containsKey(name)) {
+            throw new IllegalArgumentException("Metric " + name + " is already a counter");
+        }
+        return histograms.computeIfAbsent(name, n -> new LatencyHistogram(n, help));
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(256 * (counters.size() + histograms.size()));
+        writeTo(out);
+        return out.toString();
+    }
+
+    public void writeTo(StringBuilder out) {
+        for (Counter counter : counters.values()) {
+            header(out, counter.getName(), counter.getHelp(), "counter");
+            out.append(counter.getName()).append(' ').append(counter.get()).append('\n');
+        }
+        for (LatencyHistogram histogram : histograms.values()) {
+            String name = histogram.getName();
+            header(out, name, histogram.getHelp(), "summary");
+            for (double quantile : QUANTILES) {
+                out.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.getQuantileNanos(quantile))).append('\n');
+            }
+            out.append(name).append("_sum ").append(seconds(histogram.getSumNanos())).append('\n');
+            out.append(name).append("_count ").append(histogram.getCount()).append('\n');
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        if (help != null && !help.isEmpty()) {
+            out.append("# HELP ").append(name).append(' ')
+                    .append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        }
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static void requireName(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+    }
+
+    private static final class DefaultHolder {
+        static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+}
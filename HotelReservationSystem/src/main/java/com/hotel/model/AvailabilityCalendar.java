@@ -0,0 +1,45 @@
+package com.hotel.model;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Reserved stays of a single room, kept as sorted, non-overlapping
+ * [checkIn, checkOut) ranges keyed by check-in date. Because ranges never
+ * overlap, the only reservation that can clash with a new stay is the one
+ * starting closest before its check-out, so every query is O(log n).
+ */
+final class AvailabilityCalendar {
+    private final TreeMap<LocalDate, LocalDate> reservations = new TreeMap<>();
+
+    boolean isFree(LocalDate checkIn, LocalDate checkOut) {
+        Map.Entry<LocalDate, LocalDate> previous = reservations.lowerEntry(checkOut);
+        return previous == null || !previous.getValue().isAfter(checkIn);
+    }
+
+    boolean reserve(LocalDate checkIn, LocalDate checkOut) {
+        if (!isFree(checkIn, checkOut)) {
+            return false;
+        }
+        reservations.put(checkIn, checkOut);
+        return true;
+    }
+
+    boolean release(LocalDate checkIn, LocalDate checkOut) {
+        return reservations.remove(checkIn, checkOut);
+    }
+
+    boolean isEmpty() {
+        return reservations.isEmpty();
+    }
+
+    int size() {
+        return reservations.size();
+    }
+
+    void forEach(BiConsumer<LocalDate, LocalDate> action) {
+        reservations.forEach(action);
+    }
+}
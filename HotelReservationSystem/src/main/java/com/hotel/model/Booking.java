@@ -3,12 +3,15 @@ package com.hotel.model;
 import java.time.LocalDate;
 
 public class Booking {
+    /** Longest stay a single booking may cover. */
+    public static final int MAX_STAY_NIGHTS = 365;
+
     private final String bookingId;
     private final Customer customer;
     private final Room room;
     private final LocalDate checkInDate;
     private final LocalDate checkOutDate;
-    private BookingStatus status;
+    private volatile BookingStatus status;
 
     public Booking(String bookingId, Customer customer, Room room, 
                    LocalDate checkInDate, LocalDate checkOutDate) {
@@ -21,14 +24,7 @@ public class Booking {
         if (room == null) {
             throw new IllegalArgumentException("Room cannot be null");
         }
-        if (checkInDate == null || checkOutDate == null || 
-            checkOutDate.isBefore(checkInDate) || checkOutDate.isEqual(checkInDate)) {
-            throw new IllegalArgumentException("Invalid check-in/check-out dates");
-        }
-        if (!room.isAvailable()) {
-            throw new IllegalStateException("Room is not available for booking");
-        }
-        
+        Room.validateBookableStay(checkInDate, checkOutDate);
         this.bookingId = bookingId;
         this.customer = customer;
         this.room = room;
@@ -36,7 +32,7 @@ public class Booking {
         this.checkOutDate = checkOutDate;
         this.status = BookingStatus.CONFIRMED;
         
-        room.bookRoom();
+        room.reserve(checkInDate, checkOutDate);
         customer.addBooking(this);
     }
 
@@ -65,15 +61,18 @@ public class Booking {
     }
 
     public double calculateTotalPrice() {
-        long nights = java.time.temporal.ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-        return nights * room.getPricePerNight();
+        return Money.toMajor(calculateTotalPriceCents());
+    }
+
+    public long calculateTotalPriceCents() {
+        return room.calculateStayPriceCents(checkInDate, checkOutDate);
     }
 
-    public void cancelBooking() {
+    public synchronized void cancelBooking() {
         if (status == BookingStatus.CANCELLED) {
             throw new IllegalStateException("Booking is already cancelled");
         }
         status = BookingStatus.CANCELLED;
-        room.releaseRoom();
+        room.release(checkInDate, checkOutDate);
     }
 }
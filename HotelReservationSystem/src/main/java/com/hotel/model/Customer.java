@@ -1,13 +1,35 @@
 package com.hotel.model;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class Customer {
     private final String customerId;
     private final String name;
     private final String email;
-    private final List<Booking> bookings;
+    private final Set<Booking> bookings = new LinkedHashSet<>();
+    // Immutable copy behind getBookings(); dropped when a booking is added or
+    // removed and rebuilt on the next read, so adds and removes stay O(1).
+    private volatile List<Booking> snapshot = List.of();
+    private final List<Booking> bookingsView = new AbstractList<>() {
+        @Override
+        public Booking get(int index) {
+            return snapshot().get(index);
+        }
+
+        @Override
+        public int size() {
+            return snapshot().size();
+        }
+
+        @Override
+        public Iterator<Booking> iterator() {
+            return snapshot().iterator();
+        }
+    };
 
     public Customer(String customerId, String name, String email) {
         if (customerId == null || customerId.trim().isEmpty()) {
@@ -22,7 +44,6 @@ public class Customer {
         this.customerId = customerId;
         this.name = name;
         this.email = email;
-        this.bookings = new ArrayList<>();
     }
 
     public String getCustomerId() {
@@ -37,14 +58,45 @@ public class Customer {
         return email;
     }
 
+    /**
+     * Read-only live view of this customer's bookings. Iteration works on a
+     * consistent snapshot, copied once after each change rather than on every
+     * add or remove.
+     */
     public List<Booking> getBookings() {
-        return new ArrayList<>(bookings);
+        return bookingsView;
     }
 
     public void addBooking(Booking booking) {
         if (booking == null) {
             throw new IllegalArgumentException("Booking cannot be null");
         }
-        bookings.add(booking);
+        synchronized (bookings) {
+            bookings.add(booking);
+            snapshot = null;
+        }
+    }
+
+    public void removeBooking(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        synchronized (bookings) {
+            bookings.remove(booking);
+            snapshot = null;
+        }
+    }
+
+    private List<Booking> snapshot() {
+        List<Booking> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (bookings) {
+            if (snapshot == null) {
+                snapshot = List.copyOf(bookings);
+            }
+            return snapshot;
+        }
     }
 }
@@ -1,13 +1,32 @@
 package com.hotel.model;
 
+import com.hotel.jfr.AvailabilitySearchEvent;
+import com.hotel.metrics.LatencyHistogram;
+import com.hotel.metrics.MetricsRegistry;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Hotel {
+    private static final LatencyHistogram SEARCH_LATENCY = MetricsRegistry.getDefault()
+            .histogram("hotel_find_available_rooms_seconds", "Time taken to search for available rooms.");
+
     private final String hotelId;
     private final String name;
     private final String location;
     private final List<Room> rooms;
+    private final Map<String, Room> roomsByNumber = new ConcurrentHashMap<>();
+    // Immutable copy of rooms handed out by getRooms(); dropped when a room is
+    // added and rebuilt on the next read, so bulk loads copy only once.
+    private volatile List<Room> roomsView = List.of();
+    private final RoomInventory inventory;
+    private final Map<RoomType, RateCalendar> rateCalendars;
+    private final List<RoomListener> roomListeners = new CopyOnWriteArrayList<>();
 
     public Hotel(String hotelId, String name, String location) {
         if (hotelId == null || hotelId.trim().isEmpty()) {
@@ -17,6 +36,11 @@ public class Hotel {
         this.name = name;
         this.location = location;
         this.rooms = new ArrayList<>();
+        this.inventory = new RoomInventory();
+        this.rateCalendars = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            rateCalendars.put(type, new RateCalendar());
+        }
     }
 
     public String getHotelId() {
@@ -31,20 +55,155 @@ public class Hotel {
         return location;
     }
 
+    public RateCalendar getRateCalendar(RoomType type) {
+        requireType(type);
+        return rateCalendars.get(type);
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the rooms. The same instance is
+     * returned until a room is added, so repeated reads allocate nothing.
+     */
     public List<Room> getRooms() {
-        return new ArrayList<>(rooms);
+        List<Room> view = roomsView;
+        if (view != null) {
+            return view;
+        }
+        synchronized (rooms) {
+            if (roomsView == null) {
+                roomsView = Collections.unmodifiableList(new ArrayList<>(rooms));
+            }
+            return roomsView;
+        }
+    }
+
+    public Room findRoom(String roomNumber) {
+        return roomNumber == null ? null : roomsByNumber.get(roomNumber);
+    }
+
+    public int getRoomCount() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
     }
 
     public void addRoom(Room room) {
         if (room == null) {
             throw new IllegalArgumentException("Room cannot be null");
         }
-        rooms.add(room);
+        // Room lock first, then the inventory stripe: the same order Room uses
+        // when it pushes reservations into the inventory.
+        synchronized (room) {
+            room.attachTo(this);
+            inventory.add(room);
+        }
+        synchronized (rooms) {
+            rooms.add(room);
+            roomsByNumber.putIfAbsent(room.getRoomNumber(), room);
+            roomsView = null;
+        }
+        for (RoomListener listener : roomListeners) {
+            listener.roomAdded(room);
+        }
+    }
+
+    public void addRoomListener(RoomListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        roomListeners.add(listener);
+    }
+
+    public void removeRoomListener(RoomListener listener) {
+        roomListeners.remove(listener);
     }
 
     public List<Room> findAvailableRooms(RoomType type) {
-        return rooms.stream()
-                .filter(room -> room.isAvailable() && room.getType() == type)
-                .toList();
+        requireType(type);
+        AvailabilitySearchEvent event = new AvailabilitySearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            List<Room> rooms = inventory.findAvailable(type);
+            event.complete(hotelId, type, null, null, rooms.size());
+            return rooms;
+        } finally {
+            SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * Rooms of {@code type} free for the whole stay. An interrupted thread
+     * stops partway through with a {@link java.util.concurrent.CancellationException}
+     * and keeps its interrupt status.
+     */
+    public List<Room> findAvailableRooms(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        requireType(type);
+        Room.validateStay(checkIn, checkOut);
+        AvailabilitySearchEvent event = new AvailabilitySearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            List<Room> rooms = inventory.findAvailable(type, checkIn, checkOut);
+            event.complete(hotelId, type, checkIn, checkOut, rooms.size());
+            return rooms;
+        } finally {
+            SEARCH_LATENCY.recordSince(start);
+        }
+    }
+
+    /**
+     * A number that changes whenever a search or stay price of this hotel
+     * could come out differently: a room added, reserved, released, retyped,
+     * repriced or taken out of service, or a hotel rate changed. Edits to a
+     * room's own {@link Room#setRateCalendar rate calendar} after it is set
+     * are not tracked. Good for cache validators such as HTTP ETags.
+     */
+    public long getAvailabilityVersion() {
+        long version = inventory.version();
+        for (RateCalendar calendar : rateCalendars.values()) {
+            version += calendar.getVersion();
+        }
+        return version;
+    }
+
+    public int countRooms(RoomType type) {
+        requireType(type);
+        return inventory.countRooms(type);
+    }
+
+    public int countAvailableRooms(RoomType type) {
+        requireType(type);
+        return inventory.countAvailable(type);
+    }
+
+    public int countAvailableRooms(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        requireType(type);
+        Room.validateStay(checkIn, checkOut);
+        return inventory.countAvailable(type, checkIn, checkOut);
+    }
+
+    public int countOccupiedRooms(RoomType type, LocalDate night) {
+        requireType(type);
+        if (night == null) {
+            throw new IllegalArgumentException("Night cannot be null");
+        }
+        return inventory.countOccupied(type, night);
+    }
+
+    private static void requireType(RoomType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+    }
+
+    RoomInventory inventory() {
+        return inventory;
+    }
+
+    void roomChanged(Room room) {
+        for (RoomListener listener : roomListeners) {
+            listener.roomChanged(room);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.hotel.model;
+
+/**
+ * Money is carried as a primitive {@code long} number of cents so totals stay
+ * exact and no wrapper objects are created on hot paths. The double-based
+ * getters on the model convert at the edges for callers that still want them.
+ */
+public final class Money {
+    public static final long CENTS_PER_UNIT = 100;
+
+    private Money() {
+    }
+
+    public static long ofMajor(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("Amount must be a finite number");
+        }
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+
+    public static double toMajor(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    public static long add(long cents, long otherCents) {
+        return Math.addExact(cents, otherCents);
+    }
+
+    public static long multiply(long cents, long factor) {
+        return Math.multiplyExact(cents, factor);
+    }
+
+    public static long parse(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end && text.charAt(start) == '$') {
+            start++;
+        }
+        boolean negative = start < end && text.charAt(start) == '-';
+        if (negative) {
+            start++;
+        }
+        long major = 0;
+        int minor = 0;
+        int minorDigits = -1;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && minorDigits < 0) {
+                minorDigits = 0;
+            } else if (c >= '0' && c <= '9' && minorDigits < 0) {
+                major = Math.addExact(Math.multiplyExact(major, 10), c - '0');
+                digits++;
+            } else if (c >= '0' && c <= '9' && minorDigits < 2) {
+                minor = minor * 10 + (c - '0');
+                minorDigits++;
+                digits++;
+            } else {
+                throw new NumberFormatException("Invalid amount: " + text);
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid amount: " + text);
+        }
+        if (minorDigits == 1) {
+            minor *= 10;
+        }
+        long cents = Math.addExact(Math.multiplyExact(major, CENTS_PER_UNIT), minor);
+        return negative ? -cents : cents;
+    }
+
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(24), cents).toString();
+    }
+
+    /**
+     * Appends {@code cents} as a plain decimal such as {@code 1234.05} without
+     * creating any intermediate objects, so a caller can reuse one builder
+     * across a whole table refresh.
+     */
+    public static StringBuilder appendTo(StringBuilder out, long cents) {
+        long major = cents / CENTS_PER_UNIT;
+        int minor = (int) Math.abs(cents % CENTS_PER_UNIT);
+        if (cents < 0) {
+            out.append('-');
+        }
+        out.append(Math.abs(major)).append('.');
+        if (minor < 10) {
+            out.append('0');
+        }
+        return out.append(minor);
+    }
+}
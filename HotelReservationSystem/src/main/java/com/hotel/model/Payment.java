@@ -5,24 +5,35 @@ import java.time.LocalDateTime;
 public class Payment {
     private final String paymentId;
     private final Booking booking;
-    private final double amount;
+    private final long amountCents;
     private final LocalDateTime paymentDate;
-    private PaymentStatus status;
+    private volatile PaymentStatus status;
 
     public Payment(String paymentId, Booking booking, double amount) {
+        this(paymentId, booking, amount, LocalDateTime.now());
+    }
+
+    public Payment(String paymentId, Booking booking, double amount, LocalDateTime paymentDate) {
+        this(paymentId, booking, Money.ofMajor(amount), paymentDate);
+    }
+
+    private Payment(String paymentId, Booking booking, long amountCents, LocalDateTime paymentDate) {
         if (paymentId == null || paymentId.trim().isEmpty()) {
             throw new IllegalArgumentException("Payment ID cannot be null or empty");
         }
         if (booking == null) {
             throw new IllegalArgumentException("Booking cannot be null");
         }
-        if (amount <= 0) {
+        if (amountCents <= 0) {
             throw new IllegalArgumentException("Amount must be positive");
         }
+        if (paymentDate == null) {
+            throw new IllegalArgumentException("Payment date cannot be null");
+        }
         this.paymentId = paymentId;
         this.booking = booking;
-        this.amount = amount;
-        this.paymentDate = LocalDateTime.now();
+        this.amountCents = amountCents;
+        this.paymentDate = paymentDate;
         this.status = PaymentStatus.PENDING;
     }
 
@@ -34,8 +45,20 @@ public class Payment {
         return booking;
     }
 
+    public static Payment ofCents(String paymentId, Booking booking, long amountCents) {
+        return ofCents(paymentId, booking, amountCents, LocalDateTime.now());
+    }
+
+    public static Payment ofCents(String paymentId, Booking booking, long amountCents, LocalDateTime paymentDate) {
+        return new Payment(paymentId, booking, amountCents, paymentDate);
+    }
+
     public double getAmount() {
-        return amount;
+        return Money.toMajor(amountCents);
+    }
+
+    public long getAmountCents() {
+        return amountCents;
     }
 
     public LocalDateTime getPaymentDate() {
@@ -46,14 +69,14 @@ public class Payment {
         return status;
     }
 
-    public void processPayment() {
+    public synchronized void processPayment() {
         if (status == PaymentStatus.COMPLETED) {
             throw new IllegalStateException("Payment already completed");
         }
         status = PaymentStatus.COMPLETED;
     }
 
-    public void markAsFailed() {
+    public synchronized void markAsFailed() {
         status = PaymentStatus.FAILED;
     }
 }
@@ -0,0 +1,164 @@
+package com.hotel.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Nightly rate multipliers in basis points of a room's base price, where
+ * {@link #BASE_RATE} (10,000) means the plain price per night. Nights without
+ * an explicit rate are charged at the base rate.
+ *
+ * <p>Rates are kept in segments of {@value #SEGMENT_NIGHTS} nights, each with
+ * its own running sum, plus a running sum over the segment totals. The rate
+ * sum of any stay is therefore two lookups and a subtraction. Changing a
+ * range rebuilds only the touched segments and the segment totals after them,
+ * then publishes a new immutable state so readers never lock.
+ */
+public final class RateCalendar {
+    public static final int BASE_RATE = 10_000;
+    static final int SEGMENT_NIGHTS = 64;
+    private static final int SEGMENT_SHIFT = 6;
+    private static final int SEGMENT_MASK = SEGMENT_NIGHTS - 1;
+
+    private volatile State state = new State(0, new int[0][], new long[0][], new long[]{0});
+    private volatile long version;
+
+    public void setRate(LocalDate from, LocalDate to, int basisPoints) {
+        setRate(from, to, EnumSet.allOf(DayOfWeek.class), basisPoints);
+    }
+
+    /**
+     * Sets the rate for every night in [from, to) that falls on one of
+     * {@code days}, e.g. Friday and Saturday for a weekend rate.
+     */
+    public synchronized void setRate(LocalDate from, LocalDate to, Set<DayOfWeek> days, int basisPoints) {
+        Room.validateStay(from, to);
+        if (days == null || days.isEmpty()) {
+            throw new IllegalArgumentException("Days of week cannot be null or empty");
+        }
+        if (basisPoints <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+
+        State current = state;
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        long origin = Math.floorDiv(fromDay, SEGMENT_NIGHTS) * SEGMENT_NIGHTS;
+        int shift = 0;
+        if (current.segments() > 0) {
+            origin = Math.min(origin, current.originDay);
+            shift = (int) ((current.originDay - origin) >> SEGMENT_SHIFT);
+        }
+        int segments = Math.max(current.segments() + shift, (int) ((toDay - 1 - origin) >> SEGMENT_SHIFT) + 1);
+
+        int[][] rates = new int[segments][];
+        long[][] prefix = new long[segments][];
+        System.arraycopy(current.rates, 0, rates, shift, current.segments());
+        System.arraycopy(current.prefix, 0, prefix, shift, current.segments());
+
+        int firstSegment = (int) ((fromDay - origin) >> SEGMENT_SHIFT);
+        int lastSegment = (int) ((toDay - 1 - origin) >> SEGMENT_SHIFT);
+        for (int s = 0; s < segments; s++) {
+            if (rates[s] == null) {
+                rates[s] = new int[SEGMENT_NIGHTS];
+                Arrays.fill(rates[s], BASE_RATE);
+            } else if (s >= firstSegment && s <= lastSegment) {
+                rates[s] = rates[s].clone();
+            } else {
+                continue;
+            }
+            long segmentStart = origin + ((long) s << SEGMENT_SHIFT);
+            for (int night = 0; night < SEGMENT_NIGHTS; night++) {
+                long day = segmentStart + night;
+                if (day >= fromDay && day < toDay && days.contains(LocalDate.ofEpochDay(day).getDayOfWeek())) {
+                    rates[s][night] = basisPoints;
+                }
+            }
+            prefix[s] = runningSum(rates[s]);
+        }
+
+        long[] segmentPrefix = new long[segments + 1];
+        for (int s = 0; s < segments; s++) {
+            segmentPrefix[s + 1] = segmentPrefix[s] + prefix[s][SEGMENT_NIGHTS];
+        }
+        state = new State(origin, rates, prefix, segmentPrefix);
+        version++;
+    }
+
+    /**
+     * Number of changes made so far; differs whenever any rate may have.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int getRate(LocalDate night) {
+        if (night == null) {
+            throw new IllegalArgumentException("Night cannot be null");
+        }
+        State current = state;
+        long offset = night.toEpochDay() - current.originDay;
+        if (offset < 0 || (offset >> SEGMENT_SHIFT) >= current.segments()) {
+            return BASE_RATE;
+        }
+        return current.rates[(int) (offset >> SEGMENT_SHIFT)][(int) (offset & SEGMENT_MASK)];
+    }
+
+    /**
+     * Sum of the nightly rates, in basis points, for the nights in
+     * [checkIn, checkOut).
+     */
+    public long sumRates(LocalDate checkIn, LocalDate checkOut) {
+        Room.validateStay(checkIn, checkOut);
+        State current = state;
+        return current.cumulative(checkOut.toEpochDay()) - current.cumulative(checkIn.toEpochDay());
+    }
+
+    public long priceCents(long pricePerNightCents, LocalDate checkIn, LocalDate checkOut) {
+        long weighted = Money.multiply(pricePerNightCents, sumRates(checkIn, checkOut));
+        return Math.floorDiv(weighted + BASE_RATE / 2, BASE_RATE);
+    }
+
+    private static long[] runningSum(int[] rates) {
+        long[] sums = new long[SEGMENT_NIGHTS + 1];
+        for (int night = 0; night < SEGMENT_NIGHTS; night++) {
+            sums[night + 1] = sums[night] + rates[night];
+        }
+        return sums;
+    }
+
+    private static final class State {
+        final long originDay;
+        final int[][] rates;
+        final long[][] prefix;
+        final long[] segmentPrefix;
+
+        State(long originDay, int[][] rates, long[][] prefix, long[] segmentPrefix) {
+            this.originDay = originDay;
+            this.rates = rates;
+            this.prefix = prefix;
+            this.segmentPrefix = segmentPrefix;
+        }
+
+        int segments() {
+            return rates.length;
+        }
+
+        // Rate sum of all nights from originDay up to (not including) day;
+        // negative before the origin so that differences still work.
+        long cumulative(long day) {
+            long offset = day - originDay;
+            if (offset <= 0) {
+                return offset * BASE_RATE;
+            }
+            long segment = offset >> SEGMENT_SHIFT;
+            if (segment >= segments()) {
+                return segmentPrefix[segments()] + (offset - ((long) segments() << SEGMENT_SHIFT)) * BASE_RATE;
+            }
+            return segmentPrefix[(int) segment] + prefix[(int) segment][(int) (offset & SEGMENT_MASK)];
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package com.hotel.model;
 
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+
 public class Room {
     private final String roomNumber;
-    private RoomType type;
-    private double pricePerNight;
+    private volatile RoomType type;
+    private volatile long pricePerNightCents;
     private boolean isAvailable;
+    private final AvailabilityCalendar calendar = new AvailabilityCalendar();
+    private volatile Hotel hotel;
+    private volatile RateCalendar rateCalendar;
+    int inventorySlot = -1;
 
     public Room(String roomNumber, RoomType type, double pricePerNight) {
+        this(roomNumber, type, Money.ofMajor(pricePerNight));
+    }
+
+    private Room(String roomNumber, RoomType type, long pricePerNightCents) {
         if (roomNumber == null || roomNumber.trim().isEmpty()) {
             throw new IllegalArgumentException("Room number cannot be null or empty");
         }
-        if (pricePerNight <= 0) {
+        if (type == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        if (pricePerNightCents <= 0) {
             throw new IllegalArgumentException("Price per night must be positive");
         }
         this.roomNumber = roomNumber;
         this.type = type;
-        this.pricePerNight = pricePerNight;
+        this.pricePerNightCents = pricePerNightCents;
         this.isAvailable = true;
     }
 
@@ -28,32 +42,176 @@ public class Room {
     }
 
     public void setType(RoomType type) {
-        this.type = type;
+        if (type == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        Hotel owner;
+        synchronized (this) {
+            RoomType previousType = this.type;
+            this.type = type;
+            owner = previousType != type ? hotel : null;
+            if (owner != null) {
+                owner.inventory().changeType(this, previousType);
+            }
+        }
+        // Listeners are told outside the room lock.
+        if (owner != null) {
+            owner.roomChanged(this);
+        }
+    }
+
+    public static Room ofCents(String roomNumber, RoomType type, long pricePerNightCents) {
+        return new Room(roomNumber, type, pricePerNightCents);
     }
 
     public double getPricePerNight() {
-        return pricePerNight;
+        return Money.toMajor(pricePerNightCents);
+    }
+
+    public long getPricePerNightCents() {
+        return pricePerNightCents;
     }
 
     public void setPricePerNight(double pricePerNight) {
-        if (pricePerNight <= 0) {
+        setPricePerNightCents(Money.ofMajor(pricePerNight));
+    }
+
+    public void setPricePerNightCents(long pricePerNightCents) {
+        if (pricePerNightCents <= 0) {
             throw new IllegalArgumentException("Price per night must be positive");
         }
-        this.pricePerNight = pricePerNight;
+        this.pricePerNightCents = pricePerNightCents;
+        Hotel owner = hotel;
+        if (owner != null) {
+            owner.inventory().priceChanged();
+            owner.roomChanged(this);
+        }
     }
 
-    public boolean isAvailable() {
-        return isAvailable;
+    public RateCalendar getRateCalendar() {
+        return rateCalendar;
+    }
+
+    /**
+     * Gives this room its own rates in place of its hotel's calendar for the
+     * room type. Pass null to go back to the hotel's rates.
+     */
+    public void setRateCalendar(RateCalendar rateCalendar) {
+        this.rateCalendar = rateCalendar;
+        Hotel owner = hotel;
+        if (owner != null) {
+            owner.inventory().priceChanged();
+            owner.roomChanged(this);
+        }
+    }
+
+    public long calculateStayPriceCents(LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        RateCalendar rates = rateCalendar;
+        Hotel owner = hotel;
+        if (rates == null && owner != null) {
+            rates = owner.getRateCalendar(type);
+        }
+        if (rates == null) {
+            long nights = checkOut.toEpochDay() - checkIn.toEpochDay();
+            return Money.multiply(pricePerNightCents, nights);
+        }
+        return rates.priceCents(pricePerNightCents, checkIn, checkOut);
+    }
+
+    public Hotel getHotel() {
+        return hotel;
+    }
+
+    public synchronized boolean isAvailable() {
+        return isAvailable && calendar.isEmpty();
+    }
+
+    public synchronized boolean isAvailable(LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        return isAvailable && calendar.isFree(checkIn, checkOut);
     }
 
-    public void bookRoom() {
-        if (!isAvailable) {
+    public synchronized void reserve(LocalDate checkIn, LocalDate checkOut) {
+        validateBookableStay(checkIn, checkOut);
+        if (!isAvailable || !calendar.reserve(checkIn, checkOut)) {
+            throw new IllegalStateException("Room is not available for booking");
+        }
+        if (hotel != null) {
+            try {
+                hotel.inventory().reserved(this, checkIn, checkOut);
+            } catch (RuntimeException e) {
+                // All or nothing: a night the inventory never saw must not
+                // stay blocked in the calendar.
+                calendar.release(checkIn, checkOut);
+                throw e;
+            }
+        }
+    }
+
+    public synchronized void release(LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        if (!calendar.release(checkIn, checkOut)) {
+            throw new IllegalStateException("Room has no reservation for these dates");
+        }
+        if (hotel != null) {
+            hotel.inventory().released(this, checkIn, checkOut);
+        }
+    }
+
+    public synchronized int getReservationCount() {
+        return calendar.size();
+    }
+
+    public synchronized void bookRoom() {
+        if (!isAvailable()) {
             throw new IllegalStateException("Room is already booked");
         }
         isAvailable = false;
+        if (hotel != null) {
+            hotel.inventory().serviceChanged(this);
+        }
     }
 
-    public void releaseRoom() {
+    public synchronized void releaseRoom() {
         isAvailable = true;
+        if (hotel != null) {
+            hotel.inventory().serviceChanged(this);
+        }
+    }
+
+    public synchronized boolean isInService() {
+        return isAvailable;
+    }
+
+    public synchronized void setInService(boolean inService) {
+        isAvailable = inService;
+        if (hotel != null) {
+            hotel.inventory().serviceChanged(this);
+        }
+    }
+
+    synchronized void forEachReservation(BiConsumer<LocalDate, LocalDate> action) {
+        calendar.forEach(action);
+    }
+
+    synchronized void attachTo(Hotel hotel) {
+        if (this.hotel != null) {
+            throw new IllegalArgumentException("Room " + roomNumber + " already belongs to a hotel");
+        }
+        this.hotel = hotel;
+    }
+
+    static void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Invalid check-in/check-out dates");
+        }
+    }
+
+    static void validateBookableStay(LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        if (checkOut.toEpochDay() - checkIn.toEpochDay() > Booking.MAX_STAY_NIGHTS) {
+            throw new IllegalArgumentException("Stay cannot be longer than " + Booking.MAX_STAY_NIGHTS + " nights");
+        }
     }
 }
@@ -0,0 +1,307 @@
+package com.hotel.model;
+
+import java.time.LocalDate;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-{@link RoomType} availability bitmaps. Every room owns one bit slot in
+ * its type; each night with at least one reservation has a word with the
+ * bits of the rooms sold that night. A stay query ANDs out the nights of the
+ * stay word by word, so counting free rooms never touches the {@link Room}
+ * objects and never allocates.
+ *
+ * <p>Slots are striped 64 to a lock, one bitmap word per stripe. Callers
+ * mutate a room's bits only while holding that room's monitor, so the lock
+ * order is always room, then type (to add or remove a room), then stripe.
+ * Searches and counts take no lock at all: they read each stripe's published
+ * words and may miss a change that lands while they run, which is harmless
+ * because {@link Room#reserve} has the final say.
+ */
+final class RoomInventory {
+    private final EnumMap<RoomType, TypeInventory> byType = new EnumMap<>(RoomType.class);
+    // Bumped after every change that can alter a search result.
+    private final AtomicLong version = new AtomicLong();
+
+    RoomInventory() {
+        for (RoomType type : RoomType.values()) {
+            byType.put(type, new TypeInventory());
+        }
+    }
+
+    void add(Room room) {
+        byType.get(room.getType()).add(room);
+        version.incrementAndGet();
+    }
+
+    void changeType(Room room, RoomType previousType) {
+        byType.get(previousType).remove(room);
+        byType.get(room.getType()).add(room);
+        version.incrementAndGet();
+    }
+
+    void reserved(Room room, LocalDate checkIn, LocalDate checkOut) {
+        byType.get(room.getType()).mark(room, checkIn.toEpochDay(), checkOut.toEpochDay(), true);
+        version.incrementAndGet();
+    }
+
+    void released(Room room, LocalDate checkIn, LocalDate checkOut) {
+        byType.get(room.getType()).mark(room, checkIn.toEpochDay(), checkOut.toEpochDay(), false);
+        version.incrementAndGet();
+    }
+
+    void serviceChanged(Room room) {
+        byType.get(room.getType()).refresh(room);
+        version.incrementAndGet();
+    }
+
+    void priceChanged() {
+        version.incrementAndGet();
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    int countRooms(RoomType type) {
+        return byType.get(type).count();
+    }
+
+    int countAvailable(RoomType type) {
+        return byType.get(type).countIdle();
+    }
+
+    int countAvailable(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        return byType.get(type).countFree(checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    int countOccupied(RoomType type, LocalDate night) {
+        return byType.get(type).countSold(night.toEpochDay());
+    }
+
+    List<Room> findAvailable(RoomType type) {
+        return byType.get(type).findIdle();
+    }
+
+    List<Room> findAvailable(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        return byType.get(type).findFree(checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    private static final class TypeInventory {
+        private volatile Stripe[] stripes = new Stripe[0];
+        private volatile int count;
+        private int slots;
+
+        synchronized void add(Room room) {
+            int slot = slots++;
+            int index = slot >>> 6;
+            Stripe[] current = stripes;
+            if (index == current.length) {
+                // Copied rather than filled in place, so readers never see a
+                // stripe that is not fully built.
+                Stripe[] grown = Arrays.copyOf(current, index + 1);
+                grown[index] = new Stripe();
+                stripes = grown;
+            }
+            Stripe stripe = stripes[index];
+            room.inventorySlot = slot;
+            synchronized (stripe) {
+                stripe.rooms[slot & 63] = room;
+                stripe.live |= 1L << slot;
+                stripe.refresh(room);
+            }
+            count++;
+            room.forEachReservation((checkIn, checkOut) ->
+                    mark(room, checkIn.toEpochDay(), checkOut.toEpochDay(), true));
+        }
+
+        synchronized void remove(Room room) {
+            int slot = room.inventorySlot;
+            room.forEachReservation((checkIn, checkOut) ->
+                    mark(room, checkIn.toEpochDay(), checkOut.toEpochDay(), false));
+            Stripe stripe = stripes[slot >>> 6];
+            long bit = 1L << slot;
+            synchronized (stripe) {
+                stripe.live &= ~bit;
+                stripe.outOfService &= ~bit;
+                stripe.busy &= ~bit;
+                stripe.rooms[slot & 63] = null;
+            }
+            count--;
+        }
+
+        void refresh(Room room) {
+            Stripe stripe = stripes[room.inventorySlot >>> 6];
+            synchronized (stripe) {
+                stripe.refresh(room);
+            }
+        }
+
+        void mark(Room room, long fromDay, long toDay, boolean sold) {
+            Stripe stripe = stripes[room.inventorySlot >>> 6];
+            synchronized (stripe) {
+                stripe.mark(room.inventorySlot, fromDay, toDay, sold);
+                stripe.refresh(room);
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        int countIdle() {
+            int available = 0;
+            for (Stripe stripe : stripes) {
+                available += Long.bitCount(stripe.live & ~stripe.busy);
+            }
+            return available;
+        }
+
+        int countFree(long fromDay, long toDay) {
+            int available = 0;
+            for (Stripe stripe : stripes) {
+                available += Long.bitCount(stripe.free(fromDay, toDay));
+            }
+            return available;
+        }
+
+        int countSold(long day) {
+            int sold = 0;
+            for (Stripe stripe : stripes) {
+                sold += Long.bitCount(stripe.nights.get(day) & stripe.live);
+            }
+            return sold;
+        }
+
+        List<Room> findIdle() {
+            List<Room> result = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                stripe.collect(stripe.live & ~stripe.busy, result);
+            }
+            return result;
+        }
+
+        List<Room> findFree(long fromDay, long toDay) {
+            List<Room> result = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                // Once per 64 rooms, so a search its caller gave up on stops.
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Search interrupted");
+                }
+                stripe.collect(stripe.free(fromDay, toDay), result);
+            }
+            return result;
+        }
+    }
+
+    // Sixty-four slots. Written only under its own monitor; the volatile
+    // fields and release stores let searches read it without one.
+    private static final class Stripe {
+        final Room[] rooms = new Room[64];
+        // live: slot holds a room; outOfService: room flag is off;
+        // busy: room is out of service or has any reservation at all.
+        volatile long live;
+        volatile long outOfService;
+        volatile long busy;
+        volatile Nights nights = Nights.EMPTY;
+
+        void refresh(Room room) {
+            long bit = 1L << room.inventorySlot;
+            outOfService = room.isInService() ? outOfService & ~bit : outOfService | bit;
+            busy = room.isAvailable() ? busy & ~bit : busy | bit;
+        }
+
+        void mark(int slot, long fromDay, long toDay, boolean sold) {
+            long bit = 1L << slot;
+            if (sold) {
+                Nights current = nights.covering(fromDay, toDay);
+                nights = current;
+                for (long day = fromDay; day < toDay; day++) {
+                    current.set(day, current.get(day) | bit);
+                }
+                return;
+            }
+            Nights current = nights;
+            for (long day = fromDay; day < toDay; day++) {
+                if (current.contains(day)) {
+                    current.set(day, current.get(day) & ~bit);
+                }
+            }
+        }
+
+        long free(long fromDay, long toDay) {
+            long free = live & ~outOfService;
+            Nights sold = nights;
+            for (long day = fromDay; day < toDay && free != 0; day++) {
+                free &= ~sold.get(day);
+            }
+            return free;
+        }
+
+        void collect(long bits, List<Room> result) {
+            while (bits != 0) {
+                // A room removed mid-search can leave its bit without a room.
+                Room room = rooms[Long.numberOfTrailingZeros(bits)];
+                if (room != null) {
+                    result.add(room);
+                }
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // One word per night from first on. Replaced, never resized, when a
+    // reservation falls outside it.
+    private static final class Nights {
+        static final Nights EMPTY = new Nights(0, new long[0]);
+        // About 180 years of nights, 512 KiB per stripe at most.
+        static final int MAX_NIGHTS = 1 << 16;
+        private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+        final long first;
+        final long[] words;
+
+        Nights(long first, long[] words) {
+            this.first = first;
+            this.words = words;
+        }
+
+        boolean contains(long day) {
+            return day >= first && day - first < words.length;
+        }
+
+        long get(long day) {
+            return contains(day) ? (long) WORDS.getAcquire(words, (int) (day - first)) : 0L;
+        }
+
+        void set(long day, long word) {
+            WORDS.setRelease(words, (int) (day - first), word);
+        }
+
+        Nights covering(long fromDay, long toDay) {
+            if (contains(fromDay) && contains(toDay - 1)) {
+                return this;
+            }
+            if (words.length == 0) {
+                return new Nights(fromDay, new long[(int) Math.max(64, toDay - fromDay)]);
+            }
+            long end = Math.max(first + words.length, toDay);
+            long span = end - Math.min(first, fromDay);
+            if (span > MAX_NIGHTS) {
+                throw new IllegalArgumentException("Stay is too far from the other reservations of its room type");
+            }
+            int length = (int) Math.min(MAX_NIGHTS, Math.max(words.length * 2L, span));
+            // The slack goes on the side that had to grow.
+            long start = fromDay < first ? end - length : first;
+            long[] grown = new long[length];
+            System.arraycopy(words, 0, grown, (int) (first - start), words.length);
+            return new Nights(start, grown);
+        }
+    }
+}
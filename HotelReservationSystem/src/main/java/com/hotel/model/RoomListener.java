@@ -0,0 +1,14 @@
+package com.hotel.model;
+
+/**
+ * Told when a room joins a hotel and when an attached room's type or price
+ * changes. Callbacks run on the thread that made the change, so they must be
+ * quick and must not throw.
+ */
+public interface RoomListener {
+    default void roomAdded(Room room) {
+    }
+
+    default void roomChanged(Room room) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.hotel.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Durable append-only log of booking, cancellation and payment events.
+ *
+ * <p>Appends are handed to a single writer thread. The writer drains every
+ * append that is waiting, writes them with one gathering write and makes them
+ * durable with one {@code fsync} (group commit), then releases all of their
+ * callers at once. Under load many bookings therefore share each disk flush.
+ *
+ * <p>A batch that fails part way through is cut back off the end of the file,
+ * so later records never land behind a torn frame that recovery would stop
+ * at. If even that fails the journal refuses every later append.
+ */
+public class BookingJournal implements AutoCloseable {
+    private static final int MAX_BATCH = 1024;
+
+    private final FileChannel channel;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final AtomicLong syncCount = new AtomicLong();
+    // Guards closed against enqueueing, so nothing lands behind SHUTDOWN.
+    private final Object lifecycle = new Object();
+    private boolean closed;
+    private volatile UncheckedIOException failure;
+
+    public BookingJournal(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND));
+    }
+
+    BookingJournal(FileChannel channel) {
+        this.channel = channel;
+        this.writer = new Thread(this::writeLoop, "booking-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void append(JournalRecord record) {
+        await(appendAsync(record));
+    }
+
+    /**
+     * Appends {@code records} as one frame and waits until it is durable.
+     * After a crash either all of them are recovered or none are.
+     */
+    public void appendAll(List<JournalRecord> records) {
+        if (records == null || records.contains(null)) {
+            throw new IllegalArgumentException("Journal records cannot be null");
+        }
+        await(enqueue(new PendingAppend(JournalRecord.encodeBatch(records))).durable);
+    }
+
+    public CompletableFuture<Void> appendAsync(JournalRecord record) {
+        if (record == null) {
+            throw new IllegalArgumentException("Journal record cannot be null");
+        }
+        return enqueue(new PendingAppend(record.encode())).durable;
+    }
+
+    /**
+     * Empties the log once everything appended so far is durable. Call it
+     * right after a snapshot that already contains all logged events.
+     */
+    public void checkpoint() {
+        await(enqueue(new PendingAppend(null)).durable);
+    }
+
+    private static void await(CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public long getSyncCount() {
+        return syncCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lifecycle) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(PendingAppend.SHUTDOWN);
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Only left over if the writer was interrupted; never leave a caller waiting.
+        IllegalStateException closedError = new IllegalStateException("Journal is closed");
+        for (PendingAppend pending; (pending = queue.poll()) != null; ) {
+            pending.durable.completeExceptionally(closedError);
+        }
+        channel.close();
+    }
+
+    private PendingAppend enqueue(PendingAppend pending) {
+        synchronized (lifecycle) {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            queue.add(pending);
+        }
+        return pending;
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            running = !batch.remove(PendingAppend.SHUTDOWN);
+            int from = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i).frame == null) {
+                    commit(batch.subList(from, i));
+                    truncate(batch.get(i));
+                    from = i + 1;
+                }
+            }
+            commit(batch.subList(from, batch.size()));
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingAppend> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (failure != null) {
+            fail(batch, failure);
+            return;
+        }
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).frame;
+            remaining += buffers[i].remaining();
+        }
+        long start = -1;
+        try {
+            start = channel.size();
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            channel.force(false);
+            syncCount.incrementAndGet();
+            for (PendingAppend pending : batch) {
+                pending.durable.complete(null);
+            }
+        } catch (IOException e) {
+            UncheckedIOException error = new UncheckedIOException("Failed to write booking journal", e);
+            rollBack(start, error);
+            fail(batch, error);
+        }
+    }
+
+    private void rollBack(long start, UncheckedIOException error) {
+        if (start >= 0) {
+            try {
+                channel.truncate(start);
+                channel.force(true);
+                return;
+            } catch (IOException e) {
+                error.addSuppressed(e);
+            }
+        }
+        failure = new UncheckedIOException("Booking journal failed and was not repaired", error.getCause());
+    }
+
+    private static void fail(List<PendingAppend> batch, UncheckedIOException error) {
+        for (PendingAppend pending : batch) {
+            pending.durable.completeExceptionally(error);
+        }
+    }
+
+    private void truncate(PendingAppend marker) {
+        try {
+            channel.truncate(0);
+            channel.force(true);
+            marker.durable.complete(null);
+        } catch (IOException e) {
+            marker.durable.completeExceptionally(new UncheckedIOException("Failed to truncate booking journal", e));
+        }
+    }
+
+    private static final class PendingAppend {
+        static final PendingAppend SHUTDOWN = new PendingAppend(ByteBuffer.allocate(0));
+
+        final ByteBuffer frame;
+        final CompletableFuture<Void> durable = new CompletableFuture<>();
+
+        PendingAppend(ByteBuffer frame) {
+            this.frame = frame;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Money;
+import com.hotel.model.Payment;
+import com.hotel.model.PaymentStatus;
+import com.hotel.model.Room;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * One journal entry. On disk a record is framed as
+ * {@code [int payloadLength][int crc32][payload]} so that recovery can detect
+ * a torn write at the tail of the log and stop there. A batch is one frame
+ * whose payload holds its records' frames, so it recovers whole or not at all.
+ */
+public final class JournalRecord {
+    public enum Type {
+        BOOKING_CREATED,
+        BOOKING_CANCELLED,
+        PAYMENT_PROCESSED,
+        // Frame type only: recovery sees the records inside, never a BATCH.
+        BATCH
+    }
+
+    static final int HEADER_BYTES = 8;
+
+    private final Type type;
+    private final String hotelId;
+    private final String bookingId;
+    private final String customerId;
+    private final String customerName;
+    private final String customerEmail;
+    private final String roomNumber;
+    private final LocalDate checkIn;
+    private final LocalDate checkOut;
+    private final String paymentId;
+    private final long amountCents;
+    private final PaymentStatus paymentStatus;
+
+    private JournalRecord(Type type, String hotelId, String bookingId, String customerId, String customerName,
+                          String customerEmail, String roomNumber, LocalDate checkIn, LocalDate checkOut,
+                          String paymentId, long amountCents, PaymentStatus paymentStatus) {
+        this.type = type;
+        this.hotelId = hotelId;
+        this.bookingId = bookingId;
+        this.customerId = customerId;
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.roomNumber = roomNumber;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.paymentId = paymentId;
+        this.amountCents = amountCents;
+        this.paymentStatus = paymentStatus;
+    }
+
+    public static JournalRecord bookingCreated(Booking booking) {
+        return new JournalRecord(Type.BOOKING_CREATED, hotelIdOf(booking.getRoom()), booking.getBookingId(),
+                booking.getCustomer().getCustomerId(), booking.getCustomer().getName(),
+                booking.getCustomer().getEmail(), booking.getRoom().getRoomNumber(),
+                booking.getCheckInDate(), booking.getCheckOutDate(), null, 0, null);
+    }
+
+    public static JournalRecord bookingCancelled(Booking booking) {
+        return new JournalRecord(Type.BOOKING_CANCELLED, hotelIdOf(booking.getRoom()), booking.getBookingId(),
+                null, null, null, null, null, null, null, 0, null);
+    }
+
+    public static JournalRecord paymentProcessed(Payment payment) {
+        return paymentProcessed(payment, payment.getStatus());
+    }
+
+    /** Records {@code outcome} for the payment before it is applied to it. */
+    public static JournalRecord paymentProcessed(Payment payment, PaymentStatus outcome) {
+        Booking booking = payment.getBooking();
+        return new JournalRecord(Type.PAYMENT_PROCESSED, hotelIdOf(booking.getRoom()), booking.getBookingId(),
+                null, null, null, null, null, null, payment.getPaymentId(), payment.getAmountCents(),
+                outcome);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getHotelId() {
+        return hotelId;
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+
+    public LocalDate getCheckIn() {
+        return checkIn;
+    }
+
+    public LocalDate getCheckOut() {
+        return checkOut;
+    }
+
+    public String getPaymentId() {
+        return paymentId;
+    }
+
+    public double getAmount() {
+        return Money.toMajor(amountCents);
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public PaymentStatus getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    ByteBuffer encode() {
+        byte[] hotel = bytes(hotelId);
+        byte[] booking = bytes(bookingId);
+        int size = 1 + sized(hotel) + sized(booking);
+        byte[] customer = null, name = null, email = null, room = null, payment = null;
+        switch (type) {
+            case BOOKING_CREATED:
+                customer = bytes(customerId);
+                name = bytes(customerName);
+                email = bytes(customerEmail);
+                room = bytes(roomNumber);
+                size += sized(customer) + sized(name) + sized(email) + sized(room) + 2 * Long.BYTES;
+                break;
+            case PAYMENT_PROCESSED:
+                payment = bytes(paymentId);
+                size += sized(payment) + Long.BYTES + 1;
+                break;
+            default:
+                break;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size);
+        buffer.position(HEADER_BYTES);
+        buffer.put((byte) type.ordinal());
+        put(buffer, hotel);
+        put(buffer, booking);
+        if (type == Type.BOOKING_CREATED) {
+            put(buffer, customer);
+            put(buffer, name);
+            put(buffer, email);
+            put(buffer, room);
+            buffer.putLong(checkIn.toEpochDay());
+            buffer.putLong(checkOut.toEpochDay());
+        } else if (type == Type.PAYMENT_PROCESSED) {
+            put(buffer, payment);
+            buffer.putLong(amountCents);
+            buffer.put((byte) paymentStatus.ordinal());
+        }
+
+        return seal(buffer, size);
+    }
+
+    static ByteBuffer encodeBatch(List<JournalRecord> records) {
+        ByteBuffer[] frames = new ByteBuffer[records.size()];
+        int size = 1 + Integer.BYTES;
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = records.get(i).encode();
+            size += frames[i].remaining();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size);
+        buffer.position(HEADER_BYTES);
+        buffer.put((byte) Type.BATCH.ordinal());
+        buffer.putInt(frames.length);
+        for (ByteBuffer frame : frames) {
+            buffer.put(frame);
+        }
+        return seal(buffer, size);
+    }
+
+    private static ByteBuffer seal(ByteBuffer buffer, int size) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, size);
+        buffer.putInt(0, size);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /** Decodes one frame's payload into {@code out}, unpacking a batch. */
+    static void decodeInto(ByteBuffer payload, List<JournalRecord> out) {
+        if (payload.get(payload.position()) != Type.BATCH.ordinal()) {
+            out.add(decode(payload));
+            return;
+        }
+        payload.get();
+        int count = payload.getInt();
+        for (int i = 0; i < count; i++) {
+            int length = payload.getInt();
+            payload.getInt(); // The batch CRC already covers the inner frame.
+            ByteBuffer inner = payload.slice();
+            inner.limit(length);
+            out.add(decode(inner));
+            payload.position(payload.position() + length);
+        }
+    }
+
+    static JournalRecord decode(ByteBuffer payload) {
+        Type type = Type.values()[payload.get()];
+        String hotelId = string(payload);
+        String bookingId = string(payload);
+        switch (type) {
+            case BOOKING_CREATED:
+                return new JournalRecord(type, hotelId, bookingId, string(payload), string(payload),
+                        string(payload), string(payload), LocalDate.ofEpochDay(payload.getLong()),
+                        LocalDate.ofEpochDay(payload.getLong()), null, 0, null);
+            case PAYMENT_PROCESSED:
+                return new JournalRecord(type, hotelId, bookingId, null, null, null, null, null, null,
+                        string(payload), payload.getLong(), PaymentStatus.values()[payload.get()]);
+            default:
+                return new JournalRecord(type, hotelId, bookingId, null, null, null, null, null, null,
+                        null, 0, null);
+        }
+    }
+
+    private static String hotelIdOf(Room room) {
+        return room.getHotel() == null ? "" : room.getHotel().getHotelId();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sized(byte[] value) {
+        return Integer.BYTES + value.length;
+    }
+
+    private static void put(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
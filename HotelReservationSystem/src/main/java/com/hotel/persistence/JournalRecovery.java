@@ -0,0 +1,258 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Rebuilds bookings and payments from a {@link BookingJournal} file.
+ *
+ * <p>The log is read once sequentially, which also recreates customers in the
+ * order they first appeared. Records are then partitioned by hotel and each
+ * hotel's partition is replayed in log order on its own thread; hotels share
+ * no rooms, so partitions never contend.
+ */
+public final class JournalRecovery {
+
+    private JournalRecovery() {
+    }
+
+    public static RecoveredState recover(Path file, Collection<Hotel> hotels) throws IOException {
+        return recover(file, hotels, List.of());
+    }
+
+    public static RecoveredState recover(Path file, Collection<Hotel> hotels, Collection<Customer> knownCustomers)
+            throws IOException {
+        return recover(file, hotels, knownCustomers, List.of());
+    }
+
+    public static RecoveredState recover(Path file, Collection<Hotel> hotels, Collection<Customer> knownCustomers,
+                                         Collection<Booking> knownBookings) throws IOException {
+        return recover(file, hotels, knownCustomers, knownBookings, List.of());
+    }
+
+    /**
+     * Replays on top of already loaded state, such as a snapshot. Known
+     * customers are reused rather than recreated, cancellations and payments
+     * logged for known bookings are applied to them, and outcomes logged for
+     * known payments update those payments in place. Only customers, bookings
+     * and payments first seen in the log are returned.
+     */
+    public static RecoveredState recover(Path file, Collection<Hotel> hotels, Collection<Customer> knownCustomers,
+                                         Collection<Booking> knownBookings, Collection<Payment> knownPayments)
+            throws IOException {
+        Map<String, Hotel> hotelsById = new HashMap<>();
+        for (Hotel hotel : hotels) {
+            hotelsById.put(hotel.getHotelId(), hotel);
+        }
+
+        Map<String, Customer> customers = new LinkedHashMap<>();
+        for (Customer customer : knownCustomers) {
+            customers.put(customer.getCustomerId(), customer);
+        }
+        int known = customers.size();
+        Map<String, Booking> loaded = new HashMap<>();
+        for (Booking booking : knownBookings) {
+            loaded.put(booking.getBookingId(), booking);
+        }
+        Map<String, Payment> loadedPayments = new HashMap<>();
+        for (Payment payment : knownPayments) {
+            loadedPayments.put(payment.getPaymentId(), payment);
+        }
+        Map<String, List<JournalRecord>> partitions = new LinkedHashMap<>();
+        AtomicInteger skipped = new AtomicInteger();
+        for (JournalRecord record : read(file)) {
+            if (record.getType() == JournalRecord.Type.BOOKING_CREATED) {
+                customers.computeIfAbsent(record.getCustomerId(), id ->
+                        new Customer(id, record.getCustomerName(), record.getCustomerEmail()));
+            }
+            if (hotelsById.containsKey(record.getHotelId())) {
+                partitions.computeIfAbsent(record.getHotelId(), id -> new ArrayList<>()).add(record);
+            } else {
+                skipped.incrementAndGet();
+            }
+        }
+
+        List<Partition> replayed = new ArrayList<>();
+        for (Map.Entry<String, List<JournalRecord>> partition : partitions.entrySet()) {
+            replayed.add(new Partition(hotelsById.get(partition.getKey()), partition.getValue(), customers, loaded,
+                    loadedPayments));
+        }
+        replayed.parallelStream().forEach(Partition::replay);
+
+        List<Customer> recovered = new ArrayList<>(customers.values());
+        RecoveredState state = new RecoveredState(new ArrayList<>(recovered.subList(known, recovered.size())));
+        for (Partition partition : replayed) {
+            state.bookings.addAll(partition.bookings.values());
+            state.payments.addAll(partition.payments.values());
+            skipped.addAndGet(partition.skipped);
+        }
+        state.skippedRecords = skipped.get();
+        return state;
+    }
+
+    static List<JournalRecord> read(Path file) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        InputStream raw;
+        try {
+            raw = Files.newInputStream(file);
+        } catch (NoSuchFileException e) {
+            return records;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(raw, 1 << 16))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                byte[] payload;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    // A torn write at the tail: everything before it is intact.
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                JournalRecord.decodeInto(ByteBuffer.wrap(payload), records);
+            }
+        }
+        return records;
+    }
+
+    public static final class RecoveredState {
+        private final List<Customer> customers;
+        private final List<Booking> bookings = new ArrayList<>();
+        private final List<Payment> payments = new ArrayList<>();
+        private int skippedRecords;
+
+        private RecoveredState(List<Customer> customers) {
+            this.customers = customers;
+        }
+
+        public List<Customer> getCustomers() {
+            return customers;
+        }
+
+        public List<Booking> getBookings() {
+            return bookings;
+        }
+
+        public List<Payment> getPayments() {
+            return payments;
+        }
+
+        public int getSkippedRecords() {
+            return skippedRecords;
+        }
+    }
+
+    private static final class Partition {
+        private final Hotel hotel;
+        private final List<JournalRecord> records;
+        private final Map<String, Customer> customers;
+        // Read-only here; shared by every partition.
+        private final Map<String, Booking> loaded;
+        private final Map<String, Payment> loadedPayments;
+        private final Map<String, Booking> bookings = new LinkedHashMap<>();
+        // A declined payment can be charged again, so its id may recur.
+        private final Map<String, Payment> payments = new LinkedHashMap<>();
+        private int skipped;
+
+        Partition(Hotel hotel, List<JournalRecord> records, Map<String, Customer> customers,
+                  Map<String, Booking> loaded, Map<String, Payment> loadedPayments) {
+            this.hotel = hotel;
+            this.records = records;
+            this.customers = customers;
+            this.loaded = loaded;
+            this.loadedPayments = loadedPayments;
+        }
+
+        void replay() {
+            Map<String, Room> rooms = new HashMap<>();
+            for (Room room : hotel.getRooms()) {
+                rooms.put(room.getRoomNumber(), room);
+            }
+            for (JournalRecord record : records) {
+                try {
+                    apply(record, rooms);
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    skipped++;
+                }
+            }
+        }
+
+        private void apply(JournalRecord record, Map<String, Room> rooms) {
+            switch (record.getType()) {
+                case BOOKING_CREATED: {
+                    Room room = rooms.get(record.getRoomNumber());
+                    if (room == null) {
+                        skipped++;
+                        return;
+                    }
+                    Booking booking = new Booking(record.getBookingId(), customers.get(record.getCustomerId()),
+                            room, record.getCheckIn(), record.getCheckOut());
+                    bookings.put(booking.getBookingId(), booking);
+                    break;
+                }
+                case BOOKING_CANCELLED: {
+                    Booking booking = find(record.getBookingId());
+                    if (booking == null) {
+                        skipped++;
+                        return;
+                    }
+                    booking.cancelBooking();
+                    break;
+                }
+                case PAYMENT_PROCESSED: {
+                    Booking booking = find(record.getBookingId());
+                    if (booking == null) {
+                        skipped++;
+                        return;
+                    }
+                    Payment payment = loadedPayments.get(record.getPaymentId());
+                    if (payment == null) {
+                        payment = payments.computeIfAbsent(record.getPaymentId(),
+                                id -> Payment.ofCents(id, booking, record.getAmountCents()));
+                    }
+                    if (record.getPaymentStatus() == PaymentStatus.COMPLETED) {
+                        payment.processPayment();
+                    } else if (record.getPaymentStatus() == PaymentStatus.FAILED) {
+                        payment.markAsFailed();
+                    }
+                    break;
+                }
+                default:
+                    skipped++;
+            }
+        }
+
+        private Booking find(String bookingId) {
+            Booking booking = bookings.get(bookingId);
+            return booking != null ? booking : loaded.get(bookingId);
+        }
+    }
+}
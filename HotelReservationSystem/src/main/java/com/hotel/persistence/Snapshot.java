@@ -0,0 +1,37 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Customer;
+import com.hotel.model.Hotel;
+import com.hotel.model.Payment;
+import java.util.List;
+
+public final class Snapshot {
+    private final List<Hotel> hotels;
+    private final List<Customer> customers;
+    private final List<Booking> bookings;
+    private final List<Payment> payments;
+
+    public Snapshot(List<Hotel> hotels, List<Customer> customers, List<Booking> bookings, List<Payment> payments) {
+        this.hotels = hotels == null ? List.of() : hotels;
+        this.customers = customers == null ? List.of() : customers;
+        this.bookings = bookings == null ? List.of() : bookings;
+        this.payments = payments == null ? List.of() : payments;
+    }
+
+    public List<Hotel> getHotels() {
+        return hotels;
+    }
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    public List<Booking> getBookings() {
+        return bookings;
+    }
+
+    public List<Payment> getPayments() {
+        return payments;
+    }
+}
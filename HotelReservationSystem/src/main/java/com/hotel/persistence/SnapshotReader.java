@@ -0,0 +1,120 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a file written by {@link SnapshotWriter}. The file is memory-mapped
+ * and decoded in a single forward pass straight from the mapping, so start-up
+ * costs one page-cache read instead of a stream of small reads or an event
+ * replay.
+ */
+public final class SnapshotReader {
+
+    private SnapshotReader() {
+    }
+
+    public static Snapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < 8 || buffer.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Not a hotel snapshot: " + file);
+        }
+        int version = buffer.getInt();
+        // Version 1 stored prices and amounts as doubles rather than cents.
+        boolean legacyAmounts = version == 1;
+        if (version != SnapshotWriter.VERSION && !legacyAmounts) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+
+        RoomType[] roomTypes = RoomType.values();
+        int hotelCount = buffer.getInt();
+        List<Hotel> hotels = new ArrayList<>(hotelCount);
+        List<Room[]> roomsByHotel = new ArrayList<>(hotelCount);
+        List<Room> outOfService = new ArrayList<>();
+        for (int h = 0; h < hotelCount; h++) {
+            Hotel hotel = new Hotel(readString(buffer), readString(buffer), readString(buffer));
+            Room[] rooms = new Room[buffer.getInt()];
+            for (int r = 0; r < rooms.length; r++) {
+                String roomNumber = readString(buffer);
+                RoomType type = roomTypes[buffer.get()];
+                rooms[r] = Room.ofCents(roomNumber, type, readCents(buffer, legacyAmounts));
+                if (buffer.get() == 0) {
+                    outOfService.add(rooms[r]);
+                }
+                hotel.addRoom(rooms[r]);
+            }
+            hotels.add(hotel);
+            roomsByHotel.add(rooms);
+        }
+
+        Customer[] customers = new Customer[buffer.getInt()];
+        for (int c = 0; c < customers.length; c++) {
+            customers[c] = new Customer(readString(buffer), readString(buffer), readString(buffer));
+        }
+
+        BookingStatus[] bookingStatuses = BookingStatus.values();
+        Booking[] bookings = new Booking[buffer.getInt()];
+        for (int b = 0; b < bookings.length; b++) {
+            String bookingId = readString(buffer);
+            Customer customer = customers[buffer.getInt()];
+            int hotel = buffer.getInt();
+            Room room = roomsByHotel.get(hotel)[buffer.getInt()];
+            LocalDate checkIn = LocalDate.ofEpochDay(buffer.getLong());
+            LocalDate checkOut = LocalDate.ofEpochDay(buffer.getLong());
+            BookingStatus status = bookingStatuses[buffer.get()];
+            bookings[b] = new Booking(bookingId, customer, room, checkIn, checkOut);
+            if (status == BookingStatus.CANCELLED) {
+                bookings[b].cancelBooking();
+            }
+        }
+        // Rooms are taken out of service only after their bookings are back.
+        for (Room room : outOfService) {
+            room.setInService(false);
+        }
+
+        PaymentStatus[] paymentStatuses = PaymentStatus.values();
+        Payment[] payments = new Payment[buffer.getInt()];
+        for (int p = 0; p < payments.length; p++) {
+            String paymentId = readString(buffer);
+            Booking booking = bookings[buffer.getInt()];
+            long amountCents = readCents(buffer, legacyAmounts);
+            LocalDateTime paymentDate = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            PaymentStatus status = paymentStatuses[buffer.get()];
+            payments[p] = Payment.ofCents(paymentId, booking, amountCents, paymentDate);
+            if (status == PaymentStatus.COMPLETED) {
+                payments[p].processPayment();
+            } else if (status == PaymentStatus.FAILED) {
+                payments[p].markAsFailed();
+            }
+        }
+
+        return new Snapshot(hotels, List.of(customers), List.of(bookings), List.of(payments));
+    }
+
+    private static long readCents(MappedByteBuffer buffer, boolean legacyAmounts) {
+        return legacyAmounts ? Money.ofMajor(buffer.getDouble()) : buffer.getLong();
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes hotels, rooms, customers, bookings and payments into one compact
+ * binary file that {@link SnapshotReader} maps back into memory.
+ *
+ * <p>Layout (big-endian): magic, version, then four sections, each a count
+ * followed by fixed-order fields. Strings are a length and UTF-8 bytes;
+ * references between sections are int indexes into the earlier section, so
+ * the reader rebuilds the object graph in one forward pass. The file is
+ * written next to the target, synced, moved into place and the directory
+ * synced, so a crash never leaves a half-written snapshot behind and the
+ * journal can safely be checkpointed as soon as this returns.
+ */
+public final class SnapshotWriter {
+    static final int MAGIC = 0x48525353; // "HRSS"
+    static final int VERSION = 2;
+
+    private SnapshotWriter() {
+    }
+
+    public static void write(Path file, Snapshot snapshot) throws IOException {
+        Map<Hotel, Integer> hotelIndex = new IdentityHashMap<>();
+        Map<Room, Integer> roomIndex = new IdentityHashMap<>();
+        Map<Customer, Integer> customerIndex = new IdentityHashMap<>();
+        Map<Booking, Integer> bookingIndex = new IdentityHashMap<>();
+        List<Customer> customers = new ArrayList<>(snapshot.getCustomers());
+        for (Customer customer : customers) {
+            customerIndex.putIfAbsent(customer, customerIndex.size());
+        }
+        List<Booking> bookings = new ArrayList<>();
+        for (Hotel hotel : snapshot.getHotels()) {
+            hotelIndex.put(hotel, hotelIndex.size());
+        }
+        for (Booking booking : snapshot.getBookings()) {
+            if (booking.getRoom().getHotel() == null || !hotelIndex.containsKey(booking.getRoom().getHotel())) {
+                continue;
+            }
+            if (customerIndex.putIfAbsent(booking.getCustomer(), customerIndex.size()) == null) {
+                customers.add(booking.getCustomer());
+            }
+            bookingIndex.put(booking, bookings.size());
+            bookings.add(booking);
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(snapshot.getHotels().size());
+            for (Hotel hotel : snapshot.getHotels()) {
+                writeString(out, hotel.getHotelId());
+                writeString(out, hotel.getName());
+                writeString(out, hotel.getLocation());
+                List<Room> rooms = hotel.getRooms();
+                out.writeInt(rooms.size());
+                for (int i = 0; i < rooms.size(); i++) {
+                    Room room = rooms.get(i);
+                    roomIndex.put(room, i);
+                    writeString(out, room.getRoomNumber());
+                    out.writeByte(room.getType().ordinal());
+                    out.writeLong(room.getPricePerNightCents());
+                    out.writeBoolean(room.isInService());
+                }
+            }
+
+            out.writeInt(customers.size());
+            for (Customer customer : customers) {
+                writeString(out, customer.getCustomerId());
+                writeString(out, customer.getName());
+                writeString(out, customer.getEmail());
+            }
+
+            out.writeInt(bookings.size());
+            for (Booking booking : bookings) {
+                writeString(out, booking.getBookingId());
+                out.writeInt(customerIndex.get(booking.getCustomer()));
+                out.writeInt(hotelIndex.get(booking.getRoom().getHotel()));
+                out.writeInt(roomIndex.get(booking.getRoom()));
+                out.writeLong(booking.getCheckInDate().toEpochDay());
+                out.writeLong(booking.getCheckOutDate().toEpochDay());
+                out.writeByte(booking.getStatus().ordinal());
+            }
+
+            List<Payment> payments = new ArrayList<>();
+            for (Payment payment : snapshot.getPayments()) {
+                if (bookingIndex.containsKey(payment.getBooking())) {
+                    payments.add(payment);
+                }
+            }
+            out.writeInt(payments.size());
+            for (Payment payment : payments) {
+                writeString(out, payment.getPaymentId());
+                out.writeInt(bookingIndex.get(payment.getBooking()));
+                out.writeLong(payment.getAmountCents());
+                out.writeLong(payment.getPaymentDate().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(payment.getPaymentDate().getNano());
+                out.writeByte(payment.getStatus().ordinal());
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    // Makes the rename itself durable.
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms cannot open a directory; the rename stands either way.
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
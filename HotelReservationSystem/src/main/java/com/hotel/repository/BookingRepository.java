@@ -0,0 +1,146 @@
+package com.hotel.repository;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Room;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Bookings indexed by id, with secondary indexes by customer, by room and by
+ * check-in and check-out date. Cancelled bookings stay in every index; callers
+ * that only want live stays filter on {@link Booking#getStatus()}.
+ */
+public class BookingRepository {
+    private static final Comparator<Booking> BY_STAY = Comparator.comparing(Booking::getCheckInDate)
+            .thenComparing(Booking::getBookingId);
+
+    private final Map<String, Booking> bookingsById = new ConcurrentHashMap<>();
+    private final Map<String, Set<Booking>> bookingsByCustomer = new ConcurrentHashMap<>();
+    private final Map<Room, Set<Booking>> bookingsByRoom = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDate, Set<Booking>> bookingsByCheckIn = new ConcurrentSkipListMap<>();
+    private final NavigableMap<LocalDate, Set<Booking>> bookingsByCheckOut = new ConcurrentSkipListMap<>();
+    private final List<Booking> bookings = new ArrayList<>();
+
+    public void add(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        if (bookingsById.putIfAbsent(booking.getBookingId(), booking) != null) {
+            throw new IllegalArgumentException("Booking " + booking.getBookingId() + " already exists");
+        }
+        index(bookingsByCustomer, booking.getCustomer().getCustomerId(), booking);
+        index(bookingsByRoom, booking.getRoom(), booking);
+        index(bookingsByCheckIn, booking.getCheckInDate(), booking);
+        index(bookingsByCheckOut, booking.getCheckOutDate(), booking);
+        synchronized (bookings) {
+            bookings.add(booking);
+        }
+    }
+
+    public void addAll(Collection<Booking> bookings) {
+        for (Booking booking : bookings) {
+            add(booking);
+        }
+    }
+
+    public Booking findById(String bookingId) {
+        return bookingId == null ? null : bookingsById.get(bookingId);
+    }
+
+    public List<Booking> findByCustomer(String customerId) {
+        return sorted(customerId == null ? null : bookingsByCustomer.get(customerId));
+    }
+
+    public List<Booking> findByRoom(Room room) {
+        return sorted(room == null ? null : bookingsByRoom.get(room));
+    }
+
+    public List<Booking> findArrivals(LocalDate date) {
+        requireDate(date);
+        return sorted(bookingsByCheckIn.get(date));
+    }
+
+    public List<Booking> findDepartures(LocalDate date) {
+        requireDate(date);
+        return sorted(bookingsByCheckOut.get(date));
+    }
+
+    /**
+     * Bookings whose check-in falls in [from, to), ordered by check-in.
+     */
+    public List<Booking> findArrivalsBetween(LocalDate from, LocalDate to) {
+        requireDate(from);
+        requireDate(to);
+        List<Booking> result = new ArrayList<>();
+        for (Set<Booking> arrivals : bookingsByCheckIn.subMap(from, true, to, false).values()) {
+            result.addAll(arrivals);
+        }
+        result.sort(BY_STAY);
+        return result;
+    }
+
+    /**
+     * Walks the bookings whose check-in falls in [from, to) in check-in order
+     * without copying the repository: only one day's arrivals are held at a
+     * time. Either bound may be null to leave that end open. Bookings added
+     * during the walk may or may not be seen.
+     */
+    public void forEachArrival(LocalDate from, LocalDate to, Consumer<Booking> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        NavigableMap<LocalDate, Set<Booking>> range = bookingsByCheckIn;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (to != null) {
+            range = range.headMap(to, false);
+        }
+        for (Set<Booking> arrivals : range.values()) {
+            sorted(arrivals).forEach(action);
+        }
+    }
+
+    public List<Booking> getAll() {
+        synchronized (bookings) {
+            return Collections.unmodifiableList(new ArrayList<>(bookings));
+        }
+    }
+
+    public int size() {
+        return bookingsById.size();
+    }
+
+    public boolean isEmpty() {
+        return bookingsById.isEmpty();
+    }
+
+    private static <K> void index(Map<K, Set<Booking>> index, K key, Booking booking) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(booking);
+    }
+
+    private static List<Booking> sorted(Set<Booking> matches) {
+        if (matches == null) {
+            return List.of();
+        }
+        List<Booking> result = new ArrayList<>(matches);
+        result.sort(BY_STAY);
+        return result;
+    }
+
+    private static void requireDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hotel.repository;
+
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.model.Customer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Customers indexed by id and by normalised email for constant-time lookup,
+ * plus sorted indexes on normalised name and email for type-ahead search.
+ * Reads never lock; adds are serialised so that all indexes agree.
+ */
+public class CustomerRepository {
+    private final Map<String, Customer> customersById = new ConcurrentHashMap<>();
+    private final Map<String, Customer> customersByEmail = new ConcurrentHashMap<>();
+    // Keys are "normalised value \0 customerId" so equal names stay distinct.
+    private final NavigableMap<String, Customer> nameIndex = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, Customer> emailIndex = new ConcurrentSkipListMap<>();
+    private final List<Customer> customers = new ArrayList<>();
+
+    public synchronized void add(Customer customer) {
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null");
+        }
+        String email = normalise(customer.getEmail());
+        if (customersById.containsKey(customer.getCustomerId())) {
+            throw new DuplicateCustomerException("Customer " + customer.getCustomerId() + " already exists");
+        }
+        if (customersByEmail.containsKey(email)) {
+            throw new DuplicateCustomerException("A customer with email " + customer.getEmail() + " already exists");
+        }
+        customersById.put(customer.getCustomerId(), customer);
+        customersByEmail.put(email, customer);
+        nameIndex.put(indexKey(customer.getName(), customer), customer);
+        emailIndex.put(indexKey(customer.getEmail(), customer), customer);
+        synchronized (customers) {
+            customers.add(customer);
+        }
+    }
+
+    public void addAll(Collection<Customer> customers) {
+        for (Customer customer : customers) {
+            add(customer);
+        }
+    }
+
+    public Customer findById(String customerId) {
+        return customerId == null ? null : customersById.get(customerId);
+    }
+
+    public Customer findByEmail(String email) {
+        return email == null ? null : customersByEmail.get(normalise(email));
+    }
+
+    public boolean existsByEmail(String email) {
+        return findByEmail(email) != null;
+    }
+
+    /**
+     * Customers whose name or email starts with {@code prefix}, ignoring case,
+     * name matches first, each in alphabetical order. At most {@code limit}
+     * results are returned.
+     */
+    public List<Customer> searchByPrefix(String prefix, int limit) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        String normalised = normalise(prefix);
+        Set<Customer> matches = new LinkedHashSet<>();
+        collect(nameIndex, normalised, matches, limit);
+        collect(emailIndex, normalised, matches, limit);
+        return new ArrayList<>(matches);
+    }
+
+    public List<Customer> getAll() {
+        synchronized (customers) {
+            return Collections.unmodifiableList(new ArrayList<>(customers));
+        }
+    }
+
+    public int size() {
+        return customersById.size();
+    }
+
+    public boolean isEmpty() {
+        return customersById.isEmpty();
+    }
+
+    private static void collect(NavigableMap<String, Customer> index, String prefix, Set<Customer> matches, int limit) {
+        for (Map.Entry<String, Customer> entry : index.tailMap(prefix, true).entrySet()) {
+            if (matches.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            matches.add(entry.getValue());
+        }
+    }
+
+    private static String indexKey(String value, Customer customer) {
+        return normalise(value) + '\0' + customer.getCustomerId();
+    }
+
+    private static String normalise(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
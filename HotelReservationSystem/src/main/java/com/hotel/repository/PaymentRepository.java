@@ -0,0 +1,79 @@
+package com.hotel.repository;
+
+import com.hotel.model.Payment;
+import com.hotel.model.PaymentStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Payments in the order they were taken, indexed by booking so that a
+ * booking's payment status is one lookup however long the history is.
+ */
+public class PaymentRepository {
+    private final Map<String, List<Payment>> paymentsByBooking = new ConcurrentHashMap<>();
+    private final List<Payment> payments = new ArrayList<>();
+
+    public void add(Payment payment) {
+        if (payment == null) {
+            throw new IllegalArgumentException("Payment cannot be null");
+        }
+        paymentsByBooking.computeIfAbsent(payment.getBooking().getBookingId(), k -> new CopyOnWriteArrayList<>())
+                .add(payment);
+        synchronized (payments) {
+            payments.add(payment);
+        }
+    }
+
+    public void addAll(Collection<Payment> payments) {
+        for (Payment payment : payments) {
+            add(payment);
+        }
+    }
+
+    /** The booking's payments, oldest first. */
+    public List<Payment> findByBooking(String bookingId) {
+        List<Payment> matches = bookingId == null ? null : paymentsByBooking.get(bookingId);
+        return matches == null ? List.of() : Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * {@link PaymentStatus#COMPLETED} once any of the booking's payments has
+     * gone through, otherwise the status of its latest attempt; null if it
+     * has none.
+     */
+    public PaymentStatus findStatus(String bookingId) {
+        List<Payment> matches = bookingId == null ? null : paymentsByBooking.get(bookingId);
+        if (matches == null || matches.isEmpty()) {
+            return null;
+        }
+        PaymentStatus latest = null;
+        for (Payment payment : matches) {
+            latest = payment.getStatus();
+            if (latest == PaymentStatus.COMPLETED) {
+                return latest;
+            }
+        }
+        return latest;
+    }
+
+    public List<Payment> getAll() {
+        synchronized (payments) {
+            return Collections.unmodifiableList(new ArrayList<>(payments));
+        }
+    }
+
+    public int size() {
+        synchronized (payments) {
+            return payments.size();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
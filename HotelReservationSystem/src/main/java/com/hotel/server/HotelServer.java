@@ -0,0 +1,523 @@
+package com.hotel.server;
+
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.exception.InvalidPaymentException;
+import com.hotel.model.*;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
+import com.hotel.repository.PaymentRepository;
+import com.hotel.service.AvailabilitySearchResult;
+import com.hotel.service.BookingService;
+import com.hotel.service.CustomerService;
+import com.hotel.service.HotelRegistry;
+import com.hotel.service.PaymentService;
+import com.hotel.service.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * JSON over HTTP front end for availability search, customers, bookings and
+ * payments, on the JDK's built-in server. Each request runs on its own
+ * virtual thread where the runtime has them, so a slow payment gateway ties
+ * up nothing but the request waiting on it.
+ *
+ * <pre>
+ * GET    /hotels/{hotelId}/availability?type=SINGLE&amp;checkIn=2026-11-01&amp;checkOut=2026-11-03
+ * GET    /hotels/availability?type=SINGLE&amp;checkIn=...&amp;checkOut=...[&amp;location=New+York]
+ * POST   /customers          {"name": ..., "email": ...}
+ * POST   /bookings           {"customerId": ..., "hotelId": ..., "roomType": ..., "checkIn": ..., "checkOut": ...}
+ * GET    /bookings/{id}
+ * DELETE /bookings/{id}
+ * POST   /payments           {"bookingId": ...[, "amountCents": ...]}
+ * </pre>
+ *
+ * Stays must check in between today and
+ * {@link BookingService#MAX_ADVANCE_DAYS} days ahead and last at most
+ * {@link Booking#MAX_STAY_NIGHTS} nights. A payment always charges the
+ * booking total; an {@code amountCents} that differs is refused, and so is a
+ * payment for a cancelled or already paid booking.
+ *
+ * Availability responses carry an ETag built from
+ * {@link Hotel#getAvailabilityVersion()}; a GET with a matching
+ * {@code If-None-Match} gets 304 without searching at all. The chain-wide
+ * search answers within {@link #SEARCH_TIMEOUT} and lists the hotels that
+ * did not make it.
+ */
+public final class HotelServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 8080;
+    static final String JSON = "application/json; charset=utf-8";
+    static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(2);
+    private static final int FALLBACK_THREADS = 64;
+
+    private final HotelRegistry hotels;
+    private final CustomerRepository customers;
+    private final CustomerService customerService;
+    private final BookingRepository bookings;
+    private final BookingService bookingService;
+    private final PaymentService paymentService;
+    private final PaymentRepository payments;
+    // Bookings with a payment at the gateway right now.
+    private final Set<String> paying = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public HotelServer(HotelRegistry hotels, CustomerRepository customers, BookingRepository bookings,
+                       BookingService bookingService, PaymentService paymentService) {
+        this(hotels, customers, bookings, bookingService, paymentService, new PaymentRepository());
+    }
+
+    public HotelServer(HotelRegistry hotels, CustomerRepository customers, BookingRepository bookings,
+                       BookingService bookingService, PaymentService paymentService, PaymentRepository payments) {
+        if (hotels == null || customers == null || bookings == null || bookingService == null
+                || paymentService == null || payments == null) {
+            throw new IllegalArgumentException("Server dependencies cannot be null");
+        }
+        this.hotels = hotels;
+        this.customers = customers;
+        this.customerService = new CustomerService(customers);
+        this.bookings = bookings;
+        this.bookingService = bookingService;
+        this.paymentService = paymentService;
+        this.payments = payments;
+    }
+
+    /**
+     * Starts listening on {@code port}; 0 picks a free port, see
+     * {@link #getPort()}.
+     */
+    public synchronized void start(int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("Server is already started");
+        }
+        HttpServer http = HttpServer.create(new InetSocketAddress(port), 0);
+        http.createContext("/hotels/", exchange -> handle(exchange, this::hotels));
+        http.createContext("/customers", exchange -> handle(exchange, this::customers));
+        http.createContext("/bookings", exchange -> handle(exchange, this::bookings));
+        http.createContext("/payments", exchange -> handle(exchange, this::payments));
+        executor = VirtualThreads.newPerTaskExecutor("http", FALLBACK_THREADS);
+        http.setExecutor(executor);
+        http.start();
+        server = http;
+    }
+
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Server is not started");
+        }
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+    private void hotels(HttpExchange exchange, String[] path) throws IOException {
+        if (path.length == 2 && "availability".equals(path[1])) {
+            searchChain(exchange);
+            return;
+        }
+        // /hotels/{hotelId}/availability
+        if (path.length != 3 || !"availability".equals(path[2])) {
+            throw new ApiException(404, "Not found");
+        }
+        requireMethod(exchange, "GET");
+        Hotel hotel = hotels.findById(path[1]);
+        if (hotel == null) {
+            throw new ApiException(404, "Hotel " + path[1] + " not found");
+        }
+        Map<String, String> query = query(exchange);
+        RoomType type = roomType(required(query, "type"));
+        LocalDate checkIn = date(required(query, "checkIn"));
+        LocalDate checkOut = date(required(query, "checkOut"));
+
+        // Read before searching: a change racing with the search can only
+        // make the tag older than the body, which costs a refetch, never a
+        // stale 304.
+        String etag = "\"" + hotel.getAvailabilityVersion() + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        List<Room> rooms = hotel.findAvailableRooms(type, checkIn, checkOut);
+        StringBuilder out = new StringBuilder(64 + rooms.size() * 96);
+        out.append("{\"hotelId\":");
+        Json.quote(out, hotel.getHotelId());
+        out.append(",\"roomType\":\"").append(type).append("\",\"checkIn\":\"").append(checkIn)
+                .append("\",\"checkOut\":\"").append(checkOut).append("\",\"rooms\":");
+        rooms(out, rooms, checkIn, checkOut).append('}');
+        send(exchange, 200, out);
+    }
+
+    // /hotels/availability: every hotel, or those in ?location=, in parallel.
+    private void searchChain(HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "GET");
+        Map<String, String> query = query(exchange);
+        RoomType type = roomType(required(query, "type"));
+        LocalDate checkIn = date(required(query, "checkIn"));
+        LocalDate checkOut = date(required(query, "checkOut"));
+        String location = query.get("location");
+        AvailabilitySearchResult result = location == null
+                ? hotels.searchAvailability(type, checkIn, checkOut, SEARCH_TIMEOUT)
+                : hotels.searchAvailability(location, type, checkIn, checkOut, SEARCH_TIMEOUT);
+
+        StringBuilder out = new StringBuilder(128 + result.getTotalRooms() * 96);
+        out.append("{\"roomType\":\"").append(type).append("\",\"checkIn\":\"").append(checkIn)
+                .append("\",\"checkOut\":\"").append(checkOut).append("\",\"hotels\":[");
+        boolean first = true;
+        for (Map.Entry<String, List<Room>> entry : result.getRoomsByHotel().entrySet()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            out.append("{\"hotelId\":");
+            Json.quote(out, entry.getKey()).append(",\"rooms\":");
+            rooms(out, entry.getValue(), checkIn, checkOut).append('}');
+        }
+        out.append("],\"timedOut\":");
+        ids(out, result.getTimedOutHotelIds()).append(",\"failed\":");
+        ids(out, result.getFailedHotelIds()).append('}');
+        send(exchange, 200, out);
+    }
+
+    private void customers(HttpExchange exchange, String[] path) throws IOException {
+        if (path.length != 1) {
+            throw new ApiException(404, "Not found");
+        }
+        requireMethod(exchange, "POST");
+        Map<String, Object> body = body(exchange);
+        Customer customer = customerService.registerCustomer(string(body, "name"), string(body, "email"));
+        exchange.getResponseHeaders().set("Location", "/customers/" + customer.getCustomerId());
+        send(exchange, 201, customer(new StringBuilder(128), customer));
+    }
+
+    private void bookings(HttpExchange exchange, String[] path) throws IOException {
+        if (path.length == 1) {
+            requireMethod(exchange, "POST");
+            Booking booking = createBooking(body(exchange));
+            exchange.getResponseHeaders().set("Location", "/bookings/" + booking.getBookingId());
+            send(exchange, 201, booking(new StringBuilder(256), booking));
+            return;
+        }
+        if (path.length != 2) {
+            throw new ApiException(404, "Not found");
+        }
+        Booking booking = bookings.findById(path[1]);
+        if (booking == null) {
+            throw new ApiException(404, "Booking " + path[1] + " not found");
+        }
+        String method = exchange.getRequestMethod();
+        if ("DELETE".equals(method)) {
+            bookingService.cancelBooking(booking);
+        } else if (!"GET".equals(method)) {
+            throw new ApiException(405, "Method " + method + " not allowed");
+        }
+        send(exchange, 200, booking(new StringBuilder(256), booking));
+    }
+
+    private Booking createBooking(Map<String, Object> body) {
+        Customer customer = customers.findById(string(body, "customerId"));
+        if (customer == null) {
+            throw new ApiException(404, "Customer " + body.get("customerId") + " not found");
+        }
+        Hotel hotel = hotels.findById(string(body, "hotelId"));
+        if (hotel == null) {
+            throw new ApiException(404, "Hotel " + body.get("hotelId") + " not found");
+        }
+        LocalDate checkIn = date(string(body, "checkIn"));
+        LocalDate checkOut = date(string(body, "checkOut"));
+        requireBookableStay(checkIn, checkOut);
+
+        Object roomNumber = body.get("roomNumber");
+        if (roomNumber != null) {
+            Room room = hotel.findRoom(roomNumber.toString());
+            if (room == null) {
+                throw new ApiException(404, "Room " + roomNumber + " not found");
+            }
+            return book(customer, room, checkIn, checkOut);
+        }
+        // Another request may take a room between the search and the booking,
+        // so fall through to the next free one before giving up.
+        RoomType type = roomType(string(body, "roomType"));
+        for (Room room : hotel.findAvailableRooms(type, checkIn, checkOut)) {
+            try {
+                return book(customer, room, checkIn, checkOut);
+            } catch (InvalidBookingException e) {
+                if (room.isAvailable(checkIn, checkOut)) {
+                    throw e;
+                }
+            }
+        }
+        throw new ApiException(409, "No " + type + " rooms available");
+    }
+
+    // Refused here as bad input, before any room is searched or locked.
+    private static void requireBookableStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn.isBefore(LocalDate.now()) || BookingService.beyondHorizon(checkIn)) {
+            throw new IllegalArgumentException("Check-in must be between today and "
+                    + BookingService.MAX_ADVANCE_DAYS + " days ahead");
+        }
+        if (!checkOut.isAfter(checkIn) || checkOut.isAfter(checkIn.plusDays(Booking.MAX_STAY_NIGHTS))) {
+            throw new IllegalArgumentException("Check-out must be 1 to " + Booking.MAX_STAY_NIGHTS
+                    + " nights after check-in");
+        }
+    }
+
+    private Booking book(Customer customer, Room room, LocalDate checkIn, LocalDate checkOut) {
+        Booking booking = bookingService.createBooking(customer, room, checkIn, checkOut);
+        bookings.add(booking);
+        return booking;
+    }
+
+    private void payments(HttpExchange exchange, String[] path) throws IOException {
+        if (path.length != 1) {
+            throw new ApiException(404, "Not found");
+        }
+        requireMethod(exchange, "POST");
+        Map<String, Object> body = body(exchange);
+        Booking booking = bookings.findById(string(body, "bookingId"));
+        if (booking == null) {
+            throw new ApiException(404, "Booking " + body.get("bookingId") + " not found");
+        }
+        long totalCents = booking.calculateTotalPriceCents();
+        if (body.get("amountCents") != null && number(body, "amountCents") != totalCents) {
+            throw new ApiException(400, "Amount must be the booking total of " + totalCents + " cents");
+        }
+        String bookingId = booking.getBookingId();
+        if (!paying.add(bookingId)) {
+            throw new ApiException(409, "Booking " + bookingId + " is already being paid");
+        }
+        Payment payment;
+        int status = 201;
+        try {
+            if (booking.getStatus() == BookingStatus.CANCELLED) {
+                throw new ApiException(409, "Booking " + bookingId + " is cancelled");
+            }
+            if (payments.findStatus(bookingId) == PaymentStatus.COMPLETED) {
+                throw new ApiException(409, "Booking " + bookingId + " is already paid");
+            }
+            payment = paymentService.createPaymentCents(booking, totalCents);
+            payments.add(payment);
+            try {
+                paymentService.processPayment(payment);
+            } catch (InvalidPaymentException e) {
+                status = 402;
+            }
+        } finally {
+            paying.remove(bookingId);
+        }
+        send(exchange, status, payment(new StringBuilder(192), payment));
+    }
+
+    private static StringBuilder rooms(StringBuilder out, List<Room> rooms, LocalDate checkIn, LocalDate checkOut) {
+        out.append('[');
+        for (int i = 0; i < rooms.size(); i++) {
+            Room room = rooms.get(i);
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append("{\"roomNumber\":");
+            Json.quote(out, room.getRoomNumber());
+            out.append(",\"pricePerNightCents\":").append(room.getPricePerNightCents())
+                    .append(",\"stayPriceCents\":").append(room.calculateStayPriceCents(checkIn, checkOut))
+                    .append('}');
+        }
+        return out.append(']');
+    }
+
+    private static StringBuilder ids(StringBuilder out, List<String> ids) {
+        out.append('[');
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Json.quote(out, ids.get(i));
+        }
+        return out.append(']');
+    }
+
+    private static StringBuilder customer(StringBuilder out, Customer customer) {
+        out.append("{\"customerId\":");
+        Json.quote(out, customer.getCustomerId()).append(",\"name\":");
+        Json.quote(out, customer.getName()).append(",\"email\":");
+        return Json.quote(out, customer.getEmail()).append('}');
+    }
+
+    private static StringBuilder booking(StringBuilder out, Booking booking) {
+        Room room = booking.getRoom();
+        out.append("{\"bookingId\":");
+        Json.quote(out, booking.getBookingId()).append(",\"customerId\":");
+        Json.quote(out, booking.getCustomer().getCustomerId()).append(",\"hotelId\":");
+        Json.quote(out, room.getHotel() == null ? null : room.getHotel().getHotelId()).append(",\"roomNumber\":");
+        Json.quote(out, room.getRoomNumber());
+        return out.append(",\"roomType\":\"").append(room.getType())
+                .append("\",\"checkIn\":\"").append(booking.getCheckInDate())
+                .append("\",\"checkOut\":\"").append(booking.getCheckOutDate())
+                .append("\",\"totalCents\":").append(booking.calculateTotalPriceCents())
+                .append(",\"status\":\"").append(booking.getStatus()).append("\"}");
+    }
+
+    private static StringBuilder payment(StringBuilder out, Payment payment) {
+        out.append("{\"paymentId\":");
+        Json.quote(out, payment.getPaymentId()).append(",\"bookingId\":");
+        Json.quote(out, payment.getBooking().getBookingId());
+        return out.append(",\"amountCents\":").append(payment.getAmountCents())
+                .append(",\"status\":\"").append(payment.getStatus()).append("\"}");
+    }
+
+    private static void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            try {
+                String path = exchange.getRequestURI().getPath();
+                handler.handle(exchange, path.substring(1).split("/"));
+            } catch (ApiException e) {
+                error(exchange, e.status, e.getMessage());
+            } catch (DuplicateCustomerException e) {
+                error(exchange, 409, e.getMessage());
+            } catch (InvalidBookingException | InvalidPaymentException e) {
+                error(exchange, 422, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                error(exchange, 400, e.getMessage());
+            } catch (RuntimeException e) {
+                error(exchange, 500, "Internal error: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder out = new StringBuilder(64).append("{\"error\":");
+        Json.quote(out, message).append('}');
+        send(exchange, status, out);
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) {
+        if (!method.equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", method);
+            throw new ApiException(405, "Method " + exchange.getRequestMethod() + " not allowed");
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, Object> body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return Json.parseObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing query parameter " + name);
+        }
+        return value;
+    }
+
+    private static String string(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Field " + name + " must be a string");
+        }
+        return (String) value;
+    }
+
+    private static long number(Map<String, Object> body, String name) {
+        Object value = body.get(name);
+        if (!(value instanceof Long)) {
+            throw new IllegalArgumentException("Field " + name + " must be an integer");
+        }
+        return (Long) value;
+    }
+
+    private static LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date " + value + ", expected yyyy-MM-dd");
+        }
+    }
+
+    private static RoomType roomType(String value) {
+        try {
+            return RoomType.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown room type " + value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange, String[] path) throws IOException;
+    }
+
+    private static final class ApiException extends RuntimeException {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.hotel.service;
+
+import com.hotel.model.Room;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AvailabilitySearchResult {
+    private final Map<String, List<Room>> roomsByHotel = new LinkedHashMap<>();
+    private final List<String> timedOutHotelIds = new ArrayList<>();
+    private final List<String> failedHotelIds = new ArrayList<>();
+
+    void addRooms(String hotelId, List<Room> rooms) {
+        if (!rooms.isEmpty()) {
+            roomsByHotel.put(hotelId, Collections.unmodifiableList(rooms));
+        }
+    }
+
+    void addTimedOut(String hotelId) {
+        timedOutHotelIds.add(hotelId);
+    }
+
+    void addFailed(String hotelId) {
+        failedHotelIds.add(hotelId);
+    }
+
+    public Map<String, List<Room>> getRoomsByHotel() {
+        return Collections.unmodifiableMap(roomsByHotel);
+    }
+
+    public List<Room> getRooms(String hotelId) {
+        return roomsByHotel.getOrDefault(hotelId, List.of());
+    }
+
+    public int getTotalRooms() {
+        int total = 0;
+        for (List<Room> rooms : roomsByHotel.values()) {
+            total += rooms.size();
+        }
+        return total;
+    }
+
+    public List<String> getTimedOutHotelIds() {
+        return Collections.unmodifiableList(timedOutHotelIds);
+    }
+
+    public List<String> getFailedHotelIds() {
+        return Collections.unmodifiableList(failedHotelIds);
+    }
+
+    public boolean isComplete() {
+        return timedOutHotelIds.isEmpty() && failedHotelIds.isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Payment;
+import com.hotel.model.RoomListener;
+
+/**
+ * Told about every change the booking and payment services make, after the
+ * model has changed and the change is in the journal; a change the journal
+ * refuses is rolled back and never announced. Callbacks run on the thread that made the change, so
+ * they must be quick and must not throw. Room callbacks are inherited so one
+ * listener can also be registered with {@link com.hotel.model.Hotel}.
+ */
+public interface BookingEventListener extends RoomListener {
+    default void bookingCreated(Booking booking) {
+    }
+
+    default void bookingCancelled(Booking booking) {
+    }
+
+    default void paymentCreated(Payment payment) {
+    }
+
+    default void paymentProcessed(Payment payment) {
+    }
+
+    default void paymentFailed(Payment payment) {
+    }
+}
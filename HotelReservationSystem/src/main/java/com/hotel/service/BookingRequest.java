@@ -0,0 +1,41 @@
+package com.hotel.service;
+
+import com.hotel.model.Customer;
+import com.hotel.model.Room;
+import java.time.LocalDate;
+
+public class BookingRequest {
+    private final String bookingId;
+    private final Customer customer;
+    private final Room room;
+    private final LocalDate checkIn;
+    private final LocalDate checkOut;
+
+    public BookingRequest(String bookingId, Customer customer, Room room, LocalDate checkIn, LocalDate checkOut) {
+        this.bookingId = bookingId;
+        this.customer = customer;
+        this.room = room;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+    }
+
+    public String getBookingId() {
+        return bookingId;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public LocalDate getCheckIn() {
+        return checkIn;
+    }
+
+    public LocalDate getCheckOut() {
+        return checkOut;
+    }
+}
@@ -1,30 +1,323 @@
 package com.hotel.service;
 
 import com.hotel.model.*;
+import com.hotel.exception.BookingBatchException;
 import com.hotel.exception.InvalidBookingException;
+import com.hotel.jfr.BookingCancelEvent;
+import com.hotel.jfr.BookingCreateEvent;
+import com.hotel.metrics.Counter;
+import com.hotel.metrics.LatencyHistogram;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.persistence.BookingJournal;
+import com.hotel.persistence.JournalRecord;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class BookingService {
+    public static final String ID_PREFIX = "BOOK";
+    /** How far ahead of today a stay may check in. */
+    public static final int MAX_ADVANCE_DAYS = 2 * 366;
+
+    private static final String HORIZON_ERROR = "Check-in date cannot be more than " + MAX_ADVANCE_DAYS
+            + " days ahead";
+
+    private static final LatencyHistogram CREATE_LATENCY = MetricsRegistry.getDefault()
+            .histogram("hotel_booking_create_seconds", "Time taken to create a booking.");
+    private static final LatencyHistogram CANCEL_LATENCY = MetricsRegistry.getDefault()
+            .histogram("hotel_booking_cancel_seconds", "Time taken to cancel a booking.");
+    private static final Counter BOOKINGS_CREATED = MetricsRegistry.getDefault()
+            .counter("hotel_bookings_created_total", "Bookings created.");
+    private static final Counter BOOKINGS_REJECTED = MetricsRegistry.getDefault()
+            .counter("hotel_bookings_rejected_total", "Booking attempts that failed.");
+    private static final Counter BOOKINGS_CANCELLED = MetricsRegistry.getDefault()
+            .counter("hotel_bookings_cancelled_total", "Bookings cancelled.");
+
+    private final BookingJournal journal;
+    private final IdGenerator ids;
+    private final List<BookingEventListener> listeners = new CopyOnWriteArrayList<>();
+
+    public BookingService() {
+        this(null);
+    }
+
+    public BookingService(BookingJournal journal) {
+        this(journal, IdGenerator.getDefault());
+    }
+
+    public BookingService(BookingJournal journal, IdGenerator ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Id generator cannot be null");
+        }
+        this.journal = journal;
+        this.ids = ids;
+    }
+
+    public void addListener(BookingEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookingEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    public Booking createBooking(Customer customer, Room room, LocalDate checkIn, LocalDate checkOut) {
+        return createBooking(ids.nextId(ID_PREFIX), customer, room, checkIn, checkOut);
+    }
     
     public Booking createBooking(String bookingId, Customer customer, Room room, 
                                  LocalDate checkIn, LocalDate checkOut) {
+        BookingCreateEvent event = new BookingCreateEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            Booking booking = new Booking(bookingId, customer, room, checkIn, checkOut);
+            Booking booking = create(bookingId, customer, room, checkIn, checkOut);
+            BOOKINGS_CREATED.increment();
+            event.complete(bookingId, room, checkIn, checkOut, null);
             return booking;
+        } catch (RuntimeException e) {
+            BOOKINGS_REJECTED.increment();
+            event.complete(bookingId, room, checkIn, checkOut, e);
+            throw e;
+        } finally {
+            CREATE_LATENCY.recordSince(start);
+        }
+    }
+
+    private Booking create(String bookingId, Customer customer, Room room, LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn != null && checkIn.isBefore(LocalDate.now())) {
+            throw new InvalidBookingException("Failed to create booking: Check-in date cannot be in the past");
+        }
+        if (checkIn != null && beyondHorizon(checkIn)) {
+            throw new InvalidBookingException("Failed to create booking: " + HORIZON_ERROR);
+        }
+        Booking booking;
+        try {
+            booking = new Booking(bookingId, customer, room, checkIn, checkOut);
         } catch (IllegalArgumentException | IllegalStateException e) {
             throw new InvalidBookingException("Failed to create booking: " + e.getMessage(), e);
         }
+        if (journal != null) {
+            try {
+                journal.append(JournalRecord.bookingCreated(booking));
+            } catch (UncheckedIOException | IllegalStateException e) {
+                rollBack(List.of(booking));
+                throw new InvalidBookingException("Failed to persist booking: " + e.getMessage(), e);
+            }
+        }
+        for (BookingEventListener listener : listeners) {
+            listener.bookingCreated(booking);
+        }
+        return booking;
     }
     
+    /**
+     * Books a whole block of stays or none of them. The batch is validated in
+     * one pass without throwing per item, then the rooms are reserved in a
+     * stable (hotel, room, check-in) order. If any reservation or the journal
+     * write fails, every booking made so far is released again and the
+     * batch fails with one {@link BookingBatchException} listing the problems.
+     */
+    public List<Booking> createBookings(List<BookingRequest> requests) {
+        return createBookings(requests, false);
+    }
+
+    /**
+     * Loads a block of existing bookings, e.g. history migrated from another
+     * system, exactly as {@link #createBookings(List)} would except that stays
+     * may start in the past.
+     */
+    public List<Booking> importBookings(List<BookingRequest> requests) {
+        return createBookings(requests, true);
+    }
+
+    private List<Booking> createBookings(List<BookingRequest> requests, boolean allowPast) {
+        if (requests == null) {
+            throw new InvalidBookingException("Booking requests cannot be null");
+        }
+        List<String> errors = validate(requests, allowPast);
+        if (!errors.isEmpty()) {
+            BOOKINGS_REJECTED.add(requests.size());
+            throw new BookingBatchException(errors);
+        }
+
+        Integer[] order = new Integer[requests.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> hotelIdOf(requests.get(i).getRoom()))
+                .thenComparing(i -> requests.get(i).getRoom().getRoomNumber())
+                .thenComparing(i -> requests.get(i).getCheckIn()));
+
+        Booking[] bookings = new Booking[requests.size()];
+        List<Booking> created = new ArrayList<>(requests.size());
+        for (int i : order) {
+            BookingRequest request = requests.get(i);
+            String failure = null;
+            if (!request.getRoom().isAvailable(request.getCheckIn(), request.getCheckOut())) {
+                failure = describe(i, request, "Room is not available for booking");
+            } else {
+                try {
+                    bookings[i] = new Booking(request.getBookingId(), request.getCustomer(), request.getRoom(),
+                            request.getCheckIn(), request.getCheckOut());
+                    created.add(bookings[i]);
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    failure = describe(i, request, e.getMessage());
+                }
+            }
+            if (failure != null) {
+                BOOKINGS_REJECTED.add(requests.size());
+                rollBack(created);
+                throw new BookingBatchException(List.of(failure));
+            }
+        }
+
+        if (journal != null) {
+            // One frame for the whole batch, so a crash can never leave part of it durable.
+            List<JournalRecord> records = new ArrayList<>(created.size());
+            for (Booking booking : created) {
+                records.add(JournalRecord.bookingCreated(booking));
+            }
+            try {
+                journal.appendAll(records);
+            } catch (UncheckedIOException | IllegalStateException e) {
+                BOOKINGS_REJECTED.add(requests.size());
+                rollBack(created);
+                throw new BookingBatchException(List.of("Failed to persist batch: " + e.getMessage()), e);
+            }
+        }
+        BOOKINGS_CREATED.add(bookings.length);
+        for (Booking booking : bookings) {
+            for (BookingEventListener listener : listeners) {
+                listener.bookingCreated(booking);
+            }
+        }
+        return Arrays.asList(bookings);
+    }
+
+    private List<String> validate(List<BookingRequest> requests, boolean allowPast) {
+        List<String> errors = new ArrayList<>();
+        Set<String> bookingIds = new HashSet<>();
+        Map<Room, List<BookingRequest>> staysByRoom = new IdentityHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < requests.size(); i++) {
+            BookingRequest request = requests.get(i);
+            if (request == null) {
+                errors.add("Request " + i + ": Booking request cannot be null");
+                continue;
+            }
+            String error = null;
+            if (request.getBookingId() == null || request.getBookingId().trim().isEmpty()) {
+                error = "Booking ID cannot be null or empty";
+            } else if (!bookingIds.add(request.getBookingId())) {
+                error = "Duplicate booking ID in batch";
+            } else if (request.getCustomer() == null) {
+                error = "Customer cannot be null";
+            } else if (request.getRoom() == null) {
+                error = "Room cannot be null";
+            } else if (request.getCheckIn() == null || request.getCheckOut() == null
+                    || !request.getCheckOut().isAfter(request.getCheckIn())) {
+                error = "Invalid check-in/check-out dates";
+            } else if (request.getCheckOut().toEpochDay() - request.getCheckIn().toEpochDay()
+                    > Booking.MAX_STAY_NIGHTS) {
+                error = "Stay cannot be longer than " + Booking.MAX_STAY_NIGHTS + " nights";
+            } else if (!allowPast && request.getCheckIn().isBefore(today)) {
+                error = "Check-in date cannot be in the past";
+            } else if (beyondHorizon(request.getCheckIn())) {
+                error = HORIZON_ERROR;
+            }
+            if (error != null) {
+                errors.add(describe(i, request, error));
+            } else {
+                staysByRoom.computeIfAbsent(request.getRoom(), room -> new ArrayList<>()).add(request);
+            }
+        }
+
+        for (List<BookingRequest> stays : staysByRoom.values()) {
+            stays.sort(Comparator.comparing(BookingRequest::getCheckIn));
+            for (int i = 1; i < stays.size(); i++) {
+                if (stays.get(i).getCheckIn().isBefore(stays.get(i - 1).getCheckOut())) {
+                    errors.add(describe(requests.indexOf(stays.get(i)), stays.get(i),
+                            "Overlaps booking " + stays.get(i - 1).getBookingId() + " in the same batch"));
+                }
+            }
+        }
+        return errors;
+    }
+
+    /** True if {@code checkIn} is further ahead than bookings may be taken. */
+    public static boolean beyondHorizon(LocalDate checkIn) {
+        return checkIn.isAfter(LocalDate.now().plusDays(MAX_ADVANCE_DAYS));
+    }
+
+    private static void rollBack(List<Booking> created) {
+        for (Booking booking : created) {
+            booking.cancelBooking();
+            booking.getCustomer().removeBooking(booking);
+        }
+    }
+
+    private static String describe(int index, BookingRequest request, String error) {
+        return "Request " + index + " (" + request.getBookingId() + "): " + error;
+    }
+
+    private static String hotelIdOf(Room room) {
+        return room.getHotel() == null ? "" : room.getHotel().getHotelId();
+    }
+
     public void cancelBooking(Booking booking) {
+        BookingCancelEvent event = new BookingCancelEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            cancel(booking);
+            BOOKINGS_CANCELLED.increment();
+            event.complete(booking, null);
+        } catch (RuntimeException e) {
+            event.complete(booking, e);
+            throw e;
+        } finally {
+            CANCEL_LATENCY.recordSince(start);
+        }
+    }
+
+    private void cancel(Booking booking) {
         if (booking == null) {
             throw new InvalidBookingException("Booking cannot be null");
         }
-        try {
-            booking.cancelBooking();
-        } catch (IllegalStateException e) {
-            throw new InvalidBookingException("Failed to cancel booking: " + e.getMessage(), e);
+        // Journaled first, under the booking's lock so no other cancel can
+        // slip in: a failed write leaves the booking and its room untouched,
+        // as a failed create does.
+        synchronized (booking) {
+            if (booking.getStatus() == BookingStatus.CANCELLED) {
+                throw new InvalidBookingException("Failed to cancel booking: Booking is already cancelled");
+            }
+            if (journal != null) {
+                try {
+                    journal.append(JournalRecord.bookingCancelled(booking));
+                } catch (UncheckedIOException | IllegalStateException e) {
+                    throw new InvalidBookingException("Failed to persist cancellation: " + e.getMessage(), e);
+                }
+            }
+            try {
+                booking.cancelBooking();
+            } catch (IllegalStateException e) {
+                throw new InvalidBookingException("Failed to cancel booking: " + e.getMessage(), e);
+            }
+        }
+        for (BookingEventListener listener : listeners) {
+            listener.bookingCancelled(booking);
         }
     }
     
@@ -34,4 +327,11 @@ public class BookingService {
         }
         return booking.calculateTotalPrice();
     }
+
+    public long calculateBookingPriceCents(Booking booking) {
+        if (booking == null) {
+            throw new InvalidBookingException("Booking cannot be null");
+        }
+        return booking.calculateTotalPriceCents();
+    }
 }
@@ -0,0 +1,55 @@
+package com.hotel.service;
+
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.model.Customer;
+import com.hotel.repository.CustomerRepository;
+
+public class CustomerService {
+    public static final String ID_PREFIX = "CUST";
+
+    private final CustomerRepository customers;
+    private final IdGenerator ids;
+
+    public CustomerService(CustomerRepository customers) {
+        this(customers, IdGenerator.getDefault());
+    }
+
+    public CustomerService(CustomerRepository customers, IdGenerator ids) {
+        if (customers == null) {
+            throw new IllegalArgumentException("Customer repository cannot be null");
+        }
+        if (ids == null) {
+            throw new IllegalArgumentException("Id generator cannot be null");
+        }
+        this.customers = customers;
+        this.ids = ids;
+    }
+
+    /**
+     * Creates a customer with a freshly generated id and adds it to the
+     * repository. Throws {@link DuplicateCustomerException} if the email is
+     * already registered and {@link IllegalArgumentException} for invalid
+     * details.
+     */
+    public Customer registerCustomer(String name, String email) {
+        if (email != null && customers.existsByEmail(email)) {
+            throw new DuplicateCustomerException("A customer with email " + email.trim() + " already exists");
+        }
+        Customer customer = new Customer(ids.nextId(ID_PREFIX), name, email);
+        customers.add(customer);
+        return customer;
+    }
+
+    /**
+     * Adds a customer that already has an id, e.g. one imported from another
+     * system. Throws {@link DuplicateCustomerException} if the id or email is
+     * already taken.
+     */
+    public Customer registerCustomer(Customer customer) {
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null");
+        }
+        customers.add(customer);
+        return customer;
+    }
+}
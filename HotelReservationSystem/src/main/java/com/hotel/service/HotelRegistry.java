@@ -0,0 +1,161 @@
+package com.hotel.service;
+
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Chain-wide index of hotels by id and by location. Availability searches fan
+ * out to every matching hotel in parallel and return whatever has answered by
+ * the deadline; hotels that have not are reported as timed out instead of
+ * holding up the rest of the chain. A hotel search still queued at the
+ * deadline never starts, and one still running is interrupted and gives up
+ * at the hotel's next 64 rooms, so an overrun does not keep pool threads
+ * busy for the next request.
+ */
+public class HotelRegistry implements AutoCloseable {
+    private final Map<String, Hotel> hotelsById = new ConcurrentHashMap<>();
+    private final Map<String, List<Hotel>> hotelsByLocation = new ConcurrentHashMap<>();
+    private final ExecutorService searchExecutor;
+    private final boolean ownsExecutor;
+
+    public HotelRegistry() {
+        this(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "hotel-search");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    public HotelRegistry(ExecutorService searchExecutor) {
+        this(searchExecutor, false);
+    }
+
+    private HotelRegistry(ExecutorService searchExecutor, boolean ownsExecutor) {
+        if (searchExecutor == null) {
+            throw new IllegalArgumentException("Search executor cannot be null");
+        }
+        this.searchExecutor = searchExecutor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public void register(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        if (hotelsById.putIfAbsent(hotel.getHotelId(), hotel) != null) {
+            throw new IllegalArgumentException("Hotel " + hotel.getHotelId() + " is already registered");
+        }
+        hotelsByLocation.computeIfAbsent(locationKey(hotel.getLocation()), key -> new CopyOnWriteArrayList<>())
+                .add(hotel);
+    }
+
+    public Hotel findById(String hotelId) {
+        return hotelId == null ? null : hotelsById.get(hotelId);
+    }
+
+    public List<Hotel> findByLocation(String location) {
+        List<Hotel> hotels = hotelsByLocation.get(locationKey(location));
+        return hotels == null ? List.of() : Collections.unmodifiableList(hotels);
+    }
+
+    public Collection<Hotel> getHotels() {
+        return Collections.unmodifiableCollection(hotelsById.values());
+    }
+
+    public int size() {
+        return hotelsById.size();
+    }
+
+    public AvailabilitySearchResult searchAvailability(RoomType type, LocalDate checkIn, LocalDate checkOut,
+                                                       Duration timeout) {
+        return search(new ArrayList<>(hotelsById.values()), type, checkIn, checkOut, timeout);
+    }
+
+    public AvailabilitySearchResult searchAvailability(String location, RoomType type, LocalDate checkIn,
+                                                       LocalDate checkOut, Duration timeout) {
+        return search(findByLocation(location), type, checkIn, checkOut, timeout);
+    }
+
+    private AvailabilitySearchResult search(List<Hotel> hotels, RoomType type, LocalDate checkIn,
+                                            LocalDate checkOut, Duration timeout) {
+        if (type == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        if (checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Invalid check-in/check-out dates");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Search timeout must be positive");
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<Future<List<Room>>> answers = new ArrayList<>(hotels.size());
+        for (Hotel hotel : hotels) {
+            answers.add(searchExecutor.submit(() -> {
+                // Nobody is waiting for an answer that would come after the deadline.
+                if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Search deadline passed");
+                }
+                return hotel.findAvailableRooms(type, checkIn, checkOut);
+            }));
+        }
+
+        AvailabilitySearchResult result = new AvailabilitySearchResult();
+        boolean interrupted = false;
+        for (int i = 0; i < answers.size(); i++) {
+            String hotelId = hotels.get(i).getHotelId();
+            Future<List<Room>> answer = answers.get(i);
+            try {
+                long remaining = interrupted ? 0 : Math.max(0, deadline - System.nanoTime());
+                result.addRooms(hotelId, answer.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException | CancellationException e) {
+                answer.cancel(true);
+                result.addTimedOut(hotelId);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    result.addTimedOut(hotelId);
+                } else {
+                    result.addFailed(hotelId);
+                }
+            } catch (InterruptedException e) {
+                // Collect whatever is already done, then give up on the rest.
+                interrupted = true;
+                answer.cancel(true);
+                result.addTimedOut(hotelId);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            searchExecutor.shutdownNow();
+        }
+    }
+
+    private static String locationKey(String location) {
+        return location == null ? "" : location.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,146 @@
+package com.hotel.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style 64-bit ids: 41 bits of milliseconds since
+ * {@link #EPOCH}, 10 bits of node id and a 12-bit sequence within the
+ * millisecond. Ids from one generator are strictly increasing, and ids from
+ * different nodes never collide, so several processes can issue them without
+ * coordinating. The node id comes from the {@code hotel.node.id} system
+ * property for the shared {@link #getDefault() default} generator.
+ *
+ * <p>The clock and sequence live in one {@link AtomicLong} advanced by CAS,
+ * so threads never block each other. When a millisecond's 4096 sequence
+ * numbers run out, or the wall clock steps back, the generator moves on to
+ * the next logical millisecond instead of waiting. That logical time is only
+ * kept in memory, so on startup {@link #advancePast(String, String)} should
+ * be fed the ids already in storage.
+ */
+public final class IdGenerator {
+    public static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+    public static final int ENCODED_LENGTH = 13;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final long epochMillis = EPOCH.toEpochMilli();
+    // (milliseconds since EPOCH << SEQUENCE_BITS) | sequence of the last id.
+    private final AtomicLong lastState = new AtomicLong();
+
+    public IdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public static IdGenerator getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public int getNodeId() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - epochMillis) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = lastState.get();
+            next = Math.max(now, previous + 1);
+        } while (!lastState.compareAndSet(previous, next));
+        return ((next >>> SEQUENCE_BITS) << (SEQUENCE_BITS + NODE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * Makes every later id larger than {@code id}. Without this, a restart
+     * while the clock is behind the last issued id would issue it again. Ids
+     * of other nodes cannot collide with ours and are ignored.
+     */
+    public void advancePast(long id) {
+        if (nodeIdOf(id) != getNodeId()) {
+            return;
+        }
+        long state = ((id >>> (SEQUENCE_BITS + NODE_BITS)) << SEQUENCE_BITS) | (id & SEQUENCE_MASK);
+        lastState.accumulateAndGet(state, Math::max);
+    }
+
+    /**
+     * {@link #advancePast(long)} for an id in {@link #nextId(String)} form.
+     * Ids that were not issued with {@code prefix}, such as imported ones,
+     * are ignored.
+     */
+    public void advancePast(String prefix, String encoded) {
+        long id;
+        try {
+            id = decode(prefix, encoded);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        advancePast(id);
+    }
+
+    /**
+     * Next id as {@code prefix} followed by its fixed-width Crockford base32
+     * encoding, e.g. {@code BOOK01JB3Q5V4D000}. Equal prefixes sort in id
+     * order.
+     */
+    public String nextId(String prefix) {
+        return encode(prefix, nextId());
+    }
+
+    public static String encode(String prefix, long id) {
+        char[] chars = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public static long decode(String prefix, String encoded) {
+        if (encoded == null || !encoded.startsWith(prefix)
+                || encoded.length() != prefix.length() + ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Not an encoded id: " + encoded);
+        }
+        long id = 0;
+        for (int i = prefix.length(); i < encoded.length(); i++) {
+            int value = crockfordValue(encoded.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("Not an encoded id: " + encoded);
+            }
+            id = (id << 5) | value;
+        }
+        return id;
+    }
+
+    public static Instant timestampOf(long id) {
+        return EPOCH.plusMillis(id >>> (SEQUENCE_BITS + NODE_BITS));
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    private static int crockfordValue(char c) {
+        char upper = Character.toUpperCase(c);
+        for (int value = 0; value < CROCKFORD.length; value++) {
+            if (CROCKFORD[value] == upper) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    private static final class DefaultHolder {
+        static final IdGenerator INSTANCE = new IdGenerator(Integer.getInteger("hotel.node.id", 0));
+    }
+}
@@ -0,0 +1,17 @@
+package com.hotel.service;
+
+import com.hotel.model.Payment;
+
+/**
+ * Charges a payment against an external provider. Implementations may block
+ * for the length of a network round-trip; {@link PaymentService} calls them
+ * from its own bounded executor when payments are processed asynchronously.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Returns true if the charge was approved and false if it was declined.
+     * Any exception is treated as a gateway failure.
+     */
+    boolean charge(Payment payment);
+}
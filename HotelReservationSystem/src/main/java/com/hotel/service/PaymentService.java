@@ -2,18 +2,114 @@ package com.hotel.service;
 
 import com.hotel.model.*;
 import com.hotel.exception.InvalidPaymentException;
+import com.hotel.exception.PaymentPersistenceException;
+import com.hotel.jfr.PaymentEvent;
+import com.hotel.metrics.Counter;
+import com.hotel.metrics.LatencyHistogram;
+import com.hotel.metrics.MetricsRegistry;
+import com.hotel.persistence.BookingJournal;
+import com.hotel.persistence.JournalRecord;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
-public class PaymentService {
+public class PaymentService implements AutoCloseable {
+    public static final int DEFAULT_MAX_CONCURRENT_PAYMENTS = 64;
+    public static final String ID_PREFIX = "PAY";
+
+    private static final LatencyHistogram PROCESS_LATENCY = MetricsRegistry.getDefault()
+            .histogram("hotel_payment_process_seconds", "Time taken to charge a payment, gateway included.");
+    private static final Counter PAYMENTS_PROCESSED = MetricsRegistry.getDefault()
+            .counter("hotel_payments_processed_total", "Payments charged successfully.");
+    private static final Counter PAYMENTS_FAILED = MetricsRegistry.getDefault()
+            .counter("hotel_payments_failed_total", "Payments declined or failed at the gateway.");
+
+    private final BookingJournal journal;
+    private final PaymentGateway gateway;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final IdGenerator ids;
+    private final Set<Payment> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<BookingEventListener> listeners = new CopyOnWriteArrayList<>();
+
+    public PaymentService() {
+        this(null);
+    }
+
+    public PaymentService(BookingJournal journal) {
+        this(journal, new StubPaymentGateway());
+    }
+
+    public PaymentService(BookingJournal journal, PaymentGateway gateway) {
+        this(journal, gateway, DEFAULT_MAX_CONCURRENT_PAYMENTS);
+    }
+
+    public PaymentService(BookingJournal journal, PaymentGateway gateway, int maxConcurrentPayments) {
+        this(journal, gateway, maxConcurrentPayments, IdGenerator.getDefault());
+    }
+
+    public PaymentService(BookingJournal journal, PaymentGateway gateway, int maxConcurrentPayments,
+                          IdGenerator ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Id generator cannot be null");
+        }
+        if (gateway == null) {
+            throw new IllegalArgumentException("Payment gateway cannot be null");
+        }
+        if (maxConcurrentPayments <= 0) {
+            throw new IllegalArgumentException("Max concurrent payments must be positive");
+        }
+        this.journal = journal;
+        this.gateway = gateway;
+        this.permits = new Semaphore(maxConcurrentPayments);
+        this.ids = ids;
+        // The semaphore does the bounding when each charge gets its own thread.
+        this.executor = VirtualThreads.newPerTaskExecutor("payment", maxConcurrentPayments);
+    }
+
+    public void addListener(BookingEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(BookingEventListener listener) {
+        listeners.remove(listener);
+    }
     
+    public Payment createPayment(Booking booking, double amount) {
+        return createPayment(ids.nextId(ID_PREFIX), booking, amount);
+    }
+
+    public Payment createPaymentCents(Booking booking, long amountCents) {
+        return createPaymentCents(ids.nextId(ID_PREFIX), booking, amountCents);
+    }
+
     public Payment createPayment(String paymentId, Booking booking, double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new InvalidPaymentException("Payment amount must be a finite number");
+        }
+        return createPaymentCents(paymentId, booking, Money.ofMajor(amount));
+    }
+
+    public Payment createPaymentCents(String paymentId, Booking booking, long amountCents) {
         if (booking == null) {
             throw new InvalidPaymentException("Booking cannot be null");
         }
-        if (amount <= 0) {
+        if (amountCents <= 0) {
             throw new InvalidPaymentException("Payment amount must be positive");
         }
         
-        Payment payment = new Payment(paymentId, booking, amount);
+        Payment payment = Payment.ofCents(paymentId, booking, amountCents);
+        for (BookingEventListener listener : listeners) {
+            listener.paymentCreated(payment);
+        }
         return payment;
     }
     
@@ -21,17 +117,127 @@ public class PaymentService {
         if (payment == null) {
             throw new InvalidPaymentException("Payment cannot be null");
         }
+        if (!inFlight.add(payment)) {
+            throw new InvalidPaymentException("Failed to process payment: Payment is already being processed");
+        }
         try {
-            payment.processPayment();
-        } catch (IllegalStateException e) {
+            charge(payment);
+        } finally {
+            inFlight.remove(payment);
+        }
+    }
+
+    /**
+     * Charges the payment on the service's executor so the caller isn't held
+     * up for the gateway round-trip. At most {@code maxConcurrentPayments}
+     * charges are outstanding at once; further ones queue for a permit. The
+     * future fails with {@link InvalidPaymentException} if the charge is
+     * declined or cannot be completed.
+     */
+    public CompletableFuture<Payment> processPaymentAsync(Payment payment) {
+        if (payment == null) {
+            throw new InvalidPaymentException("Payment cannot be null");
+        }
+        if (!inFlight.add(payment)) {
+            throw new InvalidPaymentException("Failed to process payment: Payment is already being processed");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    charge(payment);
+                    return payment;
+                } finally {
+                    permits.release();
+                    inFlight.remove(payment);
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            inFlight.remove(payment);
             throw new InvalidPaymentException("Failed to process payment: " + e.getMessage(), e);
         }
     }
+
+    private void charge(Payment payment) {
+        PaymentEvent event = new PaymentEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            chargeOnce(payment);
+            event.complete(payment, null);
+        } catch (RuntimeException e) {
+            event.complete(payment, e);
+            throw e;
+        } finally {
+            PROCESS_LATENCY.recordSince(start);
+        }
+    }
+
+    private void chargeOnce(Payment payment) {
+        if (payment.getStatus() == PaymentStatus.COMPLETED) {
+            throw new InvalidPaymentException("Failed to process payment: Payment already completed");
+        }
+        boolean approved;
+        try {
+            approved = gateway.charge(payment);
+        } catch (RuntimeException e) {
+            fail(payment);
+            throw new InvalidPaymentException("Failed to process payment: " + e.getMessage(), e);
+        }
+        if (!approved) {
+            fail(payment);
+            throw new InvalidPaymentException("Failed to process payment: Payment declined");
+        }
+        // Journaled before the payment changes, so nobody hears of a charge
+        // that a restart would lose.
+        synchronized (payment) {
+            if (payment.getStatus() == PaymentStatus.COMPLETED) {
+                throw new InvalidPaymentException("Failed to process payment: Payment already completed");
+            }
+            record(payment, PaymentStatus.COMPLETED);
+            payment.processPayment();
+        }
+        PAYMENTS_PROCESSED.increment();
+        for (BookingEventListener listener : listeners) {
+            listener.paymentProcessed(payment);
+        }
+    }
     
+    private void fail(Payment payment) {
+        synchronized (payment) {
+            if (payment.getStatus() == PaymentStatus.COMPLETED) {
+                return;
+            }
+            record(payment, PaymentStatus.FAILED);
+            payment.markAsFailed();
+        }
+        PAYMENTS_FAILED.increment();
+        for (BookingEventListener listener : listeners) {
+            listener.paymentFailed(payment);
+        }
+    }
+
+    private void record(Payment payment, PaymentStatus outcome) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.append(JournalRecord.paymentProcessed(payment, outcome));
+        } catch (UncheckedIOException | IllegalStateException e) {
+            // Closed or failed journal: the gateway's answer is not on disk.
+            throw new PaymentPersistenceException("Failed to persist payment: " + e.getMessage(), e);
+        }
+    }
+
     public boolean validatePayment(Payment payment) {
         if (payment == null) {
             return false;
         }
         return payment.getStatus() == PaymentStatus.COMPLETED;
     }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,46 @@
+package com.hotel.service;
+
+import com.hotel.model.Payment;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+public class StubPaymentGateway implements PaymentGateway {
+    private final Duration latency;
+    private final Predicate<Payment> approval;
+
+    public StubPaymentGateway() {
+        this(Duration.ZERO);
+    }
+
+    public StubPaymentGateway(Duration latency) {
+        this(latency, payment -> true);
+    }
+
+    public StubPaymentGateway(Duration latency, Predicate<Payment> approval) {
+        if (latency == null || latency.isNegative()) {
+            throw new IllegalArgumentException("Latency cannot be null or negative");
+        }
+        if (approval == null) {
+            throw new IllegalArgumentException("Approval rule cannot be null");
+        }
+        this.latency = latency;
+        this.approval = approval;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    @Override
+    public boolean charge(Payment payment) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis(), latency.toNanosPart() % 1_000_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Payment gateway call interrupted", e);
+            }
+        }
+        return approval.test(payment);
+    }
+}
@@ -0,0 +1,37 @@
+package com.hotel.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual threads make a blocked gateway call or socket write nearly free, so
+ * executors for that kind of work use a thread per task when the runtime has
+ * them. The lookup is reflective so the code still runs on older JDKs, which
+ * get a fixed pool of daemon threads instead; callers bound their own
+ * concurrency either way.
+ */
+public final class VirtualThreads {
+    private VirtualThreads() {
+    }
+
+    public static ExecutorService newPerTaskExecutor(String fallbackName, int fallbackThreads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+                Thread thread = new Thread(runnable, fallbackName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public static boolean isAvailable() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
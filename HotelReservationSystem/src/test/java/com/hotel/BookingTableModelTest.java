@@ -0,0 +1,63 @@
+package com.hotel;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.swing.event.TableModelEvent;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingTableModelTest {
+    private BookingTableModel model;
+    private List<TableModelEvent> events;
+    private Booking booking;
+    
+    @BeforeEach
+    void setUp() {
+        model = new BookingTableModel();
+        events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        booking = new Booking("BOOK001", customer, room, LocalDate.of(2030, 1, 10), LocalDate.of(2030, 1, 12));
+    }
+    
+    @Test
+    void getValueAt_ShouldFormatCellsFromBooking() {
+        model.setBookings(List.of(booking));
+        
+        assertEquals(1, model.getRowCount());
+        assertEquals("BOOK001", model.getValueAt(0, 0));
+        assertEquals("John Doe", model.getValueAt(0, 1));
+        assertEquals("101 (SINGLE)", model.getValueAt(0, 2));
+        assertEquals("10-01-2030 (Check-in time available)", model.getValueAt(0, 3));
+        assertEquals("12-01-2030 11:00", model.getValueAt(0, 4));
+        assertEquals("$200.00", model.getValueAt(0, 5));
+        assertEquals(BookingStatus.CONFIRMED, model.getValueAt(0, BookingTableModel.STATUS_COLUMN));
+    }
+    
+    @Test
+    void add_ShouldInsertOnceThenUpdateInPlace() {
+        model.add(booking, LocalTime.of(14, 30));
+        booking.cancelBooking();
+        model.add(booking, null);
+        
+        assertEquals(1, model.getRowCount());
+        assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+        assertEquals(TableModelEvent.UPDATE, events.get(1).getType());
+        assertEquals(0, events.get(1).getFirstRow());
+        assertEquals("10-01-2030 14:30", model.getValueAt(0, 3));
+        assertEquals(BookingStatus.CANCELLED, model.getValueAt(0, BookingTableModel.STATUS_COLUMN));
+    }
+    
+    @Test
+    void bookingChanged_UnknownBooking_ShouldFireNothing() {
+        model.bookingChanged(booking);
+        
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.hotel;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomTableModelTest {
+    private RoomTableModel model;
+    private List<TableModelEvent> events;
+    private Room room;
+    
+    @BeforeEach
+    void setUp() {
+        model = new RoomTableModel("Action", "Edit");
+        events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+        room = new Room("101", RoomType.SINGLE, 100.0);
+    }
+    
+    @Test
+    void add_SameRoomTwice_ShouldInsertOnce() {
+        model.add(room);
+        model.add(room);
+        
+        assertEquals(1, model.getRowCount());
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+    }
+    
+    @Test
+    void roomChanged_ShownRoom_ShouldUpdateItsRow() {
+        model.setRooms(List.of(new Room("102", RoomType.DOUBLE, 150.0), room));
+        events.clear();
+        room.setPricePerNightCents(12_500);
+        
+        model.roomChanged(room);
+        
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(1, events.get(0).getFirstRow());
+        assertEquals("$125.00", model.getValueAt(1, 2));
+    }
+    
+    @Test
+    void roomChanged_UnknownRoom_ShouldFireNothing() {
+        model.roomChanged(room);
+        
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package com.hotel.analytics;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingHistoryStoreTest {
+    private Customer customer;
+    private Room single;
+    private Room suite;
+    private LocalDate start;
+    
+    @BeforeEach
+    void setUp() {
+        customer = new Customer("CUST001", "John Doe", "john@email.com");
+        single = new Room("101", RoomType.SINGLE, 100.0);
+        suite = new Room("301", RoomType.SUITE, 300.0);
+        start = LocalDate.now().plusDays(1);
+    }
+    
+    @Test
+    void report_StaysInsideRange_ShouldComputeAllMetrics() {
+        BookingHistoryStore store = new BookingHistoryStore();
+        store.append(new Booking("BOOK001", customer, single, start, start.plusDays(2)));
+        store.append(new Booking("BOOK002", customer, suite, start, start.plusDays(1)));
+        
+        OccupancyReport report = store.report(start, start.plusDays(5), 2);
+        
+        assertEquals(3, report.getRoomNightsSold());
+        assertEquals(50_000, report.getRevenueCents());
+        assertEquals(0.3, report.getOccupancyRate(), 1e-9);
+        assertEquals(16_667, report.getAverageDailyRateCents());
+        assertEquals(5_000, report.getRevParCents());
+        assertEquals(20_000L, report.getRevenueByRoomTypeCents().get(RoomType.SINGLE));
+        assertEquals(30_000L, report.getRevenueByRoomTypeCents().get(RoomType.SUITE));
+        assertEquals(0L, report.getRevenueByRoomTypeCents().get(RoomType.DOUBLE));
+    }
+    
+    @Test
+    void report_PartialOverlap_ShouldCountOnlyNightsInRange() {
+        BookingHistoryStore store = new BookingHistoryStore();
+        store.append(new Booking("BOOK001", customer, single, start, start.plusDays(4)));
+        
+        OccupancyReport report = store.report(start.plusDays(3), start.plusDays(10), 1);
+        
+        assertEquals(1, report.getRoomNightsSold());
+        assertEquals(10_000, report.getRevenueCents());
+    }
+    
+    @Test
+    void report_PartialOverlapWithSeasonalRate_ShouldUseTheRatesOfNightsInRange() {
+        RateCalendar rates = new RateCalendar();
+        rates.setRate(start.plusDays(3), start.plusDays(4), 40_000);
+        single.setRateCalendar(rates);
+        BookingHistoryStore store = new BookingHistoryStore();
+        store.append(new Booking("BOOK001", customer, single, start, start.plusDays(4)));
+        
+        OccupancyReport tail = store.report(start.plusDays(3), start.plusDays(10), 1);
+        OccupancyReport head = store.report(start.minusDays(1), start.plusDays(3), 1);
+        
+        assertEquals(40_000, tail.getRevenueCents());
+        assertEquals(30_000, head.getRevenueCents());
+        assertEquals(70_000, store.report(start, start.plusDays(4), 1).getRevenueCents());
+    }
+    
+    @Test
+    void updateStatus_CancelledBooking_ShouldBeExcludedFromReports() {
+        BookingHistoryStore store = new BookingHistoryStore();
+        Booking booking = new Booking("BOOK001", customer, single, start, start.plusDays(2));
+        store.append(booking);
+        
+        booking.cancelBooking();
+        store.updateStatus(booking);
+        
+        assertEquals(BookingStatus.CANCELLED, store.getStatus("BOOK001"));
+        assertEquals(0, store.report(start, start.plusDays(2), 1).getRoomNightsSold());
+    }
+    
+    @Test
+    void report_ManyBookings_ShouldMatchObjectWalk() {
+        Random random = new Random(3);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rooms.add(new Room(String.valueOf(i), RoomType.values()[i % 3], 80.0 + i));
+        }
+        List<Booking> bookings = new ArrayList<>();
+        for (Room room : rooms) {
+            LocalDate checkIn = start;
+            for (int stay = 0; stay < 250; stay++) {
+                LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(4));
+                bookings.add(new Booking(room.getRoomNumber() + "-" + stay, customer, room, checkIn, checkOut));
+                checkIn = checkOut.plusDays(random.nextInt(3));
+            }
+        }
+        BookingHistoryStore store = BookingHistoryStore.of(bookings);
+        LocalDate from = start.plusDays(30);
+        LocalDate to = start.plusDays(60);
+        
+        long nights = 0;
+        long revenue = 0;
+        for (Booking booking : bookings) {
+            long in = Math.max(booking.getCheckInDate().toEpochDay(), from.toEpochDay());
+            long out = Math.min(booking.getCheckOutDate().toEpochDay(), to.toEpochDay());
+            if (out > in) {
+                long stayNights = booking.getCheckOutDate().toEpochDay() - booking.getCheckInDate().toEpochDay();
+                nights += out - in;
+                revenue += booking.calculateTotalPriceCents() * (out - in) / stayNights;
+            }
+        }
+        OccupancyReport report = store.report(from, to, rooms.size());
+        
+        assertEquals(50_000, store.size());
+        assertEquals(nights, report.getRoomNightsSold());
+        assertEquals(revenue, report.getRevenueCents());
+        assertEquals(revenue, report.getRevenueByRoomTypeCents().values().stream().mapToLong(Long::longValue).sum());
+    }
+    
+    @Test
+    void report_InvalidRange_ShouldThrowException() {
+        BookingHistoryStore store = new BookingHistoryStore();
+        
+        assertThrows(IllegalArgumentException.class, () -> store.report(start, start, 1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.hotel.analytics;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import com.hotel.service.PaymentService;
+import com.hotel.service.StubPaymentGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelStatisticsTest {
+    private HotelStatistics statistics;
+    private BookingService bookingService;
+    private PaymentService paymentService;
+    private Customer customer;
+    private Room single;
+    private Room suite;
+    private LocalDate start;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new HotelStatistics();
+        bookingService = new BookingService();
+        bookingService.addListener(statistics);
+        paymentService = new PaymentService();
+        paymentService.addListener(statistics);
+        customer = new Customer("CUST001", "John Doe", "john@email.com");
+        single = new Room("101", RoomType.SINGLE, 100.0);
+        suite = new Room("301", RoomType.SUITE, 300.0);
+        start = LocalDate.now().plusDays(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentService.close();
+    }
+
+    @Test
+    void bookingCreated_ShouldCountNightsRevenueArrivalsAndDepartures() {
+        bookingService.createBooking("BOOK001", customer, single, start, start.plusDays(2));
+        bookingService.createBooking("BOOK002", customer, suite, start.plusDays(1), start.plusDays(2));
+
+        assertEquals(1, statistics.getRoomsSold(start));
+        assertEquals(2, statistics.getRoomsSold(start.plusDays(1)));
+        assertEquals(1, statistics.getRoomsSold(start.plusDays(1), RoomType.SUITE));
+        assertEquals(0, statistics.getRoomsSold(start.plusDays(2)));
+        assertEquals(40_000, statistics.getRevenueCents(start.plusDays(1)));
+        assertEquals(10_000, statistics.getRevenueCents(start.plusDays(1), RoomType.SINGLE));
+        assertEquals(1, statistics.getArrivals(start));
+        assertEquals(2, statistics.getDepartures(start.plusDays(2)));
+        assertEquals(2, statistics.getBookingCount(BookingStatus.CONFIRMED));
+    }
+
+    @Test
+    void bookingCancelled_AfterRateChange_ShouldRemoveWhatWasAdded() {
+        Booking booking = bookingService.createBooking("BOOK001", customer, single, start, start.plusDays(3));
+        single.setPricePerNight(250.0);
+
+        bookingService.cancelBooking(booking);
+        statistics.record(booking);
+
+        for (int night = 0; night < 3; night++) {
+            assertEquals(0, statistics.getRoomsSold(start.plusDays(night)));
+            assertEquals(0, statistics.getRevenueCents(start.plusDays(night)));
+        }
+        assertEquals(0, statistics.getArrivals(start));
+        assertEquals(0, statistics.getBookingCount(BookingStatus.CONFIRMED));
+        assertEquals(1, statistics.getBookingCount(BookingStatus.CANCELLED));
+        assertEquals(1, statistics.getBookingCount());
+    }
+
+    @Test
+    void record_RateCalendar_ShouldSplitStayPriceExactlyAcrossNights() {
+        RateCalendar rates = new RateCalendar();
+        rates.setRate(start.plusDays(1), start.plusDays(2), 12_345);
+        single.setRateCalendar(rates);
+        Booking booking = new Booking("BOOK001", customer, single, start, start.plusDays(3));
+
+        statistics.record(booking);
+
+        long total = 0;
+        for (int night = 0; night < 3; night++) {
+            total += statistics.getRevenueCents(start.plusDays(night));
+        }
+        assertEquals(booking.calculateTotalPriceCents(), total);
+        assertEquals(12_345, statistics.getRevenueCents(start.plusDays(1)));
+    }
+
+    @Test
+    void paymentEvents_ShouldMoveCountsAndAmountsBetweenStatuses() {
+        Booking booking = bookingService.createBooking("BOOK001", customer, single, start, start.plusDays(2));
+        Payment payment = paymentService.createPaymentCents("PAY001", booking, 20_000);
+
+        assertEquals(1, statistics.getPaymentCount(PaymentStatus.PENDING));
+
+        paymentService.processPayment(payment);
+
+        assertEquals(0, statistics.getPaymentCount(PaymentStatus.PENDING));
+        assertEquals(1, statistics.getPaymentCount(PaymentStatus.COMPLETED));
+        assertEquals(20_000, statistics.getPaymentAmountCents(PaymentStatus.COMPLETED));
+    }
+
+    @Test
+    void paymentFailed_DeclinedCharge_ShouldCountAsFailed() {
+        try (PaymentService declining = new PaymentService(null,
+                new StubPaymentGateway(Duration.ZERO, p -> false))) {
+            declining.addListener(statistics);
+            Booking booking = bookingService.createBooking("BOOK001", customer, single, start, start.plusDays(2));
+            Payment payment = declining.createPaymentCents("PAY001", booking, 20_000);
+
+            assertThrows(RuntimeException.class, () -> declining.processPayment(payment));
+
+            assertEquals(1, statistics.getPaymentCount(PaymentStatus.FAILED));
+            assertEquals(20_000, statistics.getPaymentAmountCents(PaymentStatus.FAILED));
+            assertEquals(0, statistics.getPaymentAmountCents(PaymentStatus.PENDING));
+        }
+    }
+
+    @Test
+    void of_RestoredHistory_ShouldMatchEventDrivenTotals() {
+        Booking kept = new Booking("BOOK001", customer, single, start, start.plusDays(2));
+        Booking cancelled = new Booking("BOOK002", customer, suite, start, start.plusDays(2));
+        cancelled.cancelBooking();
+
+        HotelStatistics restored = HotelStatistics.of(List.of(kept, cancelled), List.of());
+
+        assertEquals(1, restored.getRoomsSold(start));
+        assertEquals(10_000, restored.getRevenueCents(start));
+        assertEquals(1, restored.getBookingCount(BookingStatus.CANCELLED));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hotel.bulk;
+
+import com.hotel.model.*;
+import com.hotel.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkExporterTest {
+    @TempDir
+    Path dir;
+    
+    private BookingRepository bookings;
+    private BulkExporter exporter;
+    private LocalDate start;
+    
+    @BeforeEach
+    void setUp() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room single = new Room("101", RoomType.SINGLE, 100.0);
+        Room suite = new Room("305", RoomType.SUITE, 300.0);
+        hotel.addRoom(single);
+        hotel.addRoom(suite);
+        Customer alice = new Customer("CUST001", "Alice Johnson", "alice@email.com");
+        Customer quoted = new Customer("CUST002", "Smith, \"Bob\"", "bob@email.com");
+        start = LocalDate.now().plusDays(1);
+        bookings = new BookingRepository();
+        bookings.add(new Booking("BOOK002", quoted, suite, start.plusDays(5), start.plusDays(6)));
+        bookings.add(new Booking("BOOK001", alice, single, start, start.plusDays(2)));
+        exporter = new BulkExporter(bookings,
+                booking -> Map.of("BOOK001", PaymentStatus.COMPLETED).get(booking.getBookingId()));
+    }
+    
+    @Test
+    void export_Csv_ShouldWriteHeaderAndQuotedRowsInCheckInOrder() throws IOException {
+        Path file = dir.resolve("bookings.csv");
+        
+        long rows = exporter.export(file, BulkExporter.Format.CSV, null, null, false);
+        
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, rows);
+        assertEquals(BulkExporter.CSV_HEADER, lines.get(0));
+        assertEquals("BOOK001,CONFIRMED,CUST001,Alice Johnson,alice@email.com,HOTEL001,101,SINGLE,"
+                + start + "," + start.plusDays(2) + ",2,200.00,COMPLETED", lines.get(1));
+        assertEquals("BOOK002,CONFIRMED,CUST002,\"Smith, \"\"Bob\"\"\",bob@email.com,HOTEL001,305,SUITE,"
+                + start.plusDays(5) + "," + start.plusDays(6) + ",1,300.00,", lines.get(2));
+    }
+    
+    @Test
+    void export_GzipJsonLines_ShouldRoundTripAndEscapeStrings() throws IOException {
+        Path file = dir.resolve("bookings.jsonl.gz");
+        
+        exporter.export(file, BulkExporter.Format.JSONL, null, null, true);
+        
+        String text;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = text.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"bookingId\":\"BOOK001\",\"status\":\"CONFIRMED\""));
+        assertTrue(lines[0].endsWith("\"nights\":2,\"totalCents\":20000,\"paymentStatus\":\"COMPLETED\"}"));
+        assertTrue(lines[1].contains("\"customerName\":\"Smith, \\\"Bob\\\"\""));
+        assertTrue(lines[1].endsWith("\"paymentStatus\":null}"));
+    }
+    
+    @Test
+    void export_DateRange_ShouldKeepOnlyArrivalsInRange() throws IOException {
+        Path file = dir.resolve("range.csv");
+        
+        long rows = exporter.export(file, BulkExporter.Format.CSV, start.plusDays(1), start.plusDays(10), false);
+        
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, rows);
+        assertTrue(lines.get(1).startsWith("BOOK002,"));
+        assertThrows(IllegalArgumentException.class,
+                () -> exporter.export(file, BulkExporter.Format.CSV, start, start, false));
+    }
+}
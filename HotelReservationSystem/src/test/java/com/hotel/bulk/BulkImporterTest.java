@@ -0,0 +1,190 @@
+package com.hotel.bulk;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.model.*;
+import com.hotel.persistence.BookingJournal;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
+import com.hotel.service.BookingService;
+import com.hotel.service.CustomerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkImporterTest {
+    @TempDir
+    Path dir;
+    
+    private Hotel hotel;
+    private CustomerRepository customers;
+    private BookingRepository bookings;
+    private List<String> errors;
+    private BulkImporter importer;
+    
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        customers = new CustomerRepository();
+        bookings = new BookingRepository();
+        errors = new ArrayList<>();
+        importer = new BulkImporter(hotel, customers, bookings, new CustomerService(customers), new BookingService(),
+                errors::add).batchSize(2);
+    }
+    
+    @Test
+    void importRooms_BadRows_ShouldReportThemAndLoadTheRest() throws IOException {
+        Path file = write("rooms.csv", "roomNumber,type,pricePerNight\n101,single,100\n102,PENTHOUSE,500\n103,SUITE,abc\n101,DOUBLE,150\n104,suite,$300.50\n");
+        
+        BulkImporter.Result result = importer.importRooms(file);
+        
+        assertEquals(5, result.getRows());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of("rooms.csv:3: Unknown room type PENTHOUSE", "rooms.csv:4: Invalid amount: abc",
+                "rooms.csv:5: Room 101 already exists"), errors);
+        assertEquals(30050, hotel.findRoom("104").getPricePerNightCents());
+    }
+    
+    @Test
+    void importCustomers_DuplicateEmail_ShouldBeRejected() throws IOException {
+        Path file = write("customers.csv", "CUST001,John Doe,john@email.com\nCUST002,Jane Roe,JOHN@email.com\nCUST003,,x@email.com\n");
+        
+        BulkImporter.Result result = importer.importCustomers(file);
+        
+        assertEquals(1, result.getImported());
+        assertEquals(2, errors.size());
+        assertTrue(errors.get(0).startsWith("customers.csv:2: "));
+        assertEquals("customers.csv:3: Customer name cannot be null or empty", errors.get(1));
+        assertEquals("John Doe", customers.findById("CUST001").getName());
+    }
+    
+    @Test
+    void importBookings_HistoryOverlapsAndUnknowns_ShouldLoadEveryValidRow() throws IOException {
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
+        customers.add(new Customer("CUST001", "John Doe", "john@email.com"));
+        LocalDate future = LocalDate.now().plusDays(10);
+        Path file = write("bookings.csv", "bookingId,customerId,roomNumber,checkIn,checkOut,status\n"
+                + "B1,CUST001,101,2019-03-01,2019-03-04,\n"
+                + "B2,CUST001,101,2019-03-03,2019-03-05\n"
+                + "B3,CUST001,102,2019-03-01,2019-03-02,CANCELLED\n"
+                + "B4,CUST404,101," + future + "," + future.plusDays(1) + "\n"
+                + "B5,CUST001,102,2019-02-30,2019-03-02\n"
+                + "B6,CUST001,102," + future + "," + future.plusDays(2) + "\n");
+        
+        BulkImporter.Result result = importer.importBookings(file);
+        
+        assertEquals(6, result.getRows());
+        assertEquals(3, result.getImported());
+        assertEquals(3, errors.size());
+        assertEquals("bookings.csv:3: Room is not available for booking", errors.get(0));
+        assertEquals("bookings.csv:5: Unknown customer CUST404", errors.get(1));
+        assertTrue(errors.get(2).startsWith("bookings.csv:6: Invalid date 2019-02-30"), errors.get(2));
+        assertEquals(BookingStatus.CONFIRMED, bookings.findById("B1").getStatus());
+        assertEquals(BookingStatus.CANCELLED, bookings.findById("B3").getStatus());
+        assertFalse(hotel.findRoom("102").isAvailable(future, future.plusDays(1)));
+    }
+    
+    @Test
+    void importBookings_CancelledThenRebooked_ShouldLoadBoth() throws IOException {
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        customers.add(new Customer("CUST001", "John Doe", "john@email.com"));
+        Path file = write("bookings.csv", "B1,CUST001,101,2019-03-01,2019-03-04,CANCELLED\n"
+                + "B2,CUST001,101,2019-03-01,2019-03-04,CONFIRMED\n");
+        
+        BulkImporter.Result result = importer.importBookings(file);
+        
+        assertEquals(2, result.getImported());
+        assertTrue(errors.isEmpty(), errors.toString());
+        assertEquals(BookingStatus.CANCELLED, bookings.findById("B1").getStatus());
+        assertEquals(BookingStatus.CONFIRMED, bookings.findById("B2").getStatus());
+        assertFalse(hotel.findRoom("101").isAvailable(LocalDate.of(2019, 3, 1), LocalDate.of(2019, 3, 4)));
+    }
+    
+    @Test
+    void importBookings_RepeatedIdInChunk_ShouldRejectLaterRowsAndLoadTheRest() throws IOException {
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
+        customers.add(new Customer("CUST001", "John Doe", "john@email.com"));
+        Path file = write("bookings.csv", "B1,CUST001,101,2019-03-01,2019-03-04,CANCELLED\n"
+                + "B1,CUST001,102,2019-03-01,2019-03-04\n"
+                + "B2,CUST001,101,2019-04-01,2019-04-02\n"
+                + "B2,CUST001,102,2019-04-01,2019-04-02\n"
+                + "B3,CUST001,101,2019-05-01,2019-05-02\n");
+        
+        BulkImporter.Result result = importer.importBookings(file);
+        
+        assertEquals(3, result.getImported());
+        assertEquals(List.of("bookings.csv:2: Booking B1 already exists", "bookings.csv:4: Booking B2 already exists"),
+                errors);
+        assertEquals(BookingStatus.CANCELLED, bookings.findById("B1").getStatus());
+        assertEquals("101", bookings.findById("B2").getRoom().getRoomNumber());
+        assertTrue(hotel.findRoom("102").isAvailable(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2)));
+        assertNotNull(bookings.findById("B3"));
+    }
+    
+    @Test
+    void importBookings_CancelFails_ShouldRejectRowAndKeepGoing() throws IOException {
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        customers.add(new Customer("CUST001", "John Doe", "john@email.com"));
+        BookingService failingCancels = new BookingService() {
+            @Override
+            public void cancelBooking(Booking booking) {
+                throw new InvalidBookingException("Failed to persist cancellation: disk full");
+            }
+        };
+        Path file = write("bookings.csv", "B1,CUST001,101,2019-03-01,2019-03-04,CANCELLED\n"
+                + "B2,CUST001,101,2019-04-01,2019-04-02\n");
+        
+        BulkImporter.Result result = new BulkImporter(hotel, customers, bookings, new CustomerService(customers),
+                failingCancels, errors::add).importBookings(file);
+        
+        assertEquals(1, result.getImported());
+        assertEquals(List.of("bookings.csv:1: Booking B1 was created but could not be cancelled: "
+                + "Failed to persist cancellation: disk full"), errors);
+        assertEquals(BookingStatus.CONFIRMED, bookings.findById("B1").getStatus());
+        assertNotNull(bookings.findById("B2"));
+    }
+    
+    @Test
+    void importBookings_OneBadRowInChunk_ShouldNotRetryEveryRowAlone() throws IOException {
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        customers.add(new Customer("CUST001", "John Doe", "john@email.com"));
+        StringBuilder csv = new StringBuilder();
+        LocalDate night = LocalDate.of(2019, 1, 1);
+        for (int i = 0; i < 64; i++) {
+            csv.append("B").append(i).append(",CUST001,101,").append(night.plusDays(i)).append(',')
+                    .append(night.plusDays(i + 1)).append('\n');
+        }
+        csv.append("B64,CUST001,101,").append(night).append(',').append(night.plusDays(1)).append('\n');
+        Path file = write("bookings.csv", csv.toString());
+        
+        try (BookingJournal journal = new BookingJournal(dir.resolve("bookings.wal"))) {
+            BulkImporter.Result result = new BulkImporter(hotel, customers, bookings, new CustomerService(customers),
+                    new BookingService(journal), errors::add).batchSize(100).importBookings(file);
+            
+            assertEquals(64, result.getImported());
+            assertEquals(List.of("bookings.csv:65: Room is not available for booking"), errors);
+            assertTrue(journal.getSyncCount() < 16, "syncs: " + journal.getSyncCount());
+        }
+    }
+    
+    @Test
+    void parseDate_ShouldReadIsoDatesOnly() {
+        assertEquals(LocalDate.of(2026, 1, 21), BulkImporter.parseDate(" 2026-01-21 "));
+        assertThrows(IllegalArgumentException.class, () -> BulkImporter.parseDate("21-01-2026"));
+        assertThrows(IllegalArgumentException.class, () -> BulkImporter.parseDate("2026-13-01"));
+    }
+    
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+}
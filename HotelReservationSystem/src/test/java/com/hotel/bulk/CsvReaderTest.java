@@ -0,0 +1,75 @@
+package com.hotel.bulk;
+
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+    
+    @Test
+    void next_QuotedFieldsAndLineEndings_ShouldSplitRecords() throws IOException {
+        String csv = "id,name\r\n1,\"Doe, John\"\r\n\n2,\"say \"\"hi\"\"\nthere\",\n3,Zoë";
+        
+        List<String> records = readAll(csv, 8);
+        
+        assertEquals(List.of("[id, name]@1", "[1, Doe, John]@2", "[2, say \"hi\"\nthere, ]@4", "[3, Zoë]@6"), records);
+    }
+    
+    @Test
+    void next_ByteOrderMark_ShouldBeSkipped() throws IOException {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] body = "roomNumber,type\n".getBytes(StandardCharsets.UTF_8);
+        byte[] input = new byte[bom.length + body.length];
+        System.arraycopy(bom, 0, input, 0, bom.length);
+        System.arraycopy(body, 0, input, bom.length, body.length);
+        
+        CsvReader csv = new CsvReader(Channels.newChannel(new ByteArrayInputStream(input)));
+        
+        assertTrue(csv.next());
+        assertEquals("roomNumber", csv.get(0));
+        assertFalse(csv.next());
+    }
+    
+    @Test
+    void getLong_ShouldParseDigitsWithoutDecoding() throws IOException {
+        CsvReader csv = reader("12345,-7,abc\n", 4);
+        
+        assertTrue(csv.next());
+        
+        assertEquals(12345L, csv.getLong(0));
+        assertEquals(-7L, csv.getLong(1));
+        assertThrows(IllegalArgumentException.class, () -> csv.getLong(2));
+        assertThrows(IllegalArgumentException.class, () -> csv.get(3));
+    }
+    
+    @Test
+    void next_UnterminatedQuote_ShouldThrowWithLineNumber() throws IOException {
+        CsvReader csv = reader("a,b\n\"open,c\n", 16);
+        
+        assertTrue(csv.next());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, csv::next);
+        
+        assertTrue(e.getMessage().startsWith("Line 2"));
+    }
+    
+    private static List<String> readAll(String text, int bufferSize) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (CsvReader csv = reader(text, bufferSize)) {
+            while (csv.next()) {
+                records.add(Arrays.toString(csv.toArray()) + "@" + csv.getLineNumber());
+            }
+        }
+        return records;
+    }
+    
+    private static CsvReader reader(String text, int bufferSize) {
+        return new CsvReader(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), bufferSize);
+    }
+}
@@ -0,0 +1,160 @@
+package com.hotel.event;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBusTest {
+    private final EventBus bus = new EventBus(8);
+    
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+    
+    @Test
+    void constructor_CapacityNotPowerOfTwo_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new EventBus(12));
+        assertThrows(IllegalArgumentException.class, () -> new EventBus(0));
+    }
+    
+    @Test
+    void subscribe_ShouldDeliverEventsInOrderToEverySubscriber() {
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        EventBus.Subscription one = bus.subscribe("first", first);
+        EventBus.Subscription two = bus.subscribe("second", second);
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoomListener(bus);
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        
+        hotel.addRoom(room);
+        room.setPricePerNight(120.0);
+        Booking booking = new Booking("BOOK001", new Customer("CUST001", "John Doe", "john@email.com"),
+                room, LocalDate.now().plusDays(1), LocalDate.now().plusDays(2));
+        bus.bookingCreated(booking);
+        bus.bookingCancelled(booking);
+        Payment payment = new Payment("PAY001", booking, 120.0);
+        bus.paymentCreated(payment);
+        bus.paymentProcessed(payment);
+        bus.paymentFailed(payment);
+        one.close();
+        two.close();
+        
+        List<String> expected = List.of("roomAdded 101", "roomChanged 101", "bookingCreated BOOK001",
+                "bookingCancelled BOOK001", "paymentCreated PAY001", "paymentProcessed PAY001", "paymentFailed PAY001");
+        assertEquals(expected, first.events);
+        assertEquals(expected, second.events);
+    }
+    
+    @Test
+    void publish_MoreEventsThanCapacityFromManyThreads_ShouldDeliverEveryOne() throws InterruptedException {
+        AtomicInteger received = new AtomicInteger();
+        EventBus.Subscription subscription = bus.subscribe("counter", new BookingEventListener() {
+            @Override
+            public void roomAdded(Room room) {
+                received.incrementAndGet();
+            }
+        });
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        int threads = 4;
+        int perThread = 10_000;
+        
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    bus.roomAdded(room);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        subscription.close();
+        
+        assertEquals(threads * perThread, received.get());
+        assertEquals(threads * perThread, subscription.getPosition());
+    }
+    
+    @Test
+    void subscribe_ThrowingListener_ShouldKeepDeliveringAndEndBatches() throws InterruptedException {
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch caughtUp = new CountDownLatch(1);
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        bus.subscribe("flaky", new BookingEventListener() {
+            @Override
+            public void roomChanged(Room changed) {
+                if (received.incrementAndGet() == 1) {
+                    throw new IllegalStateException("boom");
+                }
+            }
+        }, () -> {
+            if (received.get() == 3) {
+                caughtUp.countDown();
+            }
+        });
+        
+        bus.roomChanged(room);
+        bus.roomChanged(room);
+        bus.roomChanged(room);
+        
+        assertTrue(caughtUp.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void subscribe_InvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe(" ", new Recorder()));
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe("name", null));
+    }
+    
+    private static final class Recorder implements BookingEventListener {
+        final List<String> events = new ArrayList<>();
+        
+        @Override
+        public void bookingCreated(Booking booking) {
+            events.add("bookingCreated " + booking.getBookingId());
+        }
+        
+        @Override
+        public void bookingCancelled(Booking booking) {
+            events.add("bookingCancelled " + booking.getBookingId());
+        }
+        
+        @Override
+        public void paymentCreated(Payment payment) {
+            events.add("paymentCreated " + payment.getPaymentId());
+        }
+        
+        @Override
+        public void paymentProcessed(Payment payment) {
+            events.add("paymentProcessed " + payment.getPaymentId());
+        }
+        
+        @Override
+        public void paymentFailed(Payment payment) {
+            events.add("paymentFailed " + payment.getPaymentId());
+        }
+        
+        @Override
+        public void roomAdded(Room room) {
+            events.add("roomAdded " + room.getRoomNumber());
+        }
+        
+        @Override
+        public void roomChanged(Room room) {
+            events.add("roomChanged " + room.getRoomNumber());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.hotel.jfr;
+
+import com.hotel.exception.InvalidPaymentException;
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import com.hotel.service.PaymentService;
+import com.hotel.service.StubPaymentGateway;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void serviceCalls_WhileRecording_ShouldEmitEventsWithFields() throws IOException {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        BookingService bookingService = new BookingService();
+        
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording();
+             PaymentService declining = new PaymentService(null, new StubPaymentGateway(Duration.ZERO, p -> false))) {
+            recording.enable(BookingCreateEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(BookingCancelEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(AvailabilitySearchEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(PaymentEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            
+            hotel.findAvailableRooms(RoomType.SINGLE, checkIn, checkIn.plusDays(3));
+            Booking booking = bookingService.createBooking("BOOK001", customer, room, checkIn, checkIn.plusDays(3));
+            Payment payment = declining.createPaymentCents("PAY001", booking, 30_000);
+            assertThrows(InvalidPaymentException.class, () -> declining.processPayment(payment));
+            bookingService.cancelBooking(booking);
+            
+            recording.stop();
+            Path file = tempDir.resolve("hotel.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("com.hotel."))
+                    .collect(Collectors.toList());
+        }
+        
+        RecordedEvent search = only(events, "com.hotel.AvailabilitySearch");
+        assertEquals("HOTEL001", search.getString("hotelId"));
+        assertEquals("SINGLE", search.getString("roomType"));
+        assertEquals(3, search.getInt("nights"));
+        assertEquals(1, search.getInt("roomsFound"));
+        
+        RecordedEvent create = only(events, "com.hotel.BookingCreate");
+        assertEquals("BOOK001", create.getString("bookingId"));
+        assertEquals("101", create.getString("roomNumber"));
+        assertEquals("CREATED", create.getString("result"));
+        assertFalse(create.getDuration().isNegative());
+        
+        RecordedEvent paymentEvent = only(events, "com.hotel.Payment");
+        assertEquals(30_000, paymentEvent.getLong("amountCents"));
+        assertEquals("FAILED", paymentEvent.getString("result"));
+        
+        RecordedEvent cancel = only(events, "com.hotel.BookingCancel");
+        assertEquals("CANCELLED", cancel.getString("result"));
+        assertEquals(3, cancel.getInt("nights"));
+    }
+    
+    @Test
+    void complete_WithoutRecording_ShouldNotFillFields() {
+        BookingCreateEvent event = new BookingCreateEvent();
+        event.begin();
+        
+        event.complete("BOOK001", null, null, null, null);
+        
+        assertNull(event.result);
+    }
+    
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matches = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matches.size(), name);
+        return matches.get(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotel.loadtest;
+
+import com.hotel.loadtest.LoadGenerator.Operation;
+import com.hotel.model.RoomType;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+    
+    @Test
+    void run_ShortBurst_ShouldReportEveryOperation() throws InterruptedException {
+        LoadGenerator.Config config = new LoadGenerator.Config()
+                .rooms(RoomType.SINGLE, 20).rooms(RoomType.DOUBLE, 10).rooms(RoomType.SUITE, 5)
+                .customers(50)
+                .threads(2);
+        
+        LoadGenerator.Report report = new LoadGenerator(config).run(Duration.ofMillis(300));
+        
+        for (Operation operation : Operation.values()) {
+            assertTrue(report.getCount(operation) > 0, operation.name());
+            assertTrue(report.getQuantileNanos(operation, 0.5) <= report.getQuantileNanos(operation, 0.99));
+        }
+        assertTrue(report.getThroughput() > 0);
+    }
+    
+    @Test
+    void parse_ShouldOverrideDefaults() {
+        LoadGenerator.Config config = LoadGenerator.Config.parse(new String[]{
+            "--rooms", "SINGLE=10,suite=2", "--mix", "search=1,book=1", "--threads", "3"});
+        
+        assertEquals(12, config.totalRooms());
+        assertEquals(2, config.mixTotal());
+        assertEquals(3, config.threads);
+        assertEquals(Operation.BOOK, config.pick(1));
+        assertThrows(IllegalArgumentException.class,
+            () -> LoadGenerator.Config.parse(new String[]{"--threads", "0"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> LoadGenerator.Config.parse(new String[]{"--bogus", "1"}));
+    }
+}
@@ -0,0 +1,77 @@
+package com.hotel.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    
+    @Test
+    void bucketOf_ShouldBeMonotonicAndContainValue() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value += 7) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            
+            assertTrue(bucket >= previous);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value);
+            previous = bucket;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+    
+    @Test
+    void getQuantileNanos_UniformValues_ShouldBeWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram("test_seconds", "");
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.recordNanos(micros * 1_000);
+        }
+        
+        assertEquals(5_000_000, histogram.getQuantileNanos(0.5), 5_000_000 / 16.0);
+        assertEquals(9_900_000, histogram.getQuantileNanos(0.99), 9_900_000 / 16.0);
+        assertEquals(9_990_000, histogram.getQuantileNanos(0.999), 9_990_000 / 16.0);
+        assertEquals(10_000_000, histogram.getQuantileNanos(1.0));
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(50_005_000_000L, histogram.getSumNanos());
+    }
+    
+    @Test
+    void getQuantileNanos_Empty_ShouldReturnZero() {
+        LatencyHistogram histogram = new LatencyHistogram("test_seconds", "");
+        
+        assertEquals(0, histogram.getQuantileNanos(0.99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getQuantileNanos(1.5));
+    }
+    
+    @Test
+    void recordNanos_ConcurrentWriters_ShouldNotLoseSamples() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram("test_seconds", "");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 25_000; i++) {
+                    histogram.recordNanos(100);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100, histogram.getQuantileNanos(0.5));
+    }
+}
@@ -0,0 +1,61 @@
+package com.hotel.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+    
+    @Test
+    void counter_SameName_ShouldReturnSameInstance() {
+        MetricsRegistry registry = new MetricsRegistry();
+        
+        Counter counter = registry.counter("bookings_total", "Bookings.");
+        
+        assertSame(counter, registry.counter("bookings_total", "Bookings."));
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("bookings_total", ""));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad name", ""));
+    }
+    
+    @Test
+    void scrape_ShouldWritePrometheusTextFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("bookings_total", "Bookings created.").add(3);
+        LatencyHistogram histogram = registry.histogram("create_seconds", "Create latency.");
+        histogram.recordNanos(2_000_000);
+        histogram.recordNanos(2_000_000);
+        
+        String text = registry.scrape();
+        
+        assertTrue(text.contains("# HELP bookings_total Bookings created.\n"));
+        assertTrue(text.contains("# TYPE bookings_total counter\nbookings_total 3\n"));
+        assertTrue(text.contains("# TYPE create_seconds summary\n"));
+        assertTrue(text.contains("create_seconds{quantile=\"0.99\"} 0.002"));
+        assertTrue(text.contains("create_seconds_sum 0.004\n"));
+        assertTrue(text.contains("create_seconds_count 2\n"));
+    }
+    
+    @Test
+    void metricsServer_Get_ShouldServeScrape() throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("bookings_total", "Bookings created.").increment();
+        
+        try (MetricsServer server = MetricsServer.start(registry, 0)) {
+            URL url = new URL("http://localhost:" + server.getPort() + MetricsServer.PATH);
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(MetricsServer.CONTENT_TYPE, connection.getContentType());
+            assertTrue(body.contains("bookings_total 1\n"));
+        }
+    }
+}
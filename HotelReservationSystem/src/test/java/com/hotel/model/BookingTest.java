@@ -46,6 +46,37 @@ class BookingTest {
             () -> new Booking("BOOK001", customer, room, checkIn, checkOut));
     }
     
+    @Test
+    void createBooking_StayLongerThanLimit_ShouldThrowException() {
+        Customer customer = new Customer("CUST001", "John Doe", "jon@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> new Booking("BOOK001", customer, room, checkIn, LocalDate.of(999999, 1, 1)));
+        
+        assertEquals(0, room.getReservationCount());
+        assertTrue(customer.getBookings().isEmpty());
+    }
+    
+    @Test
+    void createBooking_FarFromOtherStays_ShouldLeaveNoReservationBehind() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        Customer customer = new Customer("CUST001", "John Doe", "jon@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(2));
+        LocalDate farOff = LocalDate.of(9000, 1, 1);
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> new Booking("BOOK002", customer, room, farOff, farOff.plusDays(2)));
+        
+        assertEquals(1, room.getReservationCount());
+        assertEquals(1, customer.getBookings().size());
+        assertEquals(1, hotel.countAvailableRooms(RoomType.SINGLE, checkIn.plusDays(2), checkIn.plusDays(3)));
+    }
+    
     @Test
     void calculateTotalPrice_ValidBooking_ShouldCalculateCorrectly() {
         Customer customer = new Customer("CUST001", "John Doe", "jon@email.com");
@@ -84,4 +115,29 @@ class BookingTest {
         
         assertThrows(IllegalStateException.class, booking::cancelBooking);
     }
+    
+    @Test
+    void createBooking_SameRoomDifferentDates_ShouldCreateBoth() {
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(2));
+        Booking second = new Booking("BOOK002", customer, room, checkIn.plusDays(2), checkIn.plusDays(4));
+        
+        assertEquals(BookingStatus.CONFIRMED, second.getStatus());
+        assertEquals(2, customer.getBookings().size());
+    }
+    
+    @Test
+    void createBooking_OverlappingDates_ShouldThrowException() {
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(3));
+        
+        assertThrows(IllegalStateException.class,
+            () -> new Booking("BOOK002", customer, room, checkIn.plusDays(1), checkIn.plusDays(2)));
+        assertEquals(1, customer.getBookings().size());
+    }
 }
@@ -3,8 +3,12 @@ package com.hotel.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class CustomerTest {
     
@@ -57,4 +61,39 @@ class CustomerTest {
         assertThrows(IllegalArgumentException.class,
             () -> customer.addBooking(null));
     }
+    
+    @Test
+    void getBookings_ShouldBeReadOnlyLiveView() {
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        List<Booking> view = customer.getBookings();
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        
+        Booking booking = new Booking("BOOK001", customer, room, LocalDate.now().plusDays(1), LocalDate.now().plusDays(2));
+        
+        assertEquals(List.of(booking), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(booking));
+    }
+    
+    @Test
+    void getBookings_RepeatedReads_ShouldNotAllocatePerCall() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        for (int i = 0; i < 200; i++) {
+            LocalDate checkIn = LocalDate.now().plusDays(1 + i);
+            new Booking("BOOK" + i, customer, room, checkIn, checkIn.plusDays(1));
+        }
+        int totalSize = customer.getBookings().size();
+        
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            totalSize += customer.getBookings().size();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        
+        assertEquals(10_001 * 200, totalSize);
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+    }
 }
@@ -3,8 +3,14 @@ package com.hotel.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class HotelTest {
     
@@ -25,6 +31,71 @@ class HotelTest {
             () -> new Hotel(hotelId, "Grand Plaza", "New York"));
     }
     
+    @Test
+    void findAvailableRooms_InterruptedThread_ShouldStopAndKeepInterruptStatus() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class,
+                () -> hotel.findAvailableRooms(RoomType.SINGLE, checkIn, checkIn.plusDays(1)));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+    
+    @Test
+    void getAvailabilityVersion_ShouldChangeOnReserveRepriceAndRates() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        long added = hotel.getAvailabilityVersion();
+        room.reserve(checkIn, checkIn.plusDays(1));
+        long reserved = hotel.getAvailabilityVersion();
+        room.setPricePerNight(120.0);
+        long repriced = hotel.getAvailabilityVersion();
+        hotel.getRateCalendar(RoomType.SINGLE).setRate(checkIn, checkIn.plusDays(1), 12_000);
+        long rated = hotel.getAvailabilityVersion();
+        
+        assertTrue(added < reserved);
+        assertTrue(reserved < repriced);
+        assertTrue(repriced < rated);
+        assertEquals(rated, hotel.getAvailabilityVersion());
+    }
+    
+    @Test
+    void addRoomListener_ShouldHearAddsAndChangesUntilRemoved() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        List<String> heard = new ArrayList<>();
+        RoomListener listener = new RoomListener() {
+            @Override
+            public void roomAdded(Room added) {
+                heard.add("added " + added.getRoomNumber());
+            }
+            
+            @Override
+            public void roomChanged(Room changed) {
+                heard.add("changed " + changed.getType());
+            }
+        };
+        hotel.addRoomListener(listener);
+        
+        hotel.addRoom(room);
+        room.setType(RoomType.DOUBLE);
+        room.setType(RoomType.DOUBLE);
+        room.setPricePerNight(150.0);
+        hotel.removeRoomListener(listener);
+        room.setPricePerNight(160.0);
+        
+        assertEquals(List.of("added 101", "changed DOUBLE", "changed DOUBLE"), heard);
+        assertThrows(IllegalArgumentException.class, () -> hotel.addRoomListener(null));
+    }
+    
     @Test
     void addRoom_ValidRoom_ShouldAddToList() {
         Hotel hotel = new Hotel("HOTEL001", "Mega Plaza", "New York");
@@ -73,4 +144,200 @@ class HotelTest {
         
         assertEquals(1, availableRooms.size());
     }
+
+    @Test
+    void findAvailableRooms_ForDateRange_ShouldSkipOnlyOverlappingStays() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room1 = new Room("101", RoomType.SINGLE, 100.0);
+        Room room2 = new Room("102", RoomType.SINGLE, 100.0);
+        Room room3 = new Room("201", RoomType.DOUBLE, 150.0);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        hotel.addRoom(room3);
+        LocalDate march12 = LocalDate.of(2030, 3, 12);
+        LocalDate march15 = LocalDate.of(2030, 3, 15);
+        
+        room1.reserve(march12, march15);
+        
+        assertEquals(1, hotel.findAvailableRooms(RoomType.SINGLE, march12, march15).size());
+        assertEquals(room2, hotel.findAvailableRooms(RoomType.SINGLE, march12, march15).get(0));
+        assertEquals(2, hotel.findAvailableRooms(RoomType.SINGLE, march15, march15.plusDays(2)).size());
+        assertEquals(1, hotel.findAvailableRooms(RoomType.DOUBLE, march12, march15).size());
+    }
+    
+    @Test
+    void findAvailableRooms_InvalidDateRange_ShouldThrowException() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        LocalDate date = LocalDate.of(2030, 3, 12);
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> hotel.findAvailableRooms(RoomType.SINGLE, date, date));
+    }
+    
+    @Test
+    void countAvailableRooms_AcrossManyBitmapWords_ShouldCountFreeRooms() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        List<Room> singles = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Room room = new Room(String.valueOf(1000 + i), RoomType.SINGLE, 100.0);
+            hotel.addRoom(room);
+            singles.add(room);
+        }
+        hotel.addRoom(new Room("501", RoomType.SUITE, 300.0));
+        LocalDate checkIn = LocalDate.of(2030, 3, 12);
+        LocalDate checkOut = LocalDate.of(2030, 3, 15);
+        
+        singles.get(0).reserve(checkIn, checkOut);
+        singles.get(70).reserve(checkIn.plusDays(2), checkOut.plusDays(4));
+        singles.get(199).reserve(checkIn.minusDays(5), checkIn);
+        singles.get(130).bookRoom();
+        
+        assertEquals(200, hotel.countRooms(RoomType.SINGLE));
+        assertEquals(197, hotel.countAvailableRooms(RoomType.SINGLE, checkIn, checkOut));
+        assertEquals(197, hotel.findAvailableRooms(RoomType.SINGLE, checkIn, checkOut).size());
+        assertEquals(196, hotel.countAvailableRooms(RoomType.SINGLE));
+        assertEquals(2, hotel.countOccupiedRooms(RoomType.SINGLE, checkIn.plusDays(2)));
+        assertEquals(1, hotel.countAvailableRooms(RoomType.SUITE, checkIn, checkOut));
+        assertFalse(hotel.findAvailableRooms(RoomType.SINGLE, checkIn, checkOut).contains(singles.get(70)));
+    }
+    
+    @Test
+    void reserve_ConcurrentlyAlongsideSearches_ShouldLoseNoBits() throws InterruptedException {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        List<Room> singles = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            Room room = new Room(String.valueOf(1000 + i), RoomType.SINGLE, 100.0);
+            hotel.addRoom(room);
+            singles.add(room);
+        }
+        LocalDate night = LocalDate.of(2030, 3, 12);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            threads.add(new Thread(() -> {
+                // Interleaved rooms share stripes; spread dates grow the nights.
+                for (int i = offset; i < singles.size(); i += 4) {
+                    LocalDate checkIn = night.plusDays((i % 2 == 0 ? 1 : -1) * (i + 1));
+                    singles.get(i).reserve(checkIn, checkIn.plusDays(1));
+                    singles.get(i).reserve(night, night.plusDays(1));
+                }
+            }));
+        }
+        Thread searcher = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                hotel.findAvailableRooms(RoomType.SINGLE, night, night.plusDays(1));
+            }
+        });
+        
+        threads.forEach(Thread::start);
+        searcher.start();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        searcher.join();
+        
+        assertEquals(256, hotel.countOccupiedRooms(RoomType.SINGLE, night));
+        assertEquals(0, hotel.countAvailableRooms(RoomType.SINGLE, night, night.plusDays(1)));
+        assertEquals(1, hotel.countOccupiedRooms(RoomType.SINGLE, night.plusDays(201)));
+    }
+    
+    @Test
+    void countAvailableRooms_AfterRelease_ShouldIncludeRoomAgain() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        LocalDate checkIn = LocalDate.of(2030, 3, 12);
+        LocalDate checkOut = LocalDate.of(2030, 3, 15);
+        room.reserve(checkIn, checkOut);
+        
+        room.release(checkIn, checkOut);
+        
+        assertEquals(1, hotel.countAvailableRooms(RoomType.SINGLE, checkIn, checkOut));
+        assertEquals(0, hotel.countOccupiedRooms(RoomType.SINGLE, checkIn));
+    }
+    
+    @Test
+    void setType_RoomWithReservations_ShouldMoveToNewTypeInventory() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.of(2030, 3, 12);
+        LocalDate checkOut = LocalDate.of(2030, 3, 15);
+        room.reserve(checkIn, checkOut);
+        hotel.addRoom(room);
+        
+        room.setType(RoomType.DOUBLE);
+        
+        assertEquals(0, hotel.countRooms(RoomType.SINGLE));
+        assertEquals(1, hotel.countRooms(RoomType.DOUBLE));
+        assertEquals(0, hotel.countAvailableRooms(RoomType.DOUBLE, checkIn, checkOut));
+        assertEquals(1, hotel.countOccupiedRooms(RoomType.DOUBLE, checkIn));
+        assertEquals(1, hotel.countAvailableRooms(RoomType.DOUBLE, checkOut, checkOut.plusDays(1)));
+    }
+    
+    @Test
+    void addRoom_RoomOfAnotherHotel_ShouldThrowException() {
+        Hotel first = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Hotel second = new Hotel("HOTEL002", "Harbour View", "Boston");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        first.addRoom(room);
+        
+        assertThrows(IllegalArgumentException.class, () -> second.addRoom(room));
+    }
+    
+    @Test
+    void getRooms_NoChanges_ShouldReturnSameUnmodifiableSnapshot() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        
+        List<Room> first = hotel.getRooms();
+        List<Room> second = hotel.getRooms();
+        
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class,
+            () -> first.add(new Room("102", RoomType.SINGLE, 100.0)));
+    }
+    
+    @Test
+    void getRooms_AfterAddRoom_ShouldReturnNewSnapshot() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        List<Room> before = hotel.getRooms();
+        
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
+        
+        assertEquals(1, before.size());
+        assertEquals(2, hotel.getRooms().size());
+    }
+    
+    @Test
+    void findRoom_ByNumber_ShouldReturnRoom() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("204", RoomType.DOUBLE, 150.0);
+        hotel.addRoom(room);
+        
+        assertSame(room, hotel.findRoom("204"));
+        assertNull(hotel.findRoom("999"));
+    }
+    
+    @Test
+    void getRooms_RepeatedReads_ShouldNotAllocatePerCall() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        for (int i = 0; i < 1000; i++) {
+            hotel.addRoom(new Room(String.valueOf(i), RoomType.SINGLE, 100.0));
+        }
+        int totalSize = hotel.getRooms().size();
+        
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            totalSize += hotel.getRooms().size();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        
+        assertEquals(10_001 * 1000, totalSize);
+        // A copy per call would be over 40 MB here.
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes");
+    }
 }
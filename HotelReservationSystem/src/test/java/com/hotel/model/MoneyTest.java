@@ -0,0 +1,55 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+    
+    @ParameterizedTest
+    @CsvSource({"0, 0.00", "5, 0.05", "120050, 1200.50", "-199, -1.99", "-5, -0.05"})
+    void format_Cents_ShouldRenderTwoDecimals(long cents, String expected) {
+        assertEquals(expected, Money.format(cents));
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"100, 10000", "100.5, 10050", "' $19.99 ', 1999", "0.07, 7", "-3.1, -310"})
+    void parse_ValidAmount_ShouldReturnCents(String text, long expected) {
+        assertEquals(expected, Money.parse(text));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "1.234", "1.2.3", "$"})
+    void parse_InvalidAmount_ShouldThrowException(String text) {
+        assertThrows(NumberFormatException.class, () -> Money.parse(text));
+    }
+    
+    @Test
+    void ofMajor_BinaryFraction_ShouldRoundToNearestCent() {
+        assertEquals(30, Money.ofMajor(0.1 + 0.2));
+    }
+    
+    @Test
+    void appendTo_ReusedBuilder_ShouldAppendAfterExistingText() {
+        StringBuilder out = new StringBuilder("$");
+        
+        Money.appendTo(out, 4599);
+        
+        assertEquals("$45.99", out.toString());
+    }
+    
+    @Test
+    void calculateTotalPriceCents_LongStay_ShouldBeExact() {
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Room room = new Room("101", RoomType.SINGLE, 0.1);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Booking booking = new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(365));
+        
+        assertEquals(3650, booking.calculateTotalPriceCents());
+        assertEquals(36.5, booking.calculateTotalPrice());
+    }
+}
@@ -0,0 +1,100 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateCalendarTest {
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    
+    @Test
+    void sumRates_NoRatesSet_ShouldChargeBaseRatePerNight() {
+        RateCalendar calendar = new RateCalendar();
+        
+        assertEquals(3L * RateCalendar.BASE_RATE, calendar.sumRates(START, START.plusDays(3)));
+    }
+    
+    @Test
+    void priceCents_WeekendRate_ShouldOnlyRaiseFridayAndSaturday() {
+        RateCalendar calendar = new RateCalendar();
+        calendar.setRate(START, START.plusYears(1), EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), 15_000);
+        LocalDate monday = LocalDate.of(2026, 3, 2);
+        
+        long price = calendar.priceCents(10_000, monday, monday.plusDays(7));
+        
+        assertEquals(5 * 10_000 + 2 * 15_000, price);
+        assertEquals(15_000, calendar.getRate(monday.plusDays(4)));
+        assertEquals(RateCalendar.BASE_RATE, calendar.getRate(monday.plusDays(6)));
+    }
+    
+    @Test
+    void sumRates_StayAroundRatedRange_ShouldUseBaseRateOutsideIt() {
+        RateCalendar calendar = new RateCalendar();
+        calendar.setRate(START.plusDays(100), START.plusDays(110), 20_000);
+        
+        long sum = calendar.sumRates(START, START.plusDays(400));
+        
+        assertEquals(390L * RateCalendar.BASE_RATE + 10L * 20_000, sum);
+    }
+    
+    @Test
+    void setRate_RandomOverlappingUpdates_ShouldMatchNightByNightSum() {
+        RateCalendar calendar = new RateCalendar();
+        int horizon = 1000;
+        int[] expected = new int[horizon];
+        Arrays.fill(expected, RateCalendar.BASE_RATE);
+        Random random = new Random(7);
+        
+        for (int update = 0; update < 200; update++) {
+            int from = random.nextInt(horizon - 1);
+            int to = from + 1 + random.nextInt(Math.min(150, horizon - from));
+            int rate = 5_000 + random.nextInt(20_000);
+            calendar.setRate(START.plusDays(from), START.plusDays(to), rate);
+            for (int night = from; night < to; night++) {
+                expected[night] = rate;
+            }
+        }
+        
+        for (int check = 0; check < 500; check++) {
+            int in = random.nextInt(horizon - 1);
+            int out = in + 1 + random.nextInt(horizon - in);
+            long naive = 0;
+            for (int night = in; night < out; night++) {
+                naive += expected[night];
+            }
+            assertEquals(naive, calendar.sumRates(START.plusDays(in), START.plusDays(out)));
+        }
+    }
+    
+    @Test
+    void setRate_InvalidRate_ShouldThrowException() {
+        RateCalendar calendar = new RateCalendar();
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> calendar.setRate(START, START.plusDays(1), 0));
+    }
+    
+    @Test
+    void calculateTotalPrice_HotelAndRoomRates_ShouldPreferRoomCalendar() {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Booking booking = new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(2));
+        
+        hotel.getRateCalendar(RoomType.SINGLE).setRate(checkIn, checkIn.plusDays(1), 12_500);
+        double seasonal = booking.calculateTotalPrice();
+        RateCalendar roomRates = new RateCalendar();
+        roomRates.setRate(checkIn, checkIn.plusDays(2), 5_000);
+        room.setRateCalendar(roomRates);
+        
+        assertEquals(225.0, seasonal);
+        assertEquals(100.0, booking.calculateTotalPrice());
+    }
+}
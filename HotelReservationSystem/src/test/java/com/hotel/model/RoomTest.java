@@ -1,6 +1,7 @@
 package com.hotel.model;
 
 import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
@@ -57,4 +58,52 @@ class RoomTest {
         
         assertTrue(room.isAvailable());
     }
+
+    @Test
+    void reserve_OverlappingStay_ShouldThrowException() {
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate start = LocalDate.now().plusDays(10);
+        room.reserve(start, start.plusDays(3));
+        
+        assertThrows(IllegalStateException.class,
+            () -> room.reserve(start.plusDays(2), start.plusDays(5)));
+        assertThrows(IllegalStateException.class,
+            () -> room.reserve(start.minusDays(1), start.plusDays(1)));
+    }
+    
+    @Test
+    void reserve_BackToBackStays_ShouldBothSucceed() {
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate start = LocalDate.now().plusDays(10);
+        
+        room.reserve(start, start.plusDays(3));
+        room.reserve(start.plusDays(3), start.plusDays(5));
+        room.reserve(start.minusDays(2), start);
+        
+        assertEquals(3, room.getReservationCount());
+        assertFalse(room.isAvailable(start.plusDays(4), start.plusDays(6)));
+        assertTrue(room.isAvailable(start.plusDays(5), start.plusDays(6)));
+    }
+    
+    @Test
+    void release_ReservedStay_ShouldFreeDates() {
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        LocalDate start = LocalDate.now().plusDays(10);
+        room.reserve(start, start.plusDays(3));
+        
+        room.release(start, start.plusDays(3));
+        
+        assertTrue(room.isAvailable(start, start.plusDays(3)));
+        assertTrue(room.isAvailable());
+    }
+    
+    @Test
+    void isAvailable_OutOfServiceRoom_ShouldBeUnavailableForAnyDates() {
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        room.bookRoom();
+        LocalDate start = LocalDate.now().plusDays(10);
+        
+        assertFalse(room.isAvailable(start, start.plusDays(1)));
+        assertThrows(IllegalStateException.class, () -> room.reserve(start, start.plusDays(1)));
+    }
 }
@@ -0,0 +1,413 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import com.hotel.exception.InvalidPaymentException;
+import com.hotel.service.BookingRequest;
+import com.hotel.service.BookingService;
+import com.hotel.service.PaymentGateway;
+import com.hotel.service.PaymentService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingJournalTest {
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void recover_AfterBookingsCancellationsAndPayments_ShouldRebuildState() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        try (BookingJournal journal = new BookingJournal(file)) {
+            Hotel hotel = hotel("HOTEL001");
+            BookingService bookingService = new BookingService(journal);
+            PaymentService paymentService = new PaymentService(journal);
+            Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+            Booking kept = bookingService.createBooking("BOOK001", customer, hotel.getRooms().get(0),
+                checkIn, checkIn.plusDays(2));
+            Booking cancelled = bookingService.createBooking("BOOK002", customer, hotel.getRooms().get(1),
+                checkIn, checkIn.plusDays(2));
+            bookingService.cancelBooking(cancelled);
+            paymentService.processPayment(paymentService.createPayment("PAY001", kept, 200.0));
+        }
+        
+        Hotel restarted = hotel("HOTEL001");
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, List.of(restarted));
+        
+        assertEquals(1, state.getCustomers().size());
+        assertEquals(2, state.getBookings().size());
+        assertEquals(BookingStatus.CONFIRMED, state.getBookings().get(0).getStatus());
+        assertEquals(BookingStatus.CANCELLED, state.getBookings().get(1).getStatus());
+        assertEquals(PaymentStatus.COMPLETED, state.getPayments().get(0).getStatus());
+        assertEquals(200.0, state.getPayments().get(0).getAmount());
+        assertFalse(restarted.getRooms().get(0).isAvailable(checkIn, checkIn.plusDays(2)));
+        assertTrue(restarted.getRooms().get(1).isAvailable(checkIn, checkIn.plusDays(2)));
+        assertEquals(0, state.getSkippedRecords());
+    }
+    
+    @Test
+    void recover_DeclinedThenRetriedPayment_ShouldComeBackOnceAsCompleted() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        AtomicInteger attempts = new AtomicInteger();
+        PaymentGateway gateway = payment -> attempts.incrementAndGet() > 1;
+        try (BookingJournal journal = new BookingJournal(file);
+             PaymentService paymentService = new PaymentService(journal, gateway)) {
+            Hotel hotel = hotel("HOTEL001");
+            BookingService bookingService = new BookingService(journal);
+            LocalDate checkIn = LocalDate.now().plusDays(1);
+            Booking booking = bookingService.createBooking("BOOK001",
+                new Customer("CUST001", "John Doe", "john@email.com"), hotel.getRooms().get(0),
+                checkIn, checkIn.plusDays(2));
+            Payment payment = paymentService.createPayment("PAY001", booking, 200.0);
+            assertThrows(InvalidPaymentException.class, () -> paymentService.processPayment(payment));
+            paymentService.processPayment(payment);
+        }
+        
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, List.of(hotel("HOTEL001")));
+        
+        assertEquals(1, state.getPayments().size());
+        assertEquals(PaymentStatus.COMPLETED, state.getPayments().get(0).getStatus());
+        assertEquals(0, state.getSkippedRecords());
+    }
+    
+    @Test
+    void recover_CancelAndPaymentAfterSnapshot_ShouldApplyToSnapshotBookings() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        Path snapshotFile = tempDir.resolve("hotel.snapshot");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        try (BookingJournal journal = new BookingJournal(file)) {
+            Hotel hotel = hotel("HOTEL001");
+            BookingService bookingService = new BookingService(journal);
+            PaymentService paymentService = new PaymentService(journal);
+            Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+            Booking paid = bookingService.createBooking("BOOK001", customer, hotel.getRooms().get(0),
+                checkIn, checkIn.plusDays(2));
+            Booking cancelled = bookingService.createBooking("BOOK002", customer, hotel.getRooms().get(1),
+                checkIn, checkIn.plusDays(2));
+            SnapshotWriter.write(snapshotFile, new Snapshot(List.of(hotel), List.of(customer),
+                List.of(paid, cancelled), List.of()));
+            journal.checkpoint();
+            
+            bookingService.cancelBooking(cancelled);
+            paymentService.processPayment(paymentService.createPayment("PAY001", paid, 200.0));
+        }
+        
+        Snapshot snapshot = SnapshotReader.read(snapshotFile);
+        Hotel restarted = snapshot.getHotels().get(0);
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, List.of(restarted),
+            snapshot.getCustomers(), snapshot.getBookings());
+        
+        assertEquals(0, state.getSkippedRecords());
+        assertTrue(state.getBookings().isEmpty());
+        assertEquals(BookingStatus.CONFIRMED, snapshot.getBookings().get(0).getStatus());
+        assertEquals(BookingStatus.CANCELLED, snapshot.getBookings().get(1).getStatus());
+        assertTrue(restarted.getRooms().get(1).isAvailable(checkIn, checkIn.plusDays(2)));
+        assertEquals(PaymentStatus.COMPLETED, state.getPayments().get(0).getStatus());
+        assertSame(snapshot.getBookings().get(0), state.getPayments().get(0).getBooking());
+    }
+    
+    @Test
+    void recover_RetryAfterSnapshot_ShouldCompleteTheSnapshotPayment() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        Path snapshotFile = tempDir.resolve("hotel.snapshot");
+        AtomicInteger attempts = new AtomicInteger();
+        PaymentGateway gateway = payment -> attempts.incrementAndGet() > 1;
+        try (BookingJournal journal = new BookingJournal(file);
+             PaymentService paymentService = new PaymentService(journal, gateway)) {
+            Hotel hotel = hotel("HOTEL001");
+            BookingService bookingService = new BookingService(journal);
+            Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+            LocalDate checkIn = LocalDate.now().plusDays(1);
+            Booking booking = bookingService.createBooking("BOOK001", customer, hotel.getRooms().get(0),
+                checkIn, checkIn.plusDays(2));
+            Payment payment = paymentService.createPayment("PAY001", booking, 200.0);
+            assertThrows(InvalidPaymentException.class, () -> paymentService.processPayment(payment));
+            SnapshotWriter.write(snapshotFile, new Snapshot(List.of(hotel), List.of(customer),
+                List.of(booking), List.of(payment)));
+            journal.checkpoint();
+            
+            paymentService.processPayment(payment);
+        }
+        
+        Snapshot snapshot = SnapshotReader.read(snapshotFile);
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, snapshot.getHotels(),
+            snapshot.getCustomers(), snapshot.getBookings(), snapshot.getPayments());
+        
+        assertEquals(0, state.getSkippedRecords());
+        assertTrue(state.getPayments().isEmpty());
+        assertEquals(PaymentStatus.COMPLETED, snapshot.getPayments().get(0).getStatus());
+    }
+    
+    @Test
+    void append_ConcurrentWriters_ShouldShareFsyncsAndRecoverEveryHotel() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        int hotels = 4;
+        int bookingsPerHotel = 200;
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        long syncs;
+        try (BookingJournal journal = new BookingJournal(file)) {
+            BookingService bookingService = new BookingService(journal);
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            for (int h = 0; h < hotels; h++) {
+                Hotel hotel = hotel("HOTEL" + h);
+                Customer customer = new Customer("CUST" + h, "Guest " + h, "guest" + h + "@email.com");
+                Room room = hotel.getRooms().get(0);
+                for (int i = 0; i < bookingsPerHotel; i++) {
+                    LocalDate start = checkIn.plusDays(i);
+                    String bookingId = "BOOK" + h + "-" + i;
+                    executor.submit(() -> bookingService.createBooking(bookingId, customer, room, start, start.plusDays(1)));
+                }
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            syncs = journal.getSyncCount();
+        }
+        
+        List<Hotel> restarted = List.of(hotel("HOTEL0"), hotel("HOTEL1"), hotel("HOTEL2"), hotel("HOTEL3"));
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, restarted);
+        
+        assertEquals(hotels * bookingsPerHotel, state.getBookings().size());
+        assertEquals(hotels, state.getCustomers().size());
+        assertTrue(syncs <= hotels * bookingsPerHotel);
+        for (Hotel hotel : restarted) {
+            assertEquals(bookingsPerHotel, hotel.getRooms().get(0).getReservationCount());
+        }
+    }
+    
+    @Test
+    void recover_TornTailRecord_ShouldKeepEarlierRecords() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        try (BookingJournal journal = new BookingJournal(file)) {
+            BookingService bookingService = new BookingService(journal);
+            Hotel hotel = hotel("HOTEL001");
+            Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+            bookingService.createBooking("BOOK001", customer, hotel.getRooms().get(0), checkIn, checkIn.plusDays(1));
+            bookingService.createBooking("BOOK002", customer, hotel.getRooms().get(1), checkIn, checkIn.plusDays(1));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 5);
+        }
+        
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, List.of(hotel("HOTEL001")));
+        
+        assertEquals(1, state.getBookings().size());
+        assertEquals("BOOK001", state.getBookings().get(0).getBookingId());
+    }
+    
+    @Test
+    void append_WriteFailsPartWay_ShouldCutTheTornFrameOffSoLaterRecordsRecover() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Hotel hotel = hotel("HOTEL001");
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        FailingChannel channel = new FailingChannel(FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        try (BookingJournal journal = new BookingJournal(channel)) {
+            BookingService bookingService = new BookingService(journal);
+            bookingService.createBooking("BOOK001", customer, hotel.getRooms().get(0), checkIn, checkIn.plusDays(1));
+            channel.failNextWrite = true;
+            
+            assertThrows(RuntimeException.class, () -> bookingService.createBooking(
+                "BOOK002", customer, hotel.getRooms().get(1), checkIn, checkIn.plusDays(1)));
+            bookingService.createBooking("BOOK003", customer, hotel.getRooms().get(1), checkIn, checkIn.plusDays(1));
+        }
+        
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(file, List.of(hotel("HOTEL001")));
+        assertEquals(List.of("BOOK001", "BOOK003"),
+            state.getBookings().stream().map(Booking::getBookingId).collect(Collectors.toList()));
+        assertEquals(0, state.getSkippedRecords());
+    }
+    
+    @Test
+    void close_WhileAppending_ShouldCompleteOrRejectEveryAppend() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        Hotel hotel = hotel("HOTEL001");
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        Booking booking = new Booking("BOOK001", customer, hotel.getRooms().get(0),
+            LocalDate.now().plusDays(1), LocalDate.now().plusDays(2));
+        BookingJournal journal = new BookingJournal(file);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> appends = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            appends.add(executor.submit(() -> {
+                while (true) {
+                    try {
+                        journal.append(JournalRecord.bookingCreated(booking));
+                    } catch (IllegalStateException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+        
+        Thread.sleep(50);
+        journal.close();
+        
+        for (Future<?> append : appends) {
+            append.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+    
+    @Test
+    void recover_BatchFrame_ShouldComeBackWholeOrNotAtAll() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        try (BookingJournal journal = new BookingJournal(file)) {
+            BookingService bookingService = new BookingService(journal);
+            Hotel hotel = hotel("HOTEL001");
+            Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+            bookingService.createBookings(List.of(
+                new BookingRequest("BOOK001", customer, hotel.getRooms().get(0), checkIn, checkIn.plusDays(1)),
+                new BookingRequest("BOOK002", customer, hotel.getRooms().get(1), checkIn, checkIn.plusDays(1))));
+        }
+        
+        JournalRecovery.RecoveredState whole = JournalRecovery.recover(file, List.of(hotel("HOTEL001")));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 5);
+        }
+        JournalRecovery.RecoveredState torn = JournalRecovery.recover(file, List.of(hotel("HOTEL001")));
+        
+        assertEquals(2, whole.getBookings().size());
+        assertTrue(torn.getBookings().isEmpty());
+    }
+    
+    @Test
+    void recover_MissingFile_ShouldReturnEmptyState() throws Exception {
+        JournalRecovery.RecoveredState state = JournalRecovery.recover(tempDir.resolve("none.wal"), List.of());
+        
+        assertTrue(state.getBookings().isEmpty());
+        assertTrue(state.getCustomers().isEmpty());
+    }
+    
+    // Writes a few bytes of the next batch and then fails, like a full disk.
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        volatile boolean failNextWrite;
+        
+        FailingChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                ByteBuffer head = srcs[offset].duplicate();
+                head.limit(head.position() + Math.min(5, head.remaining()));
+                delegate.write(head);
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(srcs, offset, length);
+        }
+        
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+        
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+        
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+        
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+        
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+        
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+        
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+        
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+        
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+        
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+        
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+        
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+        
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+        
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+        
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+        
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+    
+    private Hotel hotel(String hotelId) {
+        Hotel hotel = new Hotel(hotelId, "Hotel " + hotelId, "New York");
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 100.0));
+        return hotel;
+    }
+}
@@ -0,0 +1,98 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotTest {
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void read_WrittenSnapshot_ShouldRestoreObjectGraph() throws Exception {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room single = new Room("101", RoomType.SINGLE, 100.0);
+        Room suite = new Room("301", RoomType.SUITE, 320.5);
+        hotel.addRoom(single);
+        hotel.addRoom(suite);
+        Customer customer = new Customer("CUST001", "Zoë Müller", "zoe@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+        Booking kept = new Booking("BOOK001", customer, single, checkIn, checkIn.plusDays(2));
+        Booking cancelled = new Booking("BOOK002", customer, suite, checkIn, checkIn.plusDays(1));
+        cancelled.cancelBooking();
+        Payment payment = new Payment("PAY001", kept, 200.0, LocalDateTime.of(2030, 1, 2, 3, 4, 5, 600));
+        payment.processPayment();
+        single.setInService(false);
+        Path file = tempDir.resolve("hotel.snapshot");
+        
+        SnapshotWriter.write(file, new Snapshot(List.of(hotel), List.of(customer), List.of(kept, cancelled), List.of(payment)));
+        Snapshot restored = SnapshotReader.read(file);
+        
+        Hotel restoredHotel = restored.getHotels().get(0);
+        assertEquals("Grand Plaza", restoredHotel.getName());
+        assertEquals(2, restoredHotel.getRoomCount());
+        Room restoredSuite = restoredHotel.getRooms().get(1);
+        assertEquals(RoomType.SUITE, restoredSuite.getType());
+        assertEquals(320.5, restoredSuite.getPricePerNight());
+        assertTrue(restoredSuite.isAvailable(checkIn, checkIn.plusDays(1)));
+        assertFalse(restoredHotel.getRooms().get(0).isInService());
+        assertEquals("Zoë Müller", restored.getCustomers().get(0).getName());
+        assertEquals(2, restored.getCustomers().get(0).getBookings().size());
+        assertEquals(BookingStatus.CONFIRMED, restored.getBookings().get(0).getStatus());
+        assertEquals(BookingStatus.CANCELLED, restored.getBookings().get(1).getStatus());
+        Payment restoredPayment = restored.getPayments().get(0);
+        assertEquals(PaymentStatus.COMPLETED, restoredPayment.getStatus());
+        assertEquals(payment.getPaymentDate(), restoredPayment.getPaymentDate());
+        assertSame(restored.getBookings().get(0), restoredPayment.getBooking());
+    }
+    
+    @Test
+    void read_LargeProperty_ShouldRestoreEveryRoom() throws Exception {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        RoomType[] types = RoomType.values();
+        for (int i = 0; i < 50_000; i++) {
+            hotel.addRoom(new Room(String.valueOf(i), types[i % types.length], 100.0 + i % 7));
+        }
+        Path file = tempDir.resolve("hotel.snapshot");
+        SnapshotWriter.write(file, new Snapshot(List.of(hotel), null, null, null));
+        
+        Hotel restored = SnapshotReader.read(file).getHotels().get(0);
+        
+        assertEquals(50_000, restored.getRoomCount());
+        assertEquals(12_500, restored.countRooms(RoomType.DELUXE));
+    }
+    
+    @Test
+    void read_NotASnapshot_ShouldThrowException() throws Exception {
+        Path file = tempDir.resolve("garbage.snapshot");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        
+        assertThrows(IOException.class, () -> SnapshotReader.read(file));
+    }
+    
+    @Test
+    void checkpoint_AfterSnapshot_ShouldEmptyJournal() throws Exception {
+        Path file = tempDir.resolve("bookings.wal");
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Room room = new Room("101", RoomType.SINGLE, 100.0);
+        hotel.addRoom(room);
+        Customer customer = new Customer("CUST001", "John Doe", "john@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        try (BookingJournal journal = new BookingJournal(file)) {
+            journal.append(JournalRecord.bookingCreated(new Booking("BOOK001", customer, room, checkIn, checkIn.plusDays(1))));
+            
+            journal.checkpoint();
+            
+            assertEquals(0, Files.size(file));
+            journal.append(JournalRecord.bookingCreated(new Booking("BOOK002", customer, room, checkIn.plusDays(1), checkIn.plusDays(2))));
+        }
+        assertEquals(1, JournalRecovery.read(file).size());
+    }
+}
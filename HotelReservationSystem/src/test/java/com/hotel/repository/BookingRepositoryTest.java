@@ -0,0 +1,82 @@
+package com.hotel.repository;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingRepositoryTest {
+    private BookingRepository repository;
+    private Customer alice;
+    private Customer bob;
+    private Room room101;
+    private Room room204;
+    private LocalDate today;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new BookingRepository();
+        alice = new Customer("CUST001", "Alice Johnson", "alice@email.com");
+        bob = new Customer("CUST002", "Bob Smith", "bob@email.com");
+        room101 = new Room("101", RoomType.SINGLE, 100.0);
+        room204 = new Room("204", RoomType.DOUBLE, 150.0);
+        today = LocalDate.now().plusDays(1);
+        repository.add(new Booking("BOOK001", alice, room101, today, today.plusDays(2)));
+        repository.add(new Booking("BOOK002", bob, room204, today, today.plusDays(1)));
+        repository.add(new Booking("BOOK003", alice, room204, today.plusDays(3), today.plusDays(5)));
+    }
+    
+    @Test
+    void findById_ExistingBooking_ShouldReturnBooking() {
+        assertEquals(bob, repository.findById("BOOK002").getCustomer());
+        assertNull(repository.findById("BOOK999"));
+    }
+    
+    @Test
+    void findByCustomer_ShouldReturnStaysInCheckInOrder() {
+        List<Booking> stays = repository.findByCustomer("CUST001");
+        
+        assertEquals(List.of("BOOK001", "BOOK003"), stays.stream().map(Booking::getBookingId).toList());
+        assertTrue(repository.findByCustomer("CUST999").isEmpty());
+    }
+    
+    @Test
+    void findByRoom_ShouldReturnEveryBookingForRoom() {
+        List<Booking> stays = repository.findByRoom(room204);
+        
+        assertEquals(List.of("BOOK002", "BOOK003"), stays.stream().map(Booking::getBookingId).toList());
+    }
+    
+    @Test
+    void findArrivalsAndDepartures_ShouldUseDateIndexes() {
+        assertEquals(2, repository.findArrivals(today).size());
+        assertEquals("BOOK002", repository.findDepartures(today.plusDays(1)).get(0).getBookingId());
+        assertEquals(1, repository.findArrivalsBetween(today.plusDays(1), today.plusDays(10)).size());
+    }
+    
+    @Test
+    void forEachArrival_ShouldWalkTheRangeInCheckInOrder() {
+        List<String> all = new ArrayList<>();
+        List<String> firstDay = new ArrayList<>();
+        
+        repository.forEachArrival(null, null, booking -> all.add(booking.getBookingId()));
+        repository.forEachArrival(today, today.plusDays(3), booking -> firstDay.add(booking.getBookingId()));
+        
+        assertEquals(List.of("BOOK001", "BOOK002", "BOOK003"), all);
+        assertEquals(List.of("BOOK001", "BOOK002"), firstDay);
+    }
+    
+    @Test
+    void add_DuplicateId_ShouldThrowException() {
+        Room room = new Room("305", RoomType.SUITE, 300.0);
+        Booking duplicate = new Booking("BOOK001", bob, room, today, today.plusDays(1));
+        
+        assertThrows(IllegalArgumentException.class, () -> repository.add(duplicate));
+        assertEquals(3, repository.size());
+        assertTrue(repository.findByRoom(room).isEmpty());
+    }
+}
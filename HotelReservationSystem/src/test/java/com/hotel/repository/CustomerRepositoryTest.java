@@ -0,0 +1,77 @@
+package com.hotel.repository;
+
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerRepositoryTest {
+    private CustomerRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CustomerRepository();
+        repository.add(new Customer("CUST001", "Alice Johnson", "alice@email.com"));
+        repository.add(new Customer("CUST002", "Bob Smith", "bob@email.com"));
+        repository.add(new Customer("CUST003", "Alicia Keys", "keys@music.com"));
+    }
+    
+    @Test
+    void findById_ExistingCustomer_ShouldReturnCustomer() {
+        assertEquals("Bob Smith", repository.findById("CUST002").getName());
+        assertNull(repository.findById("CUST999"));
+    }
+    
+    @Test
+    void findByEmail_DifferentCaseAndWhitespace_ShouldReturnCustomer() {
+        Customer customer = repository.findByEmail("  ALICE@Email.com ");
+        
+        assertEquals("CUST001", customer.getCustomerId());
+    }
+    
+    @Test
+    void add_DuplicateEmail_ShouldThrowAndKeepIndexesUnchanged() {
+        assertThrows(DuplicateCustomerException.class,
+            () -> repository.add(new Customer("CUST004", "Another Alice", "Alice@Email.com")));
+        
+        assertNull(repository.findById("CUST004"));
+        assertEquals(3, repository.size());
+        assertTrue(repository.searchByPrefix("another", 10).isEmpty());
+    }
+    
+    @Test
+    void add_DuplicateId_ShouldThrowException() {
+        assertThrows(DuplicateCustomerException.class,
+            () -> repository.add(new Customer("CUST001", "Carol White", "carol@email.com")));
+    }
+    
+    @Test
+    void searchByPrefix_NameAndEmail_ShouldReturnNameMatchesFirst() {
+        List<Customer> matches = repository.searchByPrefix("ali", 10);
+        List<Customer> byEmail = repository.searchByPrefix("KEYS@", 10);
+        
+        assertEquals(List.of("CUST001", "CUST003"), matches.stream().map(Customer::getCustomerId).toList());
+        assertEquals("CUST003", byEmail.get(0).getCustomerId());
+    }
+    
+    @Test
+    void searchByPrefix_Limit_ShouldCapResults() {
+        for (int i = 0; i < 50; i++) {
+            repository.add(new Customer("MEMBER" + i, "Member " + i, "member" + i + "@email.com"));
+        }
+        
+        assertEquals(5, repository.searchByPrefix("member", 5).size());
+    }
+    
+    @Test
+    void getAll_ShouldKeepInsertionOrder() {
+        List<Customer> all = repository.getAll();
+        
+        assertEquals("CUST001", all.get(0).getCustomerId());
+        assertEquals("CUST003", all.get(2).getCustomerId());
+        assertThrows(UnsupportedOperationException.class, () -> all.add(null));
+    }
+}
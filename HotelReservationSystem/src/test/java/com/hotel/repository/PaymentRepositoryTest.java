@@ -0,0 +1,50 @@
+package com.hotel.repository;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentRepositoryTest {
+    private PaymentRepository repository;
+    private Booking booking;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new PaymentRepository();
+        Customer customer = new Customer("CUST001", "Alice Johnson", "alice@email.com");
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        booking = new Booking("BOOK001", customer, new Room("101", RoomType.SINGLE, 100.0), checkIn, checkIn.plusDays(2));
+    }
+    
+    @Test
+    void findStatus_FailedThenCompleted_ShouldReportCompleted() {
+        Payment declined = new Payment("PAY001", booking, 200.0);
+        declined.markAsFailed();
+        Payment charged = new Payment("PAY002", booking, 200.0);
+        repository.add(declined);
+        repository.add(charged);
+        
+        assertEquals(PaymentStatus.PENDING, repository.findStatus("BOOK001"));
+        
+        charged.processPayment();
+        
+        assertEquals(PaymentStatus.COMPLETED, repository.findStatus("BOOK001"));
+        assertEquals(List.of(declined, charged), repository.findByBooking("BOOK001"));
+    }
+    
+    @Test
+    void findStatus_UnpaidBooking_ShouldReturnNull() {
+        assertNull(repository.findStatus("BOOK001"));
+        assertNull(repository.findStatus(null));
+        assertTrue(repository.findByBooking("BOOK001").isEmpty());
+    }
+    
+    @Test
+    void add_NullPayment_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+}
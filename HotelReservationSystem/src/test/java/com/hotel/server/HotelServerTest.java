@@ -0,0 +1,233 @@
+package com.hotel.server;
+
+import com.hotel.model.*;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.CustomerRepository;
+import com.hotel.service.BookingService;
+import com.hotel.service.HotelRegistry;
+import com.hotel.service.PaymentService;
+import com.hotel.service.StubPaymentGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelServerTest {
+    private Hotel hotel;
+    private HotelRegistry hotels;
+    private BookingRepository bookings;
+    private PaymentService paymentService;
+    private HotelServer server;
+    private LocalDate checkIn;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 100.0));
+        hotels = new HotelRegistry();
+        hotels.register(hotel);
+        bookings = new BookingRepository();
+        paymentService = new PaymentService(null, new StubPaymentGateway(Duration.ZERO, p -> p.getAmountCents() < 100_000));
+        server = new HotelServer(hotels, new CustomerRepository(), bookings, new BookingService(), paymentService);
+        server.start(0);
+        checkIn = LocalDate.now().plusDays(1);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.close();
+        hotels.close();
+        paymentService.close();
+    }
+    
+    @Test
+    void availability_IfNoneMatch_ShouldReturn304UntilAvailabilityChanges() throws IOException {
+        String path = "/hotels/HOTEL001/availability?type=SINGLE&checkIn=" + checkIn + "&checkOut=" + checkIn.plusDays(2);
+        
+        Response first = request("GET", path, null, null);
+        Response unchanged = request("GET", path, null, first.etag);
+        hotel.getRooms().get(0).reserve(checkIn, checkIn.plusDays(1));
+        Response changed = request("GET", path, null, first.etag);
+        
+        assertEquals(200, first.status);
+        assertTrue(first.body.contains("\"roomNumber\":\"101\""));
+        assertTrue(first.body.contains("\"stayPriceCents\":20000"));
+        assertEquals(304, unchanged.status);
+        assertEquals(200, changed.status);
+        assertNotEquals(first.etag, changed.etag);
+        assertTrue(changed.body.contains("\"rooms\":[]"));
+    }
+    
+    @Test
+    void chainAvailability_ShouldSearchEveryHotelInTheLocation() throws IOException {
+        Hotel park = new Hotel("HOTEL002", "Park Inn", "New York");
+        park.addRoom(new Room("201", RoomType.SINGLE, 120.0));
+        hotels.register(park);
+        hotels.register(new Hotel("HOTEL003", "Harbour View", "Boston"));
+        String path = "/hotels/availability?type=SINGLE&location=new+york&checkIn=" + checkIn
+                + "&checkOut=" + checkIn.plusDays(1);
+        
+        Response response = request("GET", path, null, null);
+        
+        assertEquals(200, response.status);
+        assertTrue(response.body.contains("{\"hotelId\":\"HOTEL001\",\"rooms\":[{\"roomNumber\":\"101\""));
+        assertTrue(response.body.contains("{\"hotelId\":\"HOTEL002\",\"rooms\":[{\"roomNumber\":\"201\""));
+        assertFalse(response.body.contains("HOTEL003"));
+        assertTrue(response.body.endsWith("\"timedOut\":[],\"failed\":[]}"));
+    }
+    
+    @Test
+    void bookingLifecycle_ShouldCreateFetchPayAndCancel() throws IOException {
+        Response customer = request("POST", "/customers", "{\"name\":\"John Doe\",\"email\":\"john@email.com\"}", null);
+        String customerId = field(customer.body, "customerId");
+        
+        Response created = request("POST", "/bookings", "{\"customerId\":\"" + customerId
+                + "\",\"hotelId\":\"HOTEL001\",\"roomType\":\"single\",\"checkIn\":\"" + checkIn
+                + "\",\"checkOut\":\"" + checkIn.plusDays(2) + "\"}", null);
+        String bookingId = field(created.body, "bookingId");
+        Response fetched = request("GET", "/bookings/" + bookingId, null, null);
+        Response paid = request("POST", "/payments", "{\"bookingId\":\"" + bookingId + "\",\"amountCents\":20000}", null);
+        Response paidAgain = request("POST", "/payments", "{\"bookingId\":\"" + bookingId + "\"}", null);
+        Response cancelled = request("DELETE", "/bookings/" + bookingId, null, null);
+        
+        assertEquals(201, customer.status);
+        assertEquals(201, created.status);
+        assertEquals("101", field(created.body, "roomNumber"));
+        assertEquals(200, fetched.status);
+        assertEquals(201, paid.status);
+        assertEquals("COMPLETED", field(paid.body, "status"));
+        assertEquals(409, paidAgain.status);
+        assertEquals(200, cancelled.status);
+        assertEquals("CANCELLED", field(cancelled.body, "status"));
+        assertEquals(1, bookings.size());
+    }
+    
+    @Test
+    void payments_WrongAmountDeclinedOrCancelled_ShouldNotCharge() throws IOException {
+        Response customer = request("POST", "/customers", "{\"name\":\"John Doe\",\"email\":\"john@email.com\"}", null);
+        Response created = request("POST", "/bookings", "{\"customerId\":\"" + field(customer.body, "customerId")
+                + "\",\"hotelId\":\"HOTEL001\",\"roomNumber\":\"101\",\"checkIn\":\"" + checkIn
+                + "\",\"checkOut\":\"" + checkIn.plusDays(10) + "\"}", null);
+        String payment = "{\"bookingId\":\"" + field(created.body, "bookingId") + "\"}";
+        
+        Response underpaid = request("POST", "/payments", payment.replace("}", ",\"amountCents\":1}"), null);
+        Response declined = request("POST", "/payments", payment, null);
+        Response retried = request("POST", "/payments", payment, null);
+        request("DELETE", "/bookings/" + field(created.body, "bookingId"), null, null);
+        Response afterCancel = request("POST", "/payments", payment, null);
+        
+        assertEquals(400, underpaid.status);
+        assertEquals(402, declined.status);
+        assertEquals("FAILED", field(declined.body, "status"));
+        assertEquals("100000", field(declined.body, "amountCents"));
+        assertEquals(402, retried.status);
+        assertEquals(409, afterCancel.status);
+    }
+    
+    @Test
+    void createBooking_OutsideBookableDates_ShouldReturn400() throws IOException {
+        Response customer = request("POST", "/customers", "{\"name\":\"John Doe\",\"email\":\"john@email.com\"}", null);
+        String prefix = "{\"customerId\":\"" + field(customer.body, "customerId")
+                + "\",\"hotelId\":\"HOTEL001\",\"roomType\":\"SINGLE\",";
+        LocalDate farAhead = LocalDate.now().plusDays(BookingService.MAX_ADVANCE_DAYS + 1);
+        
+        Response past = request("POST", "/bookings", prefix + "\"checkIn\":\"" + checkIn.minusDays(2)
+                + "\",\"checkOut\":\"" + checkIn + "\"}", null);
+        Response beyondHorizon = request("POST", "/bookings", prefix + "\"checkIn\":\"" + farAhead
+                + "\",\"checkOut\":\"" + farAhead.plusDays(1) + "\"}", null);
+        Response tooLong = request("POST", "/bookings", prefix + "\"checkIn\":\"" + checkIn
+                + "\",\"checkOut\":\"" + checkIn.plusDays(Booking.MAX_STAY_NIGHTS + 1) + "\"}", null);
+        
+        assertEquals(400, past.status);
+        assertEquals(400, beyondHorizon.status);
+        assertEquals(400, tooLong.status);
+        assertEquals(0, bookings.size());
+    }
+    
+    @Test
+    void createBooking_NoRoomLeft_ShouldReturn409() throws IOException {
+        Response customer = request("POST", "/customers", "{\"name\":\"John Doe\",\"email\":\"john@email.com\"}", null);
+        String body = "{\"customerId\":\"" + field(customer.body, "customerId")
+                + "\",\"hotelId\":\"HOTEL001\",\"roomType\":\"SINGLE\",\"checkIn\":\"" + checkIn
+                + "\",\"checkOut\":\"" + checkIn.plusDays(2) + "\"}";
+        
+        request("POST", "/bookings", body, null);
+        Response second = request("POST", "/bookings", body, null);
+        
+        assertEquals(409, second.status);
+    }
+    
+    @Test
+    void errors_ShouldMapToStatusCodes() throws IOException {
+        assertEquals(404, request("GET", "/hotels/NOPE/availability?type=SINGLE&checkIn=" + checkIn
+                + "&checkOut=" + checkIn.plusDays(1), null, null).status);
+        assertEquals(400, request("GET", "/hotels/HOTEL001/availability?type=SINGLE&checkIn=tomorrow&checkOut="
+                + checkIn, null, null).status);
+        assertEquals(400, request("POST", "/customers", "{\"name\":", null).status);
+        assertEquals(405, request("GET", "/customers", null, null).status);
+        assertEquals(404, request("GET", "/bookings/BOOK404", null, null).status);
+    }
+    
+    @Test
+    void parseObject_EscapesAndNesting_ShouldRoundTrip() {
+        StringBuilder quoted = Json.quote(new StringBuilder(), "line\n\"quote\" \\ tab\t");
+        
+        Map<String, Object> parsed = Json.parseObject("{\"text\":" + quoted + ",\"n\":-12,\"x\":1.5,\"list\":[true,null]}");
+        
+        assertEquals("line\n\"quote\" \\ tab\t", parsed.get("text"));
+        assertEquals(-12L, parsed.get("n"));
+        assertEquals(1.5, parsed.get("x"));
+        assertEquals(java.util.Arrays.asList(true, null), parsed.get("list"));
+    }
+    
+    private Response request(String method, String path, String body, String ifNoneMatch) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (ifNoneMatch != null) {
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", HotelServer.JSON);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        String text = "";
+        if (in != null) {
+            try (in) {
+                text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+        return new Response(status, text, connection.getHeaderField("ETag"));
+    }
+    
+    private static String field(String json, String name) {
+        return String.valueOf(Json.parseObject(json).get(name));
+    }
+    
+    private static final class Response {
+        final int status;
+        final String body;
+        final String etag;
+        
+        Response(int status, String body, String etag) {
+            this.status = status;
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.hotel.service;
 
 import com.hotel.model.*;
+import com.hotel.exception.BookingBatchException;
 import com.hotel.exception.InvalidBookingException;
+import com.hotel.persistence.BookingJournal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 
 class BookingServiceTest {
@@ -56,6 +68,76 @@ class BookingServiceTest {
         assertTrue(room.isAvailable());
     }
     
+    @Test
+    void cancelBooking_JournalWriteFails_ShouldLeaveBookingConfirmedAndTellNoListener(@TempDir Path dir)
+            throws IOException {
+        BookingJournal journal = new BookingJournal(dir.resolve("bookings.wal"));
+        BookingService journaled = new BookingService(journal);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Booking booking = journaled.createBooking("BOOK001", customer, room, checkIn, checkIn.plusDays(2));
+        List<Booking> heard = new ArrayList<>();
+        journaled.addListener(new BookingEventListener() {
+            @Override
+            public void bookingCancelled(Booking cancelled) {
+                heard.add(cancelled);
+            }
+        });
+        journal.close();
+        
+        assertThrows(InvalidBookingException.class, () -> journaled.cancelBooking(booking));
+        
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        assertFalse(room.isAvailable(checkIn, checkIn.plusDays(2)));
+        assertTrue(heard.isEmpty());
+    }
+    
+    @Test
+    void createBooking_JournalWriteFails_ShouldReleaseRoomAndTellNoListener(@TempDir Path dir)
+            throws IOException {
+        BookingJournal journal = new BookingJournal(dir.resolve("bookings.wal"));
+        journal.close();
+        BookingService journaled = new BookingService(journal);
+        List<Booking> heard = new ArrayList<>();
+        journaled.addListener(new BookingEventListener() {
+            @Override
+            public void bookingCreated(Booking booking) {
+                heard.add(booking);
+            }
+        });
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        assertThrows(InvalidBookingException.class,
+            () -> journaled.createBooking("BOOK001", customer, room, checkIn, checkIn.plusDays(2)));
+        
+        assertTrue(room.isAvailable(checkIn, checkIn.plusDays(2)));
+        assertTrue(customer.getBookings().isEmpty());
+        assertTrue(heard.isEmpty());
+    }
+    
+    @Test
+    void createBooking_BeyondHorizon_ShouldThrowException() {
+        LocalDate checkIn = LocalDate.now().plusDays(BookingService.MAX_ADVANCE_DAYS + 1);
+        
+        assertThrows(InvalidBookingException.class,
+            () -> bookingService.createBooking("BOOK001", customer, room, checkIn, checkIn.plusDays(1)));
+        
+        assertEquals(0, room.getReservationCount());
+    }
+    
+    @Test
+    void createBookings_StayTooLongOrTooFarAhead_ShouldRejectBatch() {
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate farOff = LocalDate.now().plusDays(BookingService.MAX_ADVANCE_DAYS + 1);
+        
+        BookingBatchException exception = assertThrows(BookingBatchException.class,
+            () -> bookingService.createBookings(List.of(
+                new BookingRequest("BOOK001", customer, room, checkIn, LocalDate.of(999999, 1, 1)),
+                new BookingRequest("BOOK002", customer, room, farOff, farOff.plusDays(1)))));
+        
+        assertEquals(2, exception.getErrors().size());
+        assertEquals(0, room.getReservationCount());
+    }
+    
     @Test
     void cancelBooking_NullBooking_ShouldThrowException() {
         assertThrows(InvalidBookingException.class,
@@ -80,4 +162,126 @@ class BookingServiceTest {
         assertThrows(InvalidBookingException.class,
             () -> bookingService.calculateBookingPrice(null));
     }
+    
+    @Test
+    void createBooking_ConcurrentRequestsForSameStay_ShouldBookRoomOnce() throws Exception {
+        Hotel hotel = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        hotel.addRoom(room);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = LocalDate.now().plusDays(3);
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        
+        for (int i = 0; i < threads; i++) {
+            String bookingId = "BOOK" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(bookingId, customer, room, checkIn, checkOut);
+                    return true;
+                } catch (InvalidBookingException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int successes = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                successes++;
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        
+        assertEquals(1, successes);
+        assertEquals(1, room.getReservationCount());
+        assertEquals(1, customer.getBookings().size());
+        assertEquals(0, hotel.countAvailableRooms(RoomType.SINGLE, checkIn, checkOut));
+    }
+    
+    @Test
+    void importBookings_PastStay_ShouldBeBookedUnlikeCreateBookings() {
+        LocalDate checkIn = LocalDate.now().minusDays(30);
+        List<BookingRequest> requests = List.of(new BookingRequest("BOOK100", customer, room, checkIn, checkIn.plusDays(2)));
+        
+        assertThrows(BookingBatchException.class, () -> bookingService.createBookings(requests));
+        List<Booking> imported = bookingService.importBookings(requests);
+        
+        assertEquals(1, imported.size());
+        assertEquals(BookingStatus.CONFIRMED, imported.get(0).getStatus());
+        assertFalse(room.isAvailable(checkIn, checkIn.plusDays(1)));
+    }
+    
+    @Test
+    void createBookings_ValidBatch_ShouldBookEveryRoomInRequestOrder() {
+        Room room2 = new Room("102", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = LocalDate.now().plusDays(3);
+        List<BookingRequest> requests = List.of(
+            new BookingRequest("BOOK002", customer, room2, checkIn, checkOut),
+            new BookingRequest("BOOK001", customer, room, checkIn, checkOut));
+        
+        List<Booking> bookings = bookingService.createBookings(requests);
+        
+        assertEquals("BOOK002", bookings.get(0).getBookingId());
+        assertEquals("BOOK001", bookings.get(1).getBookingId());
+        assertFalse(room.isAvailable(checkIn, checkOut));
+        assertFalse(room2.isAvailable(checkIn, checkOut));
+        assertEquals(2, customer.getBookings().size());
+    }
+    
+    @Test
+    void createBookings_InvalidItems_ShouldReportAllErrorsAndBookNothing() {
+        Room room2 = new Room("102", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = LocalDate.now().plusDays(3);
+        List<BookingRequest> requests = List.of(
+            new BookingRequest("BOOK001", customer, room, checkIn, checkOut),
+            new BookingRequest("BOOK002", customer, room, checkIn.plusDays(1), checkOut.plusDays(1)),
+            new BookingRequest("BOOK003", customer, room2, checkOut, checkIn),
+            new BookingRequest("BOOK001", customer, room2, checkIn, checkOut));
+        
+        BookingBatchException exception = assertThrows(BookingBatchException.class,
+            () -> bookingService.createBookings(requests));
+        
+        assertEquals(3, exception.getErrors().size());
+        assertTrue(room.isAvailable(checkIn, checkOut));
+        assertTrue(room2.isAvailable(checkIn, checkOut));
+        assertTrue(customer.getBookings().isEmpty());
+    }
+    
+    @Test
+    void createBookings_RoomAlreadyBooked_ShouldRollBackWholeBatch() {
+        Room room2 = new Room("102", RoomType.SINGLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = LocalDate.now().plusDays(3);
+        Customer other = new Customer("CUST002", "Jane Roe", "jane@email.com");
+        bookingService.createBooking("BOOK900", other, room2, checkIn, checkOut);
+        List<BookingRequest> requests = List.of(
+            new BookingRequest("BOOK001", customer, room, checkIn, checkOut),
+            new BookingRequest("BOOK002", customer, room2, checkIn, checkOut));
+        
+        BookingBatchException exception = assertThrows(BookingBatchException.class,
+            () -> bookingService.createBookings(requests));
+        
+        assertEquals(1, exception.getErrors().size());
+        assertTrue(exception.getErrors().get(0).contains("BOOK002"));
+        assertTrue(room.isAvailable(checkIn, checkOut));
+        assertEquals(1, room2.getReservationCount());
+        assertTrue(customer.getBookings().isEmpty());
+    }
+    
+    @Test
+    void createBooking_WithoutId_ShouldGenerateUniqueIds() {
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        
+        Booking first = bookingService.createBooking(customer, room, checkIn, checkIn.plusDays(1));
+        Booking second = bookingService.createBooking(customer, room, checkIn.plusDays(1), checkIn.plusDays(2));
+        
+        assertTrue(first.getBookingId().startsWith(BookingService.ID_PREFIX));
+        assertTrue(first.getBookingId().compareTo(second.getBookingId()) < 0);
+    }
 }
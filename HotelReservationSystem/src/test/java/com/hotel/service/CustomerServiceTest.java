@@ -0,0 +1,48 @@
+package com.hotel.service;
+
+import com.hotel.exception.DuplicateCustomerException;
+import com.hotel.model.Customer;
+import com.hotel.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerServiceTest {
+    private CustomerRepository repository;
+    private CustomerService customerService;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CustomerRepository();
+        customerService = new CustomerService(repository, new IdGenerator(2));
+    }
+    
+    @Test
+    void registerCustomer_ValidDetails_ShouldGenerateIdAndStoreCustomer() {
+        Customer customer = customerService.registerCustomer("John Doe", "john@email.com");
+        
+        assertTrue(customer.getCustomerId().startsWith(CustomerService.ID_PREFIX));
+        assertEquals(2, IdGenerator.nodeIdOf(IdGenerator.decode(CustomerService.ID_PREFIX, customer.getCustomerId())));
+        assertSame(customer, repository.findById(customer.getCustomerId()));
+    }
+    
+    @Test
+    void registerCustomer_DuplicateEmail_ShouldThrowException() {
+        customerService.registerCustomer("John Doe", "john@email.com");
+        
+        assertThrows(DuplicateCustomerException.class,
+            () -> customerService.registerCustomer("Johnny Doe", "JOHN@email.com"));
+        assertEquals(1, repository.size());
+    }
+    
+    @Test
+    void registerCustomer_ExistingCustomer_ShouldKeepItsId() {
+        Customer imported = new Customer("LEGACY-42", "Jane Roe", "jane@email.com");
+        
+        assertSame(imported, customerService.registerCustomer(imported));
+        assertSame(imported, repository.findById("LEGACY-42"));
+        assertThrows(DuplicateCustomerException.class,
+            () -> customerService.registerCustomer(new Customer("LEGACY-42", "Jane Doe", "jane.doe@email.com")));
+    }
+}
@@ -0,0 +1,150 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelRegistryTest {
+    private HotelRegistry registry;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new HotelRegistry();
+        checkIn = LocalDate.now().plusDays(10);
+        checkOut = checkIn.plusDays(3);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+    
+    @Test
+    void register_DuplicateHotelId_ShouldThrowException() {
+        registry.register(new Hotel("HOTEL001", "Grand Plaza", "New York"));
+        
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.register(new Hotel("HOTEL001", "Other", "Boston")));
+    }
+    
+    @Test
+    void findByLocation_DifferentCase_ShouldReturnHotels() {
+        Hotel plaza = new Hotel("HOTEL001", "Grand Plaza", "New York");
+        Hotel harbour = new Hotel("HOTEL002", "Harbour View", "Boston");
+        registry.register(plaza);
+        registry.register(harbour);
+        
+        assertEquals(List.of(plaza), registry.findByLocation(" new york "));
+        assertEquals(harbour, registry.findById("HOTEL002"));
+        assertTrue(registry.findByLocation("Paris").isEmpty());
+    }
+    
+    @Test
+    void searchAvailability_MatchingLocation_ShouldMergeRoomsFromEveryHotel() {
+        Hotel plaza = hotelWithRooms("HOTEL001", "New York", 2);
+        Hotel park = hotelWithRooms("HOTEL002", "New York", 3);
+        registry.register(plaza);
+        registry.register(park);
+        registry.register(hotelWithRooms("HOTEL003", "Boston", 4));
+        plaza.getRooms().get(0).reserve(checkIn, checkOut);
+        
+        AvailabilitySearchResult result = registry.searchAvailability(
+            "New York", RoomType.SINGLE, checkIn, checkOut, Duration.ofSeconds(5));
+        
+        assertTrue(result.isComplete());
+        assertEquals(4, result.getTotalRooms());
+        assertEquals(1, result.getRooms("HOTEL001").size());
+        assertEquals(3, result.getRooms("HOTEL002").size());
+        assertTrue(result.getRooms("HOTEL003").isEmpty());
+    }
+    
+    @Test
+    void searchAvailability_SlowHotel_ShouldReturnPartialResultsByDeadline() {
+        registry.register(hotelWithRooms("HOTEL001", "New York", 2));
+        registry.register(new Hotel("SLOW", "Slow Towers", "New York") {
+            @Override
+            public List<Room> findAvailableRooms(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of();
+            }
+        });
+        
+        long start = System.nanoTime();
+        AvailabilitySearchResult result = registry.searchAvailability(
+            RoomType.SINGLE, checkIn, checkOut, Duration.ofMillis(200));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        assertFalse(result.isComplete());
+        assertEquals(List.of("SLOW"), result.getTimedOutHotelIds());
+        assertEquals(2, result.getRooms("HOTEL001").size());
+        assertTrue(elapsedMillis < 2_000);
+    }
+    
+    @Test
+    void searchAvailability_DeadlinePassedInQueue_ShouldNotStartSearch() throws InterruptedException {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        AtomicInteger searched = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (HotelRegistry oneThread = new HotelRegistry(single)) {
+            oneThread.register(new Hotel("SLOW", "Slow Towers", "New York") {
+                @Override
+                public List<Room> findAvailableRooms(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+                    try {
+                        Thread.sleep(5_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return List.of();
+                }
+            });
+            oneThread.register(new Hotel("QUEUED", "Queued Inn", "New York") {
+                @Override
+                public List<Room> findAvailableRooms(RoomType type, LocalDate checkIn, LocalDate checkOut) {
+                    searched.incrementAndGet();
+                    return List.of();
+                }
+            });
+            
+            AvailabilitySearchResult result = oneThread.searchAvailability(
+                "New York", RoomType.SINGLE, checkIn, checkOut, Duration.ofMillis(100));
+            
+            assertEquals(List.of("SLOW", "QUEUED"), result.getTimedOutHotelIds());
+            assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+            single.shutdown();
+            assertTrue(single.awaitTermination(2, TimeUnit.SECONDS));
+            assertEquals(0, searched.get());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+    
+    @Test
+    void searchAvailability_InvalidTimeout_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.searchAvailability(RoomType.SINGLE, checkIn, checkOut, Duration.ZERO));
+    }
+    
+    private Hotel hotelWithRooms(String hotelId, String location, int singles) {
+        Hotel hotel = new Hotel(hotelId, "Hotel " + hotelId, location);
+        for (int i = 0; i < singles; i++) {
+            hotel.addRoom(new Room(String.valueOf(101 + i), RoomType.SINGLE, 100.0));
+        }
+        return hotel;
+    }
+}
@@ -0,0 +1,103 @@
+package com.hotel.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+    
+    @Test
+    void nextId_SingleThread_ShouldBeStrictlyIncreasing() {
+        IdGenerator ids = new IdGenerator(1);
+        long previous = ids.nextId();
+        
+        for (int i = 0; i < 100_000; i++) {
+            long next = ids.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+    
+    @Test
+    void nextId_ManyThreads_ShouldNeverRepeat() throws Exception {
+        IdGenerator ids = new IdGenerator(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<long[]>> batches = new ArrayList<>();
+        
+        for (int t = 0; t < 8; t++) {
+            batches.add(executor.submit(() -> {
+                long[] batch = new long[20_000];
+                for (int i = 0; i < batch.length; i++) {
+                    batch[i] = ids.nextId();
+                }
+                return batch;
+            }));
+        }
+        Set<Long> seen = new HashSet<>();
+        for (Future<long[]> batch : batches) {
+            for (long id : batch.get()) {
+                assertTrue(seen.add(id));
+            }
+        }
+        executor.shutdown();
+        
+        assertEquals(160_000, seen.size());
+    }
+    
+    @Test
+    void nextId_DifferentNodes_ShouldEmbedNodeIdAndTime() {
+        long first = new IdGenerator(3).nextId();
+        long second = new IdGenerator(700).nextId();
+        
+        assertEquals(3, IdGenerator.nodeIdOf(first));
+        assertEquals(700, IdGenerator.nodeIdOf(second));
+        assertTrue(Duration.between(IdGenerator.timestampOf(first), Instant.now()).abs().getSeconds() < 5);
+    }
+    
+    @Test
+    void encode_ShouldRoundTripAndSortLikeIds() {
+        IdGenerator ids = new IdGenerator(5);
+        long first = ids.nextId();
+        long second = ids.nextId();
+        
+        String firstText = IdGenerator.encode("BOOK", first);
+        String secondText = IdGenerator.encode("BOOK", second);
+        
+        assertEquals(4 + IdGenerator.ENCODED_LENGTH, firstText.length());
+        assertEquals(first, IdGenerator.decode("BOOK", firstText));
+        assertTrue(firstText.compareTo(secondText) < 0);
+    }
+    
+    @Test
+    void advancePast_IdAheadOfClock_ShouldIssueLargerIds() {
+        IdGenerator restarted = new IdGenerator(5);
+        long ahead = new IdGenerator(5).nextId() + (60_000L << 22);
+        long otherNode = new IdGenerator(6).nextId() + (120_000L << 22);
+        
+        restarted.advancePast("BOOK", IdGenerator.encode("PAY", ahead));
+        restarted.advancePast("BOOK", "BOOK001");
+        restarted.advancePast(otherNode);
+        restarted.advancePast("BOOK", IdGenerator.encode("BOOK", ahead));
+        long next = restarted.nextId();
+        
+        assertTrue(next > ahead);
+        assertTrue(next < otherNode);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1024})
+    void createGenerator_InvalidNodeId_ShouldThrowException(int nodeId) {
+        assertThrows(IllegalArgumentException.class, () -> new IdGenerator(nodeId));
+    }
+}
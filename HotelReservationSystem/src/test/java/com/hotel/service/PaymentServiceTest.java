@@ -2,9 +2,21 @@ package com.hotel.service;
 
 import com.hotel.model.*;
 import com.hotel.exception.InvalidPaymentException;
+import com.hotel.exception.PaymentPersistenceException;
+import com.hotel.persistence.BookingJournal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 class PaymentServiceTest {
@@ -54,6 +66,28 @@ class PaymentServiceTest {
         assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
     }
     
+    @Test
+    void processPayment_JournalWriteFails_ShouldLeavePaymentPendingAndTellNoListener(@TempDir Path dir)
+            throws IOException {
+        BookingJournal journal = new BookingJournal(dir.resolve("bookings.wal"));
+        journal.close();
+        List<Payment> heard = new ArrayList<>();
+        try (PaymentService journaled = new PaymentService(journal)) {
+            journaled.addListener(new BookingEventListener() {
+                @Override
+                public void paymentProcessed(Payment payment) {
+                    heard.add(payment);
+                }
+            });
+            Payment payment = journaled.createPayment("PAY001", booking, 200.0);
+            
+            assertThrows(PaymentPersistenceException.class, () -> journaled.processPayment(payment));
+            
+            assertEquals(PaymentStatus.PENDING, payment.getStatus());
+            assertTrue(heard.isEmpty());
+        }
+    }
+    
     @Test
     void processPayment_NullPayment_ShouldThrowException() {
         assertThrows(InvalidPaymentException.class,
@@ -79,4 +113,58 @@ class PaymentServiceTest {
     void validatePayment_NullPayment_ShouldReturnFalse() {
         assertFalse(paymentService.validatePayment(null));
     }
+    
+    @Test
+    void processPaymentAsync_ApprovedCharge_ShouldCompleteWithProcessedPayment() throws Exception {
+        try (PaymentService service = new PaymentService(null, new StubPaymentGateway(Duration.ofMillis(20)))) {
+            Payment payment = service.createPayment("PAY001", booking, 200.0);
+            
+            Payment processed = service.processPaymentAsync(payment).get(5, TimeUnit.SECONDS);
+            
+            assertSame(payment, processed);
+            assertEquals(PaymentStatus.COMPLETED, payment.getStatus());
+        }
+    }
+    
+    @Test
+    void processPaymentAsync_DeclinedCharge_ShouldFailAndMarkPaymentFailed() {
+        try (PaymentService service = new PaymentService(null, new StubPaymentGateway(Duration.ZERO, p -> false))) {
+            Payment payment = service.createPayment("PAY001", booking, 200.0);
+            
+            CompletableFuture<Payment> result = service.processPaymentAsync(payment);
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+            
+            assertTrue(exception.getCause() instanceof InvalidPaymentException);
+            assertEquals(PaymentStatus.FAILED, payment.getStatus());
+        }
+    }
+    
+    @Test
+    void processPaymentAsync_ManyPayments_ShouldNotExceedConcurrencyLimit() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        StubPaymentGateway slowGateway = new StubPaymentGateway(Duration.ofMillis(10));
+        PaymentGateway gateway = payment -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return slowGateway.charge(payment);
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+        try (PaymentService service = new PaymentService(null, gateway, 3)) {
+            List<CompletableFuture<Payment>> results = new ArrayList<>();
+            
+            for (int i = 0; i < 20; i++) {
+                results.add(service.processPaymentAsync(service.createPayment("PAY" + i, booking, 200.0)));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+            
+            assertTrue(peak.get() <= 3);
+            for (CompletableFuture<Payment> result : results) {
+                assertEquals(PaymentStatus.COMPLETED, result.get().getStatus());
+            }
+        }
+    }
 }